@@ -0,0 +1,28 @@
+package me.kmj.gather.benchmark;
+
+import me.kmj.gather.controller.AdminController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 관리자 전체 통계 조회
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AdminBenchmark {
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> getStatistics(BenchmarkDataset dataset) {
+        return dataset.bean(AdminController.class).getStatistics();
+    }
+}
@@ -0,0 +1,146 @@
+package me.kmj.gather.benchmark;
+
+import me.kmj.gather.Application;
+import me.kmj.gather.service.GroupNameIndex;
+import me.kmj.gather.service.MembershipGraph;
+import me.kmj.gather.support.Cursor;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 벤치마크용 애플리케이션 컨텍스트와 미리 적재한 H2 데이터셋
+// - rows: 가입 신청 행 수 (회원은 1/10, 그룹은 1/100)
+// - 적재는 H2 SYSTEM_RANGE를 이용한 집합 INSERT (행 단위 저장 없이 수천만 행도 수 분 안에 적재)
+@State(Scope.Benchmark)
+public class BenchmarkDataset {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkDataset.class);
+
+    // DataInitializer 샘플 데이터, 시퀀스에서 미리 할당된 ID와 겹치지 않도록 시작 ID를 띄움
+    private static final long ID_BASE = 1_000;
+    // 가입 신청 벤치마크 전용 회원 수 (신청마다 새로운 회원/그룹 조합 사용)
+    private static final long REQUEST_MEMBERS = 100_000;
+    private static final LocalDateTime SEED_EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Param({"10000", "1000000", "10000000"})
+    public long rows;
+
+    private long members;
+    private long groups;
+    private ConfigurableApplicationContext context;
+    private final AtomicLong requestSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        members = Math.max(rows / 10, 1_000);
+        groups = Math.max(rows / 100, 100);
+
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + rows,
+                "spring.jpa.show-sql=false",
+                "logging.level.me.kmj=warn",
+                "logging.level.org.hibernate.SQL=off",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=off",
+                "gather.counters.reconcile-interval=PT24H")
+            .run();
+
+        seed();
+        context.getBean(GroupNameIndex.class).rebuild();
+        context.getBean(MembershipGraph.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public long groupCount() {
+        return groups;
+    }
+
+    public Long randomGroupId() {
+        return ID_BASE + 1 + ThreadLocalRandom.current().nextLong(groups);
+    }
+
+    // 적재한 회원 중 임의의 회원 ID
+    public String randomMemberId() {
+        return "m" + (ThreadLocalRandom.current().nextLong(members) + 1);
+    }
+
+    // 그룹 생성자 ID (적재 규칙과 동일)
+    public String ownerOf(Long groupId) {
+        return "m" + (((groupId - ID_BASE) * 7) % members + 1);
+    }
+
+    // 아직 신청하지 않은 (그룹 ID, 회원 ID) 조합
+    public Object[] nextNewRequest() {
+        long sequence = requestSequence.getAndIncrement();
+        Long groupId = ID_BASE + sequence % groups + 1;
+        String memberId = "b" + ((sequence / groups) % REQUEST_MEMBERS + 1);
+        return new Object[]{groupId, memberId};
+    }
+
+    // 목록 중간 지점의 커서 (그룹 생성 시각은 적재 순번만큼 1초씩 증가)
+    public String middleCursor() {
+        long middle = groups / 2;
+        return new Cursor(SEED_EPOCH.plusSeconds(middle), ID_BASE + middle).encode();
+    }
+
+    private void seed() {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        long started = System.currentTimeMillis();
+
+        jdbc.update("INSERT INTO member (id, name, gender, phone_number, address) " +
+                    "SELECT 'm' || X, '회원' || X, CASE WHEN MOD(X, 2) = 0 THEN '남성' ELSE '여성' END, " +
+                    "'010-0000-0000', '서울시' FROM SYSTEM_RANGE(1, ?)", members);
+        jdbc.update("INSERT INTO member (id, name, gender, phone_number, address) " +
+                    "SELECT 'b' || X, '신청자' || X, '여성', '010-0000-0000', '서울시' FROM SYSTEM_RANGE(1, ?)",
+                    REQUEST_MEMBERS);
+
+        jdbc.update("INSERT INTO group_info (id, name, description, created_by, created_at, " +
+                    "approved_members_count, pending_members_count) " +
+                    "SELECT ? + X, " +
+                    "CASE MOD(X, 8) WHEN 0 THEN '개발자' WHEN 1 THEN '독서' WHEN 2 THEN '운동' WHEN 3 THEN '여행' " +
+                    "WHEN 4 THEN '요리' WHEN 5 THEN '사진' WHEN 6 THEN '음악' ELSE '영화' END || ' 모임 ' || X, " +
+                    "'벤치마크 그룹', 'm' || (MOD(X * 7, ?) + 1), DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), 0, 0 " +
+                    "FROM SYSTEM_RANGE(1, ?)", ID_BASE, members, groups);
+
+        // (그룹, 회원) 조합이 겹치지 않도록 순번을 그룹 수로 나눈 몫/나머지로 배치
+        jdbc.update("INSERT INTO group_member (id, member_id, group_id, status, requested_at, processed_at) " +
+                    "SELECT ? + X, 'm' || (MOD(X / ?, ?) + 1), ? + MOD(X, ?) + 1, " +
+                    "CASE MOD(X, 3) WHEN 0 THEN 'PENDING' WHEN 1 THEN 'APPROVED' ELSE 'REJECTED' END, " +
+                    "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), " +
+                    "CASE WHEN MOD(X, 3) = 0 THEN NULL ELSE DATEADD('SECOND', X + 60, TIMESTAMP '2024-01-01 00:00:00') END " +
+                    "FROM SYSTEM_RANGE(1, ?)", ID_BASE, groups, members, ID_BASE, groups, rows);
+
+        jdbc.update("UPDATE group_info g SET " +
+                    "approved_members_count = (SELECT COUNT(*) FROM group_member gm WHERE gm.group_id = g.id AND gm.status = 'APPROVED'), " +
+                    "pending_members_count = (SELECT COUNT(*) FROM group_member gm WHERE gm.group_id = g.id AND gm.status = 'PENDING')");
+
+        // 이후 애플리케이션이 저장하는 행이 적재한 ID와 겹치지 않도록 시퀀스 재설정
+        jdbc.execute("ALTER SEQUENCE group_info_seq RESTART WITH " + (ID_BASE + groups + 100));
+        jdbc.execute("ALTER SEQUENCE group_member_seq RESTART WITH " + (ID_BASE + rows + 100));
+
+        logger.warn("벤치마크 데이터 적재 완료 - 가입 신청: {}건, 회원: {}명, 그룹: {}개, 소요: {}ms",
+                   rows, members, groups, System.currentTimeMillis() - started);
+    }
+}
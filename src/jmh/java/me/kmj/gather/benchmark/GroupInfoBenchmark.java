@@ -0,0 +1,48 @@
+package me.kmj.gather.benchmark;
+
+import me.kmj.gather.dto.CursorSlice;
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.service.GroupInfoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// 그룹 검색과 목록 조회 (첫 페이지, 깊은 오프셋 페이지, 커서 페이지)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GroupInfoBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Benchmark
+    public Page<GroupInfoDto> searchGroupsByName(BenchmarkDataset dataset) {
+        return dataset.bean(GroupInfoService.class).searchGroupsByName("독서 모임", PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<GroupInfoDto> getAllGroupsFirstPage(BenchmarkDataset dataset) {
+        return dataset.bean(GroupInfoService.class).getAllGroups(PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<GroupInfoDto> getAllGroupsDeepPage(BenchmarkDataset dataset) {
+        int lastPage = (int) (dataset.groupCount() / PAGE_SIZE) - 1;
+        return dataset.bean(GroupInfoService.class).getAllGroups(PageRequest.of(lastPage, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public CursorSlice<GroupInfoDto> getAllGroupsByCursor(BenchmarkDataset dataset) {
+        return dataset.bean(GroupInfoService.class).getAllGroups(dataset.middleCursor(), PAGE_SIZE);
+    }
+}
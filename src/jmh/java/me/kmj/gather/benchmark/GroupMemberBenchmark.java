@@ -0,0 +1,76 @@
+package me.kmj.gather.benchmark;
+
+import me.kmj.gather.entity.GroupMember;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.service.GroupMemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 가입 신청/처리와 그룹별 멤버 목록 조회
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GroupMemberBenchmark {
+
+    private static final int PROCESS_BATCH = 100;
+
+    @Benchmark
+    public GroupMember requestGroupMembership(BenchmarkDataset dataset) {
+        Object[] request = dataset.nextNewRequest();
+        return dataset.bean(GroupMemberService.class).requestGroupMembership((Long) request[0], (String) request[1]);
+    }
+
+    // 처리할 대기 신청은 측정 밖에서 100건씩 미리 만들어 둠
+    @Benchmark
+    @OperationsPerInvocation(PROCESS_BATCH)
+    public void processGroupMembership(BenchmarkDataset dataset, PendingRequests pending, Blackhole blackhole) {
+        GroupMemberService service = dataset.bean(GroupMemberService.class);
+        for (int i = 0; i < pending.ids.size(); i++) {
+            blackhole.consume(service.processGroupMembership(pending.ids.get(i), GroupMemberStatus.APPROVED,
+                                                             pending.processorIds.get(i)));
+        }
+    }
+
+    @Benchmark
+    public Page<GroupMember> getMembersByGroup(BenchmarkDataset dataset) {
+        return dataset.bean(GroupMemberService.class).getMembersByGroup(dataset.randomGroupId(), PageRequest.of(0, 20));
+    }
+
+    @State(Scope.Thread)
+    public static class PendingRequests {
+
+        private final List<Long> ids = new ArrayList<>(PROCESS_BATCH);
+        private final List<String> processorIds = new ArrayList<>(PROCESS_BATCH);
+
+        @Setup(Level.Invocation)
+        public void setUp(BenchmarkDataset dataset) {
+            ids.clear();
+            processorIds.clear();
+            GroupMemberService service = dataset.bean(GroupMemberService.class);
+            for (int i = 0; i < PROCESS_BATCH; i++) {
+                Object[] request = dataset.nextNewRequest();
+                ids.add(service.requestGroupMembership((Long) request[0], (String) request[1]).getId());
+                processorIds.add(dataset.ownerOf((Long) request[0]));
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package me.kmj.gather.benchmark;
+
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.entity.GroupMember;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.service.GroupInfoService;
+import me.kmj.gather.service.GroupMemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 조회별 인덱스 유무에 따른 실행 계획/지연 시간 비교
+// - indexed=true: 엔티티에 정의한 복합 인덱스와 (group_id, member_id) 유일 제약
+// - indexed=false: 이전 스키마 (외래 키 단일 컬럼 인덱스만 존재)
+// - 실행 계획은 JSON 결과 옆(build/reports/jmh/plans)에 데이터셋 크기/인덱스 유무별 파일로 기록
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IndexBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAIR_BATCH = 10;
+    private static final Path PLAN_DIR = Path.of(System.getProperty("gather.jmh.plan-dir", "build/reports/jmh/plans"));
+
+    @Benchmark
+    public Page<GroupMember> getMembersByGroup(BenchmarkDataset dataset, Indexes indexes) {
+        return dataset.bean(GroupMemberService.class).getMembersByGroup(dataset.randomGroupId(), PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<GroupMember> getMembershipsByMember(BenchmarkDataset dataset, Indexes indexes) {
+        return dataset.bean(GroupMemberService.class).getMembershipsByMember(dataset.randomMemberId(), PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Long> findIdsByGroupIdAndStatus(BenchmarkDataset dataset, Indexes indexes) {
+        return dataset.bean(GroupMemberRepository.class).findIdsByGroupIdAndStatus(dataset.randomGroupId(), GroupMemberStatus.PENDING);
+    }
+
+    @Benchmark
+    public List<Object[]> findExistingPairs(BenchmarkDataset dataset, Indexes indexes) {
+        List<Long> groupIds = new ArrayList<>(PAIR_BATCH);
+        List<String> memberIds = new ArrayList<>(PAIR_BATCH);
+        for (int i = 0; i < PAIR_BATCH; i++) {
+            groupIds.add(dataset.randomGroupId());
+            memberIds.add(dataset.randomMemberId());
+        }
+        return dataset.bean(GroupMemberRepository.class).findExistingPairs(groupIds, memberIds);
+    }
+
+    @Benchmark
+    public Page<GroupInfoDto> getAllGroups(BenchmarkDataset dataset, Indexes indexes) {
+        return dataset.bean(GroupInfoService.class).getAllGroups(PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<GroupInfoDto> getGroupsByCreator(BenchmarkDataset dataset, Indexes indexes) {
+        return dataset.bean(GroupInfoService.class).getGroupsByCreator(dataset.ownerOf(dataset.randomGroupId()),
+                                                                       PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @State(Scope.Benchmark)
+    public static class Indexes {
+
+        private static final Logger logger = LoggerFactory.getLogger(Indexes.class);
+
+        @Param({"true", "false"})
+        public boolean indexed;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkDataset dataset) {
+            JdbcTemplate jdbc = dataset.bean(JdbcTemplate.class);
+            if (!indexed) {
+                dropIndexes(jdbc);
+            }
+            writePlans(jdbc, dataset);
+        }
+
+        // 추가한 인덱스를 지우고 외래 키를 다시 만들어 이전 스키마로 되돌림
+        // - 외래 키가 복합 인덱스를 쓰고 있으면 인덱스를 지울 수 없으므로 외래 키를 먼저 지움
+        // - 외래 키를 다시 만들면 H2가 단일 컬럼 인덱스를 자동 생성
+        private void dropIndexes(JdbcTemplate jdbc) {
+            List<Object[]> foreignKeys = jdbc.query(
+                "SELECT TABLE_NAME, CONSTRAINT_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS " +
+                "WHERE CONSTRAINT_TYPE = 'FOREIGN KEY' AND TABLE_NAME IN ('GROUP_MEMBER', 'GROUP_INFO')",
+                (rs, rowNum) -> new Object[]{rs.getString(1), rs.getString(2)});
+            for (Object[] foreignKey : foreignKeys) {
+                jdbc.execute("ALTER TABLE " + foreignKey[0] + " DROP CONSTRAINT " + foreignKey[1]);
+            }
+
+            jdbc.execute("ALTER TABLE group_member DROP CONSTRAINT IF EXISTS uk_group_member_group_member");
+            jdbc.execute("DROP INDEX IF EXISTS idx_group_member_group_requested");
+            jdbc.execute("DROP INDEX IF EXISTS idx_group_member_member_requested");
+            jdbc.execute("DROP INDEX IF EXISTS idx_group_member_group_status");
+            jdbc.execute("DROP INDEX IF EXISTS idx_group_info_created");
+            jdbc.execute("DROP INDEX IF EXISTS idx_group_info_creator_created");
+
+            jdbc.execute("ALTER TABLE group_member ADD CONSTRAINT fk_group_member_member FOREIGN KEY (member_id) REFERENCES member (id)");
+            jdbc.execute("ALTER TABLE group_member ADD CONSTRAINT fk_group_member_group FOREIGN KEY (group_id) REFERENCES group_info (id)");
+            jdbc.execute("ALTER TABLE group_info ADD CONSTRAINT fk_group_info_created_by FOREIGN KEY (created_by) REFERENCES member (id)");
+        }
+
+        // 리포지토리 조회와 같은 조건/정렬의 네이티브 쿼리 실행 계획을 파일로 기록
+        private void writePlans(JdbcTemplate jdbc, BenchmarkDataset dataset) {
+            StringBuilder plans = new StringBuilder();
+            Long groupId = dataset.randomGroupId();
+            String memberId = dataset.randomMemberId();
+            String ownerId = dataset.ownerOf(groupId);
+
+            explain(jdbc, plans, "getMembersByGroup",
+                "SELECT id FROM group_member WHERE group_id = " + groupId +
+                " ORDER BY requested_at DESC, id DESC LIMIT " + PAGE_SIZE);
+            explain(jdbc, plans, "getMembershipsByMember",
+                "SELECT id FROM group_member WHERE member_id = '" + memberId + "'" +
+                " ORDER BY requested_at DESC, id DESC LIMIT " + PAGE_SIZE);
+            explain(jdbc, plans, "findIdsByGroupIdAndStatus",
+                "SELECT id FROM group_member WHERE group_id = " + groupId + " AND status = 'PENDING'");
+            explain(jdbc, plans, "findExistingPairs",
+                "SELECT group_id, member_id FROM group_member " +
+                "WHERE group_id IN (" + groupId + ", " + dataset.randomGroupId() + ") " +
+                "AND member_id IN ('" + memberId + "', '" + dataset.randomMemberId() + "')");
+            explain(jdbc, plans, "getAllGroups",
+                "SELECT id FROM group_info ORDER BY created_at DESC, id DESC LIMIT " + PAGE_SIZE);
+            explain(jdbc, plans, "getGroupsByCreator",
+                "SELECT id FROM group_info WHERE created_by = '" + ownerId + "'" +
+                " ORDER BY created_at DESC, id DESC LIMIT " + PAGE_SIZE);
+
+            Path file = PLAN_DIR.resolve("index-rows" + dataset.rows + "-indexed-" + indexed + ".txt");
+            try {
+                Files.createDirectories(PLAN_DIR);
+                Files.writeString(file, plans);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            logger.info("실행 계획 기록 - {}", file.toAbsolutePath());
+        }
+
+        private void explain(JdbcTemplate jdbc, StringBuilder plans, String name, String sql) {
+            String plan = jdbc.queryForObject("EXPLAIN " + sql, String.class);
+            plans.append("-- ").append(name).append('\n').append(plan).append("\n\n");
+            logger.debug("실행 계획 - {} (indexed={}):\n{}", name, indexed, plan);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package me.kmj.gather.benchmark;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.util.Unbox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URISyntaxException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 요청 한 건이 남기는 로그 비용 (GET /api/groups 기준)
+// - dev: 기본 log4j2.xml (동기 파일 기록, me.kmj DEBUG)
+// - prod: log4j2-prod.xml (비동기 로거, 컨트롤러/서비스 WARN, 요청 로그 1% 표본)
+// - off: 로그를 모두 끈 기준선
+// 콘솔 출력은 JMH 출력을 가리지 않도록 버리고, 파일 기록 비용은 그대로 측정
+// 스레드 로컬 재사용은 prod 실행과 같게 켬 (애플리케이션에서는 GarbageFreeLogging이 prod에서만 켬)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Dgather.log.dir=build/jmh-logs",
+                                  "-Dlog4j2.isWebapp=false", "-Dlog4j2.enableThreadlocals=true"})
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final Logger controllerLogger = LoggerFactory.getLogger("me.kmj.gather.controller.GroupInfoController");
+    private static final Logger serviceLogger = LoggerFactory.getLogger("me.kmj.gather.service.GroupInfoService");
+    private static final org.apache.logging.log4j.Logger requestLogger =
+        LogManager.getLogger("me.kmj.gather.support.RequestLogFilter");
+
+    @Param({"dev", "prod", "off"})
+    public String mode;
+
+    private boolean requestLog;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() throws URISyntaxException {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        String config = "dev".equals(mode) ? "log4j2.xml" : "log4j2-prod.xml";
+        Configurator.reconfigure(LoggingBenchmark.class.getClassLoader().getResource(config).toURI());
+        if ("off".equals(mode)) {
+            Configurator.setAllLevels(LogManager.ROOT_LOGGER_NAME, Level.OFF);
+        }
+        requestLog = "prod".equals(mode);
+    }
+
+    @TearDown
+    public void tearDown() {
+        LogManager.shutdown();
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void getAllGroupsRequest() {
+        long started = System.nanoTime();
+        int page = 0;
+        int size = 10;
+        long total = 1234;
+
+        controllerLogger.info("GET /api/groups - 그룹 목록 조회 요청 (페이지: {}, 크기: {})", page, size);
+        serviceLogger.debug("그룹 목록 조회 요청 - 페이지: {}, 크기: {}", page, size);
+        serviceLogger.debug("조회된 그룹 수: {}", total);
+        controllerLogger.info("GET /api/groups - 조회 완료, 총 그룹 수: {}", total);
+
+        if (requestLog && requestLogger.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < 0.01) {
+            requestLogger.info("{} {} {} {}us", "GET", "/api/groups", Unbox.box(200),
+                               Unbox.box((System.nanoTime() - started) / 1_000));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package me.kmj.gather.benchmark;
+
+import me.kmj.gather.dto.RecommendedGroupDto;
+import me.kmj.gather.service.GroupRecommendationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 그룹 추천 모델 전체 계산과 회원별 추천 조회
+// - rows=10000000 데이터셋이 회원 100만 × 그룹 10만 (승인 약 333만 건)
+// - 조회 측정 전 전체 계산의 소요 시간/모델 크기/힙 사용량을 로그로 출력
+@Fork(1)
+public class RecommendationBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    public List<RecommendedGroupDto> recommend(BenchmarkDataset dataset, Model model) {
+        return dataset.bean(GroupRecommendationService.class).recommend(dataset.randomMemberId(), 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public GroupRecommendationService.BuildStats rebuild(BenchmarkDataset dataset) {
+        GroupRecommendationService service = dataset.bean(GroupRecommendationService.class);
+        service.rebuild();
+        return service.getLastBuild().orElseThrow();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Model {
+
+        private static final Logger logger = LoggerFactory.getLogger(Model.class);
+
+        // 조회 측정 전에 모델을 계산하고 계산 결과 출력
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkDataset dataset) {
+            GroupRecommendationService service = dataset.bean(GroupRecommendationService.class);
+            service.rebuild();
+            GroupRecommendationService.BuildStats stats = service.getLastBuild().orElseThrow();
+            logger.info("그룹 추천 모델 - 그룹: {}개, 이웃: {}개, 모델: {}MB, 계산: {}ms",
+                       stats.groups(), stats.neighbors(), stats.modelBytes() / (1024 * 1024), stats.elapsedMillis());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package me.kmj.gather;
 
+import me.kmj.gather.support.GarbageFreeLogging;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,6 +8,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class Application {
 
     public static void main(String[] args) {
+        // Log4j가 초기화되기 전에 지정해야 하므로 SpringApplication보다 먼저 호출
+        GarbageFreeLogging.configure(args);
         SpringApplication.run(Application.class, args);
     }
 
@@ -0,0 +1,56 @@
+package me.kmj.gather.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.kmj.gather.support.AdmissionControlInterceptor;
+import me.kmj.gather.support.CallerRateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// API 요청 허용 제어 (gather.admission.enabled)
+// - 클라이언트 IP/회원별 속도 제한과 엔드포인트별 적응형 동시 처리 한도를 /api/** 컨트롤러 앞에 적용
+@Configuration
+@ConditionalOnProperty(name = "gather.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlConfig.class);
+
+    private final AdmissionControlInterceptor interceptor;
+
+    @Autowired
+    public AdmissionControlConfig(MeterRegistry meterRegistry,
+                                  @Value("${gather.admission.rate:50}") double rate,
+                                  @Value("${gather.admission.burst:100}") int burst,
+                                  @Value("${gather.admission.address-rate:200}") double addressRate,
+                                  @Value("${gather.admission.address-burst:400}") int addressBurst,
+                                  @Value("${gather.admission.initial-limit:20}") int initialLimit,
+                                  @Value("${gather.admission.min-limit:4}") int minLimit,
+                                  @Value("${gather.admission.max-limit:200}") int maxLimit,
+                                  @Value("${gather.admission.latency-tolerance:1.5}") double tolerance,
+                                  @Value("${gather.admission.excluded-paths:/api/export/,/api/group-members/events}") List<String> excludedPaths) {
+        this.interceptor = new AdmissionControlInterceptor(new CallerRateLimiter(addressRate, addressBurst),
+                new CallerRateLimiter(rate, burst), initialLimit, minLimit, maxLimit, tolerance, excludedPaths, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+    }
+
+    // 버킷이 다시 가득 찬 호출자 정리 (한 번씩만 요청한 IP가 계속 쌓이지 않도록)
+    @Scheduled(fixedDelayString = "${gather.admission.eviction-interval:PT1M}")
+    public void evictIdleCallers() {
+        int evicted = interceptor.evictIdleCallers();
+        if (evicted > 0) {
+            logger.debug("유휴 호출자 정리 - 제거: {}, 남은 호출자: {}", evicted, interceptor.getTrackedCallers());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package me.kmj.gather.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 회원/그룹 단건 조회 캐시
+// - 크기와 TTL로 제한되는 Caffeine 캐시, 적중/미적중/제거 통계 기록
+// - 저장/제거는 트랜잭션 커밋 이후에 반영 (롤백된 변경이 캐시에 남지 않도록)
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String MEMBERS = "members";
+    public static final String GROUPS = "groups";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${gather.cache.spec:maximumSize=10000,expireAfterWrite=10m}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(MEMBERS, GROUPS);
+        cacheManager.setCaffeine(Caffeine.from(spec).recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
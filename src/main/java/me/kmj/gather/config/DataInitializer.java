@@ -10,13 +10,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+// 기본 샘플 데이터 (dataset 프로파일에서는 DatasetGenerator가 대신 적재)
 @Component
+@Profile("!dataset")
 public class DataInitializer implements CommandLineRunner {
     
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
@@ -24,18 +32,37 @@ public class DataInitializer implements CommandLineRunner {
     private final MemberRepository memberRepository;
     private final GroupInfoRepository groupInfoRepository;
     private final GroupMemberRepository groupMemberRepository;
+    private final Environment environment;
     
     @Autowired
     public DataInitializer(MemberRepository memberRepository,
                           GroupInfoRepository groupInfoRepository,
-                          GroupMemberRepository groupMemberRepository) {
+                          GroupMemberRepository groupMemberRepository,
+                          Environment environment) {
         this.memberRepository = memberRepository;
         this.groupInfoRepository = groupInfoRepository;
         this.groupMemberRepository = groupMemberRepository;
+        this.environment = environment;
     }
     
     @Override
     public void run(String... args) throws Exception {
+        // 가상 스레드 모드에서는 초기화도 가상 스레드에서 실행 (캐리어 고정 진단 대상에 포함)
+        if (Threading.VIRTUAL.isActive(environment)) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                executor.submit(() -> {
+                    initialize();
+                    return null;
+                }).get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+            return;
+        }
+        initialize();
+    }
+    
+    private void initialize() {
         logger.info("데이터 초기화 시작");
         
         // 회원 데이터 초기화
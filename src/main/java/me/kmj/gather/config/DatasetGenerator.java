@@ -0,0 +1,285 @@
+package me.kmj.gather.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+// 대량 샘플 데이터 생성 (dataset 프로파일, DataInitializer 대신 실행)
+// - 시드가 같으면 항상 같은 데이터 생성
+// - 한국식 이름/주소, 그룹 인기도는 Zipf 분포 (오래된 그룹일수록 인기)
+// - CSV 파일로 쓴 뒤 H2 CSVREAD 집합 INSERT로 적재, 멤버 수 컬럼도 생성 시 함께 계산
+@Component
+@Profile("dataset")
+public class DatasetGenerator implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    // CSV의 시각은 이 시점부터의 초 단위 오프셋으로 기록
+    private static final String EPOCH = "TIMESTAMP '2024-01-01 00:00:00'";
+    private static final int PERIOD_SECONDS = 365 * 24 * 60 * 60;
+    private static final int WRITE_BUFFER = 1 << 20;
+
+    private static final String[] SURNAMES = {
+        "김", "김", "김", "이", "이", "이", "박", "박", "최", "정", "강", "조", "윤", "장", "임",
+        "한", "오", "서", "신", "권", "황", "안", "송", "류", "전", "홍", "고", "문", "양", "손"
+    };
+    private static final String[] GIVEN_NAME_SYLLABLES = {
+        "민", "서", "지", "현", "준", "우", "예", "도", "하", "윤", "수", "영", "진", "연", "은",
+        "주", "성", "재", "아", "혜", "유", "시", "태", "원", "소", "다", "채", "승", "가", "호"
+    };
+    private static final String[] DISTRICTS = {
+        "서울시 강남구", "서울시 서초구", "서울시 마포구", "서울시 송파구", "서울시 영등포구", "서울시 종로구",
+        "서울시 관악구", "서울시 노원구", "부산시 해운대구", "부산시 수영구", "대구시 수성구", "인천시 연수구",
+        "광주시 서구", "대전시 유성구", "경기도 성남시", "경기도 수원시", "경기도 고양시", "제주시 연동"
+    };
+    private static final String[] TOPICS = {
+        "개발자", "독서", "운동", "등산", "러닝", "여행", "요리", "사진", "음악", "영화",
+        "보드게임", "영어 회화", "재테크", "캠핑", "자전거", "테니스", "클라이밍", "글쓰기", "미술", "봉사"
+    };
+    private static final String[] KINDS = {"모임", "동호회", "스터디", "커뮤니티", "클럽"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${gather.dataset.members:1000000}")
+    private int memberCount;
+
+    @Value("${gather.dataset.groups:100000}")
+    private int groupCount;
+
+    @Value("${gather.dataset.memberships:10000000}")
+    private long membershipCount;
+
+    @Value("${gather.dataset.seed:42}")
+    private long seed;
+
+    @Value("${gather.dataset.zipf-exponent:1.0}")
+    private double zipfExponent;
+
+    @Value("${gather.dataset.directory:${java.io.tmpdir}/gather-dataset}")
+    private Path directory;
+
+    @Autowired
+    public DatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        // 스냅샷에서 복원된 데이터가 있으면 생성하지 않음
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Long.class);
+        if (existing != null && existing > 0) {
+            logger.info("기존 데이터가 있어 대량 데이터 생성을 건너뜁니다 - 회원: {}명", existing);
+            return;
+        }
+
+        logger.info("대량 데이터 생성 시작 - 회원: {}, 그룹: {}, 가입 신청: {}, 시드: {}",
+                   memberCount, groupCount, membershipCount, seed);
+
+        long started = System.currentTimeMillis();
+        generate(directory);
+        long generated = System.currentTimeMillis();
+        load(directory);
+
+        logger.info("대량 데이터 생성 완료 - 파일 생성: {}ms, 적재: {}ms",
+                   generated - started, System.currentTimeMillis() - generated);
+    }
+
+    // CSV 파일 생성 (members.csv, groups.csv, memberships.csv)
+    public void generate(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        SplittableRandom random = new SplittableRandom(seed);
+
+        int[] groupOwners = new int[groupCount];
+        int[] groupCreatedAt = new int[groupCount];
+        for (int i = 0; i < groupCount; i++) {
+            groupOwners[i] = random.nextInt(memberCount);
+            // 오래된 그룹(낮은 번호)부터 생성 시각 순으로 배치
+            groupCreatedAt[i] = (int) ((long) PERIOD_SECONDS * i / groupCount / 2);
+        }
+
+        writeMembers(directory.resolve("members.csv"), random.split());
+
+        long[] approvedCounts = new long[groupCount];
+        long[] pendingCounts = new long[groupCount];
+        writeMemberships(directory.resolve("memberships.csv"), random.split(), groupOwners, groupCreatedAt,
+                         approvedCounts, pendingCounts);
+
+        writeGroups(directory.resolve("groups.csv"), random.split(), groupOwners, groupCreatedAt,
+                    approvedCounts, pendingCounts);
+    }
+
+    // CSVREAD로 적재 후 시퀀스 재설정
+    public void load(Path directory) {
+        jdbcTemplate.update("INSERT INTO member (id, name, gender, phone_number, address) " +
+                            "SELECT id, name, gender, phone_number, address " +
+                            "FROM CSVREAD(?, NULL, 'charset=UTF-8')", directory.resolve("members.csv").toString());
+        logger.info("회원 적재 완료 - {}명", memberCount);
+
+        jdbcTemplate.update("INSERT INTO group_info (id, name, description, created_by, created_at, " +
+                            "approved_members_count, pending_members_count) " +
+                            "SELECT CAST(id AS BIGINT), name, description, created_by, " +
+                            "DATEADD('SECOND', CAST(created_at AS INT), " + EPOCH + "), " +
+                            "CAST(approved AS BIGINT), CAST(pending AS BIGINT) " +
+                            "FROM CSVREAD(?, NULL, 'charset=UTF-8')", directory.resolve("groups.csv").toString());
+        logger.info("그룹 적재 완료 - {}개", groupCount);
+
+        jdbcTemplate.update("INSERT INTO group_member (id, member_id, group_id, status, requested_at, processed_at) " +
+                            "SELECT CAST(id AS BIGINT), member_id, CAST(group_id AS BIGINT), status, " +
+                            "DATEADD('SECOND', CAST(requested_at AS INT), " + EPOCH + "), " +
+                            "CASE WHEN processed_at IS NULL THEN NULL " +
+                            "ELSE DATEADD('SECOND', CAST(processed_at AS INT), " + EPOCH + ") END " +
+                            "FROM CSVREAD(?, NULL, 'charset=UTF-8')", directory.resolve("memberships.csv").toString());
+        logger.info("가입 신청 적재 완료 - {}건", membershipCount);
+
+        // 이후 애플리케이션이 저장하는 행이 적재한 ID와 겹치지 않도록 시퀀스 재설정
+        jdbcTemplate.execute("ALTER SEQUENCE group_info_seq RESTART WITH " + (groupCount + 100L));
+        jdbcTemplate.execute("ALTER SEQUENCE group_member_seq RESTART WITH " + (membershipCount + 100L));
+    }
+
+    private void writeMembers(Path file, SplittableRandom random) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("id,name,gender,phone_number,address\n");
+            StringBuilder line = new StringBuilder(64);
+            for (int i = 0; i < memberCount; i++) {
+                line.setLength(0);
+                line.append(memberId(i)).append(',')
+                    .append(SURNAMES[random.nextInt(SURNAMES.length)])
+                    .append(GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)])
+                    .append(GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)]).append(',')
+                    .append(random.nextBoolean() ? "남성" : "여성").append(',')
+                    .append("010-").append(1000 + random.nextInt(9000)).append('-').append(1000 + random.nextInt(9000)).append(',')
+                    .append(DISTRICTS[random.nextInt(DISTRICTS.length)]).append('\n');
+                writer.append(line);
+            }
+        }
+    }
+
+    private void writeGroups(Path file, SplittableRandom random, int[] groupOwners, int[] groupCreatedAt,
+                             long[] approvedCounts, long[] pendingCounts) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), WRITE_BUFFER)) {
+            writer.write("id,name,description,created_by,created_at,approved,pending\n");
+            StringBuilder line = new StringBuilder(128);
+            for (int i = 0; i < groupCount; i++) {
+                String topic = TOPICS[random.nextInt(TOPICS.length)];
+                String region = DISTRICTS[random.nextInt(DISTRICTS.length)];
+                line.setLength(0);
+                line.append(i + 1).append(',')
+                    .append(region, region.indexOf(' ') + 1, region.length()).append(' ')
+                    .append(topic).append(' ').append(KINDS[random.nextInt(KINDS.length)]).append(' ').append(i + 1).append(',')
+                    .append(topic).append("을(를) 함께하는 ").append(region).append(" 모임").append(',')
+                    .append(memberId(groupOwners[i])).append(',')
+                    .append(groupCreatedAt[i]).append(',')
+                    .append(approvedCounts[i]).append(',')
+                    .append(pendingCounts[i]).append('\n');
+                writer.append(line);
+            }
+        }
+    }
+
+    // 회원마다 신청할 그룹 수를 정하고, 그룹은 Zipf 분포로 뽑되 같은 회원 안에서 중복과 본인 그룹은 제외
+    private void writeMemberships(Path file, SplittableRandom random, int[] groupOwners, int[] groupCreatedAt,
+                                  long[] approvedCounts, long[] pendingCounts) throws IOException {
+        double[] cumulative = zipfCumulative(groupCount, zipfExponent);
+        long perMember = membershipCount / memberCount;
+        long remainder = membershipCount % memberCount;
+
+        try (BufferedWriter writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), WRITE_BUFFER)) {
+            writer.write("id,member_id,group_id,status,requested_at,processed_at\n");
+            StringBuilder line = new StringBuilder(64);
+            long id = 1;
+            int[] chosen = new int[(int) Math.min(perMember + 1, groupCount)];
+
+            for (int member = 0; member < memberCount; member++) {
+                int count = (int) Math.min(perMember + (member < remainder ? 1 : 0), groupCount - 1L);
+                String memberId = memberId(member);
+
+                for (int n = 0; n < count; n++) {
+                    int group = pickGroup(random, cumulative, groupOwners, member, chosen, n);
+                    chosen[n] = group;
+
+                    int requestedAt = groupCreatedAt[group] + random.nextInt(PERIOD_SECONDS - groupCreatedAt[group]);
+                    int roll = random.nextInt(10);
+                    String status = roll < 6 ? "APPROVED" : roll < 9 ? "PENDING" : "REJECTED";
+                    if (roll < 6) {
+                        approvedCounts[group]++;
+                    } else if (roll < 9) {
+                        pendingCounts[group]++;
+                    }
+
+                    line.setLength(0);
+                    line.append(id++).append(',').append(memberId).append(',').append(group + 1).append(',')
+                        .append(status).append(',').append(requestedAt).append(',');
+                    if (roll >= 6 && roll < 9) {
+                        line.append('\n');
+                    } else {
+                        line.append(requestedAt + random.nextInt(3 * 24 * 60 * 60)).append('\n');
+                    }
+                    writer.append(line);
+                }
+            }
+        }
+    }
+
+    private static int pickGroup(SplittableRandom random, double[] cumulative, int[] groupOwners,
+                                 int member, int[] chosen, int chosenCount) {
+        for (int attempt = 0; ; attempt++) {
+            // 인기 그룹에서 계속 겹치면 균등 분포로 전환
+            int group = attempt < 20
+                ? sampleZipf(random, cumulative)
+                : random.nextInt(cumulative.length);
+            if (groupOwners[group] != member && !contains(chosen, chosenCount, group)) {
+                return group;
+            }
+        }
+    }
+
+    private static int sampleZipf(SplittableRandom random, double[] cumulative) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulative[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static double[] zipfCumulative(int size, double exponent) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        return cumulative;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String memberId(int index) {
+        return String.format("u%07d", index + 1);
+    }
+}
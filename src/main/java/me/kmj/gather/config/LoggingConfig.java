@@ -0,0 +1,23 @@
+package me.kmj.gather.config;
+
+import me.kmj.gather.support.RequestLogFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 요청 로그 (gather.logging.request-log.enabled=true, prod 프로파일)
+@Configuration
+@ConditionalOnProperty(name = "gather.logging.request-log.enabled", havingValue = "true")
+public class LoggingConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestLogFilter> requestLogFilter(
+            @Value("${gather.logging.request-log.get-sample-rate:0.01}") double getSampleRate) {
+        FilterRegistrationBean<RequestLogFilter> registration =
+            new FilterRegistrationBean<>(new RequestLogFilter(getSampleRate));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,72 @@
+package me.kmj.gather.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.kmj.gather.service.ReplicaSynchronizer;
+import me.kmj.gather.support.ReplicaRoutingDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+// 읽기 복제본 (gather.replica.enabled=true)
+// - 원본(spring.datasource)과 복제본(gather.replica.url) 커넥션 풀을 따로 두고
+//   @Transactional(readOnly = true) 조회는 복제본, 쓰기는 원본으로 보냄
+// - 트랜잭션이 시작된 뒤 첫 SQL 시점에 커넥션을 얻어야 읽기 전용 여부로 고를 수 있으므로 지연 커넥션 프록시로 감쌈
+// - OSIV에서도 트랜잭션마다 커넥션을 반납하도록 Hibernate 커넥션 처리 방식을 바꿈
+//   (요청 전체가 첫 트랜잭션의 커넥션에 고정되지 않도록)
+@Configuration
+@ConditionalOnProperty(name = "gather.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${gather.replica.url:jdbc:h2:mem:meetingdb-replica;DB_CLOSE_DELAY=-1}") String url) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaSynchronizer replicaSynchronizer,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaSynchronizer::isReplicaCurrentForCaller,
+                replicaSynchronizer::isReplicaCurrent, meterRegistry);
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routing);
+        // 기본값 확인을 위해 미리 커넥션을 얻지 않도록 지정 (H2 기본값과 같음)
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandling() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
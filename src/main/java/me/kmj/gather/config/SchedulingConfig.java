@@ -0,0 +1,10 @@
+package me.kmj.gather.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 백그라운드 작업 (카운터 보정 등) 스케줄링 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
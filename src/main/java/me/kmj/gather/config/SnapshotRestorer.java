@@ -0,0 +1,58 @@
+package me.kmj.gather.config;
+
+import me.kmj.gather.service.SnapshotService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+// 기동 시 스냅샷 복원 (gather.snapshot.enabled)
+// - 다른 초기화(DataInitializer, DatasetGenerator)보다 먼저 실행되어 복원된 데이터가 있으면 샘플 적재를 건너뜀
+// - 준비 완료 이벤트 전에 끝나므로 메모리 인덱스/카운터/가입 관계 그래프는 복원된 데이터로 구성됨
+// - 손상된 파일은 .corrupt로 옮겨 보관하고 빈 데이터베이스로 계속 기동
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SnapshotRestorer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotRestorer.class);
+
+    private final SnapshotService snapshotService;
+
+    @Autowired
+    public SnapshotRestorer(SnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (!snapshotService.isEnabled()) {
+            return;
+        }
+        Path path = snapshotService.getPath();
+        if (!Files.exists(path)) {
+            logger.info("스냅샷 파일 없음 - 복원을 건너뜁니다: {}", path);
+            return;
+        }
+        if (!snapshotService.isDatabaseEmpty()) {
+            logger.warn("데이터베이스에 데이터가 있어 스냅샷 복원을 건너뜁니다");
+            return;
+        }
+
+        try {
+            snapshotService.restore(path);
+        } catch (Exception e) {
+            logger.error("스냅샷 복원 실패 - 빈 데이터베이스로 기동합니다: {}", e.getMessage(), e);
+            snapshotService.clear();
+            Path corrupt = path.resolveSibling(path.getFileName() + ".corrupt");
+            Files.move(path, corrupt, StandardCopyOption.REPLACE_EXISTING);
+            logger.warn("손상된 스냅샷 보관 - {}", corrupt);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package me.kmj.gather.config;
+
+import me.kmj.gather.support.SqlCountFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+// 요청별 SQL 실행 수 헤더 (gather.sql-count.enabled, 운영 모드에서는 끔)
+@Configuration
+@ConditionalOnProperty(name = "gather.sql-count.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlCountConfig {
+
+    @Bean
+    public FilterRegistrationBean<SqlCountFilter> sqlCountFilter(
+            @Value("${gather.sql-count.repeat-threshold:3}") int repeatThreshold,
+            @Value("${gather.sql-count.excluded-paths:/api/export/,/api/group-members/events}") List<String> excludedPaths) {
+        FilterRegistrationBean<SqlCountFilter> registration =
+            new FilterRegistrationBean<>(new SqlCountFilter(repeatThreshold, excludedPaths));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
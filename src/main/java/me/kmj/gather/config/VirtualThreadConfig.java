@@ -0,0 +1,43 @@
+package me.kmj.gather.config;
+
+import me.kmj.gather.support.ConnectionGuardFilter;
+import me.kmj.gather.support.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+// 가상 스레드 모드 (spring.threads.virtual.enabled=true, virtual 프로파일)
+// - 요청/비동기/스케줄러 스레드 전환은 Spring Boot가 담당
+// - 여기서는 커넥션 풀 보호 필터와 캐리어 고정 진단만 등록
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public ConnectionGuardFilter connectionGuardFilter(
+            @Value("${gather.virtual-threads.max-concurrent-requests:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrentRequests,
+            @Value("${gather.virtual-threads.acquire-timeout:5s}") Duration acquireTimeout,
+            @Value("${gather.virtual-threads.excluded-paths:/api/group-members/events}") List<String> excludedPaths,
+            @Value("${gather.virtual-threads.async-hold-paths:/api/export/}") List<String> asyncHoldPaths) {
+        return new ConnectionGuardFilter(maxConcurrentRequests, acquireTimeout, excludedPaths, asyncHoldPaths);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConnectionGuardFilter> connectionGuardFilterRegistration(ConnectionGuardFilter filter) {
+        FilterRegistrationBean<ConnectionGuardFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${gather.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(threshold);
+    }
+}
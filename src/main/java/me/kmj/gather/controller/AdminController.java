@@ -1,20 +1,24 @@
 package me.kmj.gather.controller;
 
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import me.kmj.gather.entity.Member;
-import me.kmj.gather.entity.GroupInfo;
+import me.kmj.gather.dto.GroupInfoDto;
 import me.kmj.gather.service.MemberService;
 import me.kmj.gather.service.GroupInfoService;
-import me.kmj.gather.service.GroupMemberService;
+import me.kmj.gather.service.SnapshotService;
+import me.kmj.gather.service.StatisticsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 
@@ -24,82 +28,86 @@ public class AdminController {
     
     private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
     
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain;version=0.0.4;charset=utf-8");
+    
     private final MemberService memberService;
     private final GroupInfoService groupInfoService;
-    private final GroupMemberService groupMemberService;
+    private final StatisticsService statisticsService;
+    private final SnapshotService snapshotService;
+    private final ObjectProvider<PrometheusMeterRegistry> meterRegistry;
     
     @Autowired
     public AdminController(MemberService memberService,
                          GroupInfoService groupInfoService,
-                         GroupMemberService groupMemberService) {
+                         StatisticsService statisticsService,
+                         SnapshotService snapshotService,
+                         ObjectProvider<PrometheusMeterRegistry> meterRegistry) {
         this.memberService = memberService;
         this.groupInfoService = groupInfoService;
-        this.groupMemberService = groupMemberService;
+        this.statisticsService = statisticsService;
+        this.snapshotService = snapshotService;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    // 메트릭 조회 (Prometheus 텍스트 형식: 요청/리포지토리 지연 시간, Hibernate 통계, 커넥션 풀, 캐시)
+    // - 메트릭 내보내기가 꺼진 환경(테스트 등)에서는 레지스트리가 없으므로 404
+    @GetMapping("/metrics")
+    public ResponseEntity<String> getMetrics() {
+        logger.debug("GET /api/admin/metrics - 메트릭 조회 요청");
+        PrometheusMeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            logger.warn("GET /api/admin/metrics - Prometheus 레지스트리 없음 (메트릭 내보내기 비활성화)");
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(PROMETHEUS_TEXT)
+                .body(registry.scrape());
     }
     
     // 전체 통계 조회
     @GetMapping("/statistics")
     public ResponseEntity<Map<String, Object>> getStatistics() {
         logger.info("GET /api/admin/statistics - 전체 통계 조회 요청");
-        
-        Map<String, Object> statistics = new HashMap<>();
-        
-        // 전체 회원 수
-        List<Member> allMembers = memberService.getAllMembers();
-        statistics.put("totalMembers", allMembers.size());
-        
-        // 전체 그룹 수
-        Page<GroupInfo> allGroups = groupInfoService.getAllGroups(PageRequest.of(0, Integer.MAX_VALUE));
-        statistics.put("totalGroups", allGroups.getTotalElements());
-        
-        // 전체 그룹 가입 신청 수 (대기중)
-        long totalPendingRequests = 0;
-        for (GroupInfo group : allGroups.getContent()) {
-            totalPendingRequests += groupMemberService.getPendingMembersCount(group.getId());
-        }
-        statistics.put("totalPendingGroupRequests", totalPendingRequests);
-        
-        // 전체 승인된 그룹 멤버 수
-        long totalApprovedMembers = 0;
-        for (GroupInfo group : allGroups.getContent()) {
-            totalApprovedMembers += groupMemberService.getApprovedMembersCount(group.getId());
-        }
-        statistics.put("totalApprovedGroupMembers", totalApprovedMembers);
-        
+        Map<String, Object> statistics = statisticsService.getOverallStatistics();
         logger.info("GET /api/admin/statistics - 조회 완료");
         return ResponseEntity.ok(statistics);
     }
     
+    // 회원/그룹 캐시 통계 조회
+    @GetMapping("/statistics/caches")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        logger.info("GET /api/admin/statistics/caches - 캐시 통계 조회 요청");
+        Map<String, Object> statistics = statisticsService.getCacheStatistics();
+        logger.info("GET /api/admin/statistics/caches - 조회 완료");
+        return ResponseEntity.ok(statistics);
+    }
+    
+    // 가상 스레드 모드 진단 정보 조회
+    @GetMapping("/statistics/virtual-threads")
+    public ResponseEntity<Map<String, Object>> getVirtualThreadStatistics() {
+        logger.info("GET /api/admin/statistics/virtual-threads - 가상 스레드 진단 조회 요청");
+        Map<String, Object> statistics = statisticsService.getVirtualThreadStatistics();
+        logger.info("GET /api/admin/statistics/virtual-threads - 조회 완료");
+        return ResponseEntity.ok(statistics);
+    }
+    
     // 그룹별 상세 통계 조회
     @GetMapping("/groups/{groupId}/statistics")
     public ResponseEntity<Map<String, Object>> getGroupStatistics(@PathVariable Long groupId) {
         logger.info("GET /api/admin/groups/{}/statistics - 그룹별 통계 조회 요청", groupId);
-        
-        Map<String, Object> statistics = new HashMap<>();
-        
-        // 승인된 멤버 수
-        long approvedCount = groupMemberService.getApprovedMembersCount(groupId);
-        statistics.put("approvedMembers", approvedCount);
-        
-        // 대기중인 가입 신청 수
-        long pendingCount = groupMemberService.getPendingMembersCount(groupId);
-        statistics.put("pendingRequests", pendingCount);
-        
-        // 총 가입 신청 수
-        statistics.put("totalRequests", approvedCount + pendingCount);
-        
+        Map<String, Object> statistics = statisticsService.getGroupStatistics(groupId);
         logger.info("GET /api/admin/groups/{}/statistics - 조회 완료", groupId);
         return ResponseEntity.ok(statistics);
     }
     
     // 전체 그룹 목록 조회 (관리자용)
     @GetMapping("/groups")
-    public ResponseEntity<Page<GroupInfo>> getAllGroupsForAdmin(
+    public ResponseEntity<Page<GroupInfoDto>> getAllGroupsForAdmin(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         logger.info("GET /api/admin/groups - 전체 그룹 목록 조회 요청 (페이지: {}, 크기: {})", page, size);
         Pageable pageable = PageRequest.of(page, size);
-        Page<GroupInfo> groups = groupInfoService.getAllGroups(pageable);
+        Page<GroupInfoDto> groups = groupInfoService.getAllGroups(pageable);
         logger.info("GET /api/admin/groups - 조회 완료, 총 그룹 수: {}", groups.getTotalElements());
         return ResponseEntity.ok(groups);
     }
@@ -112,4 +120,18 @@ public class AdminController {
         logger.info("GET /api/admin/members - 조회 완료, 총 회원 수: {}", members.size());
         return ResponseEntity.ok(members);
     }
+    
+    // 데이터베이스 스냅샷 즉시 저장 (gather.snapshot.path)
+    @PostMapping("/snapshot")
+    public ResponseEntity<SnapshotService.SnapshotStats> createSnapshot() {
+        logger.info("POST /api/admin/snapshot - 스냅샷 저장 요청");
+        try {
+            SnapshotService.SnapshotStats stats = snapshotService.snapshot();
+            logger.info("POST /api/admin/snapshot - 저장 완료: {}", stats.path());
+            return ResponseEntity.ok(stats);
+        } catch (UncheckedIOException e) {
+            logger.warn("POST /api/admin/snapshot - 저장 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,55 @@
+package me.kmj.gather.controller;
+
+import me.kmj.gather.service.ExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+    
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
+    private final ExportService exportService;
+    
+    @Autowired
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+    
+    // 전체 회원 내보내기 (NDJSON 스트리밍)
+    @GetMapping("/members")
+    public ResponseEntity<StreamingResponseBody> exportMembers() {
+        logger.info("GET /api/export/members - 회원 내보내기 요청");
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(exportService::exportMembers);
+    }
+    
+    // 전체 그룹 내보내기 (NDJSON 스트리밍)
+    @GetMapping("/groups")
+    public ResponseEntity<StreamingResponseBody> exportGroups() {
+        logger.info("GET /api/export/groups - 그룹 내보내기 요청");
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(exportService::exportGroups);
+    }
+    
+    // 전체 가입 신청 내보내기 (NDJSON 스트리밍)
+    @GetMapping("/memberships")
+    public ResponseEntity<StreamingResponseBody> exportMemberships() {
+        logger.info("GET /api/export/memberships - 가입 신청 내보내기 요청");
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(exportService::exportMemberships);
+    }
+}
@@ -2,6 +2,9 @@ package me.kmj.gather.controller;
 
 import me.kmj.gather.entity.GroupInfo;
 import me.kmj.gather.service.GroupInfoService;
+import me.kmj.gather.service.ListRevisionService;
+import me.kmj.gather.support.ResourceVersion;
+import me.kmj.gather.dto.CursorSlice;
 import me.kmj.gather.dto.GroupInfoDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +14,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Optional;
 
@@ -21,21 +25,23 @@ public class GroupInfoController {
     private static final Logger logger = LoggerFactory.getLogger(GroupInfoController.class);
     
     private final GroupInfoService groupInfoService;
+    private final ListRevisionService listRevisionService;
     
     @Autowired
-    public GroupInfoController(GroupInfoService groupInfoService) {
+    public GroupInfoController(GroupInfoService groupInfoService, ListRevisionService listRevisionService) {
         this.groupInfoService = groupInfoService;
+        this.listRevisionService = listRevisionService;
     }
     
     // 그룹 생성
     @PostMapping
-    public ResponseEntity<GroupInfo> createGroup(@RequestBody GroupInfoDto groupInfoDto, 
+    public ResponseEntity<GroupInfoDto> createGroup(@RequestBody GroupInfoDto groupInfoDto, 
                                                @RequestParam String createdById) {
         logger.info("POST /api/groups - 그룹 생성 요청: {}, 생성자: {}", groupInfoDto.getName(), createdById);
         try {
             GroupInfo savedGroup = groupInfoService.createGroup(groupInfoDto, createdById);
             logger.info("POST /api/groups - 생성 완료: {}", savedGroup.getId());
-            return ResponseEntity.ok(savedGroup);
+            return ResponseEntity.ok(GroupInfoDto.from(savedGroup));
         } catch (RuntimeException e) {
             logger.warn("POST /api/groups - 생성 실패: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -44,14 +50,14 @@ public class GroupInfoController {
     
     // 그룹 수정
     @PutMapping("/{id}")
-    public ResponseEntity<GroupInfo> updateGroup(@PathVariable Long id, 
+    public ResponseEntity<GroupInfoDto> updateGroup(@PathVariable Long id, 
                                                @RequestBody GroupInfoDto groupInfoDto,
                                                @RequestParam String createdById) {
         logger.info("PUT /api/groups/{} - 그룹 수정 요청, 수정자: {}", id, createdById);
         try {
             GroupInfo updatedGroup = groupInfoService.updateGroup(id, groupInfoDto, createdById);
             logger.info("PUT /api/groups/{} - 수정 완료", id);
-            return ResponseEntity.ok(updatedGroup);
+            return ResponseEntity.ok(GroupInfoDto.from(updatedGroup));
         } catch (RuntimeException e) {
             logger.warn("PUT /api/groups/{} - 수정 실패: {}", id, e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -73,11 +79,20 @@ public class GroupInfoController {
         }
     }
     
-    // 그룹 상세 조회
+    // 그룹 상세 조회 (버전 정보만 먼저 조회하여 바뀌지 않았으면 그룹 조회/직렬화 없이 304)
     @GetMapping("/{id}")
-    public ResponseEntity<GroupInfo> getGroupById(@PathVariable Long id) {
+    public ResponseEntity<GroupInfoDto> getGroupById(@PathVariable Long id, WebRequest webRequest) {
         logger.info("GET /api/groups/{} - 그룹 상세 조회 요청", id);
-        Optional<GroupInfo> group = groupInfoService.getGroupById(id);
+        Optional<ResourceVersion> version = groupInfoService.getGroupVersion(id);
+        if (version.isEmpty()) {
+            logger.warn("GET /api/groups/{} - 조회 실패 (존재하지 않음)", id);
+            return ResponseEntity.notFound().build();
+        }
+        if (version.get().isNotModified(webRequest)) {
+            logger.info("GET /api/groups/{} - 변경 없음 (304)", id);
+            return null;
+        }
+        Optional<GroupInfoDto> group = groupInfoService.getGroupDtoById(id);
         if (group.isPresent()) {
             logger.info("GET /api/groups/{} - 조회 성공", id);
             return ResponseEntity.ok(group.get());
@@ -89,39 +104,97 @@ public class GroupInfoController {
     
     // 페이징 처리된 그룹 목록 조회
     @GetMapping
-    public ResponseEntity<Page<GroupInfo>> getAllGroups(
+    public ResponseEntity<Page<GroupInfoDto>> getAllGroups(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         logger.info("GET /api/groups - 그룹 목록 조회 요청 (페이지: {}, 크기: {})", page, size);
+        if (listRevisionService.getGroupsVersion().isNotModified(webRequest)) {
+            logger.info("GET /api/groups - 변경 없음 (304)");
+            return null;
+        }
         Pageable pageable = PageRequest.of(page, size);
-        Page<GroupInfo> groups = groupInfoService.getAllGroups(pageable);
+        Page<GroupInfoDto> groups = groupInfoService.getAllGroups(pageable);
         logger.info("GET /api/groups - 조회 완료, 총 그룹 수: {}", groups.getTotalElements());
         return ResponseEntity.ok(groups);
     }
     
+    // 커서 기반 그룹 목록 조회 (after 파라미터가 있을 때, 빈 값이면 첫 페이지)
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorSlice<GroupInfoDto>> getAllGroupsByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        logger.info("GET /api/groups - 커서 기반 그룹 목록 조회 요청 (커서: {}, 크기: {})", after, size);
+        if (listRevisionService.getGroupsVersion().isNotModified(webRequest)) {
+            logger.info("GET /api/groups - 변경 없음 (304)");
+            return null;
+        }
+        try {
+            CursorSlice<GroupInfoDto> groups = groupInfoService.getAllGroups(after, size);
+            logger.info("GET /api/groups - 조회 완료, 조회된 그룹 수: {}", groups.getSize());
+            return ResponseEntity.ok(groups);
+        } catch (RuntimeException e) {
+            logger.warn("GET /api/groups - 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     // 그룹명으로 그룹 검색
     @GetMapping("/search")
-    public ResponseEntity<Page<GroupInfo>> searchGroupsByName(
+    public ResponseEntity<Page<GroupInfoDto>> searchGroupsByName(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         logger.info("GET /api/groups/search - 그룹 검색 요청 (키워드: {}, 페이지: {}, 크기: {})", keyword, page, size);
+        if (listRevisionService.getGroupsVersion().isNotModified(webRequest)) {
+            logger.info("GET /api/groups/search - 변경 없음 (304)");
+            return null;
+        }
         Pageable pageable = PageRequest.of(page, size);
-        Page<GroupInfo> groups = groupInfoService.searchGroupsByName(keyword, pageable);
+        Page<GroupInfoDto> groups = groupInfoService.searchGroupsByName(keyword, pageable);
         logger.info("GET /api/groups/search - 검색 완료, 검색된 그룹 수: {}", groups.getTotalElements());
         return ResponseEntity.ok(groups);
     }
     
+    // 커서 기반 그룹명 검색
+    @GetMapping(value = "/search", params = "after")
+    public ResponseEntity<CursorSlice<GroupInfoDto>> searchGroupsByNameByCursor(
+            @RequestParam String keyword,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        logger.info("GET /api/groups/search - 커서 기반 그룹 검색 요청 (키워드: {}, 커서: {}, 크기: {})", keyword, after, size);
+        if (listRevisionService.getGroupsVersion().isNotModified(webRequest)) {
+            logger.info("GET /api/groups/search - 변경 없음 (304)");
+            return null;
+        }
+        try {
+            CursorSlice<GroupInfoDto> groups = groupInfoService.searchGroupsByName(keyword, after, size);
+            logger.info("GET /api/groups/search - 검색 완료, 검색된 그룹 수: {}", groups.getSize());
+            return ResponseEntity.ok(groups);
+        } catch (RuntimeException e) {
+            logger.warn("GET /api/groups/search - 검색 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     // 특정 사용자가 생성한 그룹 목록 조회
     @GetMapping("/creator/{createdById}")
-    public ResponseEntity<Page<GroupInfo>> getGroupsByCreator(
+    public ResponseEntity<Page<GroupInfoDto>> getGroupsByCreator(
             @PathVariable String createdById,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         logger.info("GET /api/groups/creator/{} - 사용자별 그룹 목록 조회 요청 (페이지: {}, 크기: {})", createdById, page, size);
+        if (listRevisionService.getGroupsVersion().isNotModified(webRequest)) {
+            logger.info("GET /api/groups/creator/{} - 변경 없음 (304)", createdById);
+            return null;
+        }
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<GroupInfo> groups = groupInfoService.getGroupsByCreator(createdById, pageable);
+            Page<GroupInfoDto> groups = groupInfoService.getGroupsByCreator(createdById, pageable);
             logger.info("GET /api/groups/creator/{} - 조회 완료, 그룹 수: {}", createdById, groups.getTotalElements());
             return ResponseEntity.ok(groups);
         } catch (RuntimeException e) {
@@ -129,4 +202,26 @@ public class GroupInfoController {
             return ResponseEntity.badRequest().build();
         }
     }
-} 
\ No newline at end of file
+    
+    // 커서 기반 특정 사용자가 생성한 그룹 목록 조회
+    @GetMapping(value = "/creator/{createdById}", params = "after")
+    public ResponseEntity<CursorSlice<GroupInfoDto>> getGroupsByCreatorByCursor(
+            @PathVariable String createdById,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        logger.info("GET /api/groups/creator/{} - 커서 기반 사용자별 그룹 목록 조회 요청 (커서: {}, 크기: {})", createdById, after, size);
+        if (listRevisionService.getGroupsVersion().isNotModified(webRequest)) {
+            logger.info("GET /api/groups/creator/{} - 변경 없음 (304)", createdById);
+            return null;
+        }
+        try {
+            CursorSlice<GroupInfoDto> groups = groupInfoService.getGroupsByCreator(createdById, after, size);
+            logger.info("GET /api/groups/creator/{} - 조회 완료, 그룹 수: {}", createdById, groups.getSize());
+            return ResponseEntity.ok(groups);
+        } catch (RuntimeException e) {
+            logger.warn("GET /api/groups/creator/{} - 조회 실패: {}", createdById, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
\ No newline at end of file
@@ -1,5 +1,10 @@
 package me.kmj.gather.controller;
 
+import me.kmj.gather.dto.BulkProcessRequestDto;
+import me.kmj.gather.dto.BulkProcessResultDto;
+import me.kmj.gather.dto.CursorSlice;
+import me.kmj.gather.dto.GroupMemberDto;
+import me.kmj.gather.dto.GroupOverlapDto;
 import me.kmj.gather.entity.GroupMember;
 import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
 import me.kmj.gather.service.GroupMemberService;
@@ -9,8 +14,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/group-members")
@@ -42,11 +51,11 @@ public class GroupMemberController {
     
     // 그룹 가입 승인
     @PutMapping("/{id}/approve")
-    public ResponseEntity<GroupMember> approveGroupMembership(@PathVariable Long id, 
+    public ResponseEntity<GroupMemberDto> approveGroupMembership(@PathVariable Long id, 
                                                             @RequestParam String processorId) {
         logger.info("PUT /api/group-members/{}/approve - 그룹 가입 승인 요청, 처리자: {}", id, processorId);
         try {
-            GroupMember membership = groupMemberService.processGroupMembership(id, GroupMemberStatus.APPROVED, processorId);
+            GroupMemberDto membership = groupMemberService.processGroupMembership(id, GroupMemberStatus.APPROVED, processorId);
             logger.info("PUT /api/group-members/{}/approve - 승인 완료", id);
             return ResponseEntity.ok(membership);
         } catch (RuntimeException e) {
@@ -57,11 +66,11 @@ public class GroupMemberController {
     
     // 그룹 가입 거절
     @PutMapping("/{id}/reject")
-    public ResponseEntity<GroupMember> rejectGroupMembership(@PathVariable Long id, 
+    public ResponseEntity<GroupMemberDto> rejectGroupMembership(@PathVariable Long id, 
                                                            @RequestParam String processorId) {
         logger.info("PUT /api/group-members/{}/reject - 그룹 가입 거절 요청, 처리자: {}", id, processorId);
         try {
-            GroupMember membership = groupMemberService.processGroupMembership(id, GroupMemberStatus.REJECTED, processorId);
+            GroupMemberDto membership = groupMemberService.processGroupMembership(id, GroupMemberStatus.REJECTED, processorId);
             logger.info("PUT /api/group-members/{}/reject - 거절 완료", id);
             return ResponseEntity.ok(membership);
         } catch (RuntimeException e) {
@@ -70,6 +79,21 @@ public class GroupMemberController {
         }
     }
     
+    // 그룹 가입 일괄 승인/거절
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkProcessResultDto> processGroupMembershipsInBulk(@RequestBody BulkProcessRequestDto request,
+                                                                             @RequestParam String processorId) {
+        logger.info("PUT /api/group-members/bulk - 그룹 가입 일괄 처리 요청, 상태: {}, 처리자: {}", request.getStatus(), processorId);
+        try {
+            BulkProcessResultDto result = groupMemberService.processGroupMembershipsInBulk(request, processorId);
+            logger.info("PUT /api/group-members/bulk - 처리 완료: {}/{}건", result.getProcessed(), result.getRequested());
+            return ResponseEntity.ok(result);
+        } catch (RuntimeException e) {
+            logger.warn("PUT /api/group-members/bulk - 처리 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     // 특정 그룹의 멤버 목록 조회
     @GetMapping("/group/{groupId}")
     public ResponseEntity<Page<GroupMember>> getMembersByGroup(
@@ -106,6 +130,40 @@ public class GroupMemberController {
         }
     }
     
+    // 커서 기반 특정 그룹의 멤버 목록 조회
+    @GetMapping(value = "/group/{groupId}", params = "after")
+    public ResponseEntity<CursorSlice<GroupMember>> getMembersByGroupByCursor(
+            @PathVariable Long groupId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size) {
+        logger.info("GET /api/group-members/group/{} - 커서 기반 그룹별 멤버 목록 조회 요청 (커서: {}, 크기: {})", groupId, after, size);
+        try {
+            CursorSlice<GroupMember> members = groupMemberService.getMembersByGroup(groupId, after, size);
+            logger.info("GET /api/group-members/group/{} - 조회 완료, 멤버 수: {}", groupId, members.getSize());
+            return ResponseEntity.ok(members);
+        } catch (RuntimeException e) {
+            logger.warn("GET /api/group-members/group/{} - 조회 실패: {}", groupId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 커서 기반 특정 회원의 그룹 가입 신청 목록 조회
+    @GetMapping(value = "/member/{memberId}", params = "after")
+    public ResponseEntity<CursorSlice<GroupMember>> getMembershipsByMemberByCursor(
+            @PathVariable String memberId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size) {
+        logger.info("GET /api/group-members/member/{} - 커서 기반 회원별 가입 신청 목록 조회 요청 (커서: {}, 크기: {})", memberId, after, size);
+        try {
+            CursorSlice<GroupMember> memberships = groupMemberService.getMembershipsByMember(memberId, after, size);
+            logger.info("GET /api/group-members/member/{} - 조회 완료, 신청 수: {}", memberId, memberships.getSize());
+            return ResponseEntity.ok(memberships);
+        } catch (RuntimeException e) {
+            logger.warn("GET /api/group-members/member/{} - 조회 실패: {}", memberId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     // 특정 그룹의 승인된 멤버 수 조회
     @GetMapping("/group/{groupId}/approved-count")
     public ResponseEntity<Long> getApprovedMembersCount(@PathVariable Long groupId) {
@@ -133,4 +191,58 @@ public class GroupMemberController {
             return ResponseEntity.badRequest().build();
         }
     }
-} 
\ No newline at end of file
+    
+    // 회원이 그룹의 승인된 멤버인지 확인
+    @GetMapping("/group/{groupId}/members/{memberId}/approved")
+    public ResponseEntity<Boolean> isApprovedMember(@PathVariable Long groupId, @PathVariable String memberId) {
+        logger.debug("GET /api/group-members/group/{}/members/{}/approved - 승인 멤버 확인 요청", groupId, memberId);
+        try {
+            return ResponseEntity.ok(groupMemberService.isApprovedMember(groupId, memberId));
+        } catch (RuntimeException e) {
+            logger.warn("GET /api/group-members/group/{}/members/{}/approved - 확인 실패: {}", groupId, memberId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 두 회원이 함께 승인된 그룹 ID 목록 조회
+    @GetMapping("/shared-groups")
+    public ResponseEntity<List<Long>> getSharedGroupIds(@RequestParam String memberId,
+                                                        @RequestParam String otherMemberId) {
+        logger.info("GET /api/group-members/shared-groups - 공통 그룹 조회 요청: 회원 {}, {}", memberId, otherMemberId);
+        try {
+            List<Long> groupIds = groupMemberService.getSharedGroupIds(memberId, otherMemberId);
+            logger.info("GET /api/group-members/shared-groups - 조회 완료, 그룹 수: {}", groupIds.size());
+            return ResponseEntity.ok(groupIds);
+        } catch (RuntimeException e) {
+            logger.warn("GET /api/group-members/shared-groups - 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 두 그룹의 승인 멤버 수와 공통 멤버 수 조회
+    @GetMapping("/group/{groupId}/overlap/{otherGroupId}")
+    public ResponseEntity<GroupOverlapDto> getGroupOverlap(@PathVariable Long groupId, @PathVariable Long otherGroupId) {
+        logger.info("GET /api/group-members/group/{}/overlap/{} - 그룹 공통 멤버 조회 요청", groupId, otherGroupId);
+        try {
+            GroupOverlapDto overlap = groupMemberService.getGroupOverlap(groupId, otherGroupId);
+            logger.info("GET /api/group-members/group/{}/overlap/{} - 조회 완료, 공통 멤버 수: {}", groupId, otherGroupId, overlap.getShared());
+            return ResponseEntity.ok(overlap);
+        } catch (RuntimeException e) {
+            logger.warn("GET /api/group-members/group/{}/overlap/{} - 조회 실패: {}", groupId, otherGroupId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 그룹장의 가입 신청/처리 이벤트 구독 (SSE, 재연결 시 Last-Event-ID 이후부터 이어서 전송)
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeEvents(@RequestParam String ownerId,
+                                                      @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        logger.info("GET /api/group-members/events - 가입 이벤트 구독 요청: 그룹장 {}, 이어받기 {}", ownerId, lastEventId);
+        try {
+            return ResponseEntity.ok(groupMemberService.subscribeEvents(ownerId, lastEventId));
+        } catch (RuntimeException e) {
+            logger.warn("GET /api/group-members/events - 구독 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
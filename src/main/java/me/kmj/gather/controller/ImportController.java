@@ -0,0 +1,91 @@
+package me.kmj.gather.controller;
+
+import me.kmj.gather.dto.BulkImportResultDto;
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.dto.GroupMemberDto;
+import me.kmj.gather.dto.MemberDto;
+import me.kmj.gather.service.BulkImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImportController.class);
+    
+    private static final String TEXT_CSV = "text/csv";
+    
+    private final BulkImportService bulkImportService;
+    
+    @Autowired
+    public ImportController(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+    
+    // 회원 일괄 등록 (JSON 배열)
+    @PostMapping(value = "/members", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResultDto> importMembers(@RequestBody List<MemberDto> members) {
+        logger.info("POST /api/import/members - 회원 일괄 등록 요청: {}건", members.size());
+        return ResponseEntity.ok(bulkImportService.importMembers(members));
+    }
+    
+    // 회원 일괄 등록 (CSV)
+    @PostMapping(value = "/members", consumes = TEXT_CSV)
+    public ResponseEntity<BulkImportResultDto> importMembersFromCsv(@RequestBody String csv) {
+        logger.info("POST /api/import/members - 회원 일괄 등록 요청 (CSV)");
+        try {
+            return ResponseEntity.ok(bulkImportService.importMembersFromCsv(csv));
+        } catch (RuntimeException e) {
+            logger.warn("회원 CSV 일괄 등록 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 그룹 일괄 등록 (JSON 배열)
+    @PostMapping(value = "/groups", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResultDto> importGroups(@RequestBody List<GroupInfoDto> groups) {
+        logger.info("POST /api/import/groups - 그룹 일괄 등록 요청: {}건", groups.size());
+        return ResponseEntity.ok(bulkImportService.importGroups(groups));
+    }
+    
+    // 그룹 일괄 등록 (CSV)
+    @PostMapping(value = "/groups", consumes = TEXT_CSV)
+    public ResponseEntity<BulkImportResultDto> importGroupsFromCsv(@RequestBody String csv) {
+        logger.info("POST /api/import/groups - 그룹 일괄 등록 요청 (CSV)");
+        try {
+            return ResponseEntity.ok(bulkImportService.importGroupsFromCsv(csv));
+        } catch (RuntimeException e) {
+            logger.warn("그룹 CSV 일괄 등록 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 가입 신청 일괄 등록 (JSON 배열)
+    @PostMapping(value = "/memberships", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResultDto> importMemberships(@RequestBody List<GroupMemberDto> memberships) {
+        logger.info("POST /api/import/memberships - 가입 신청 일괄 등록 요청: {}건", memberships.size());
+        return ResponseEntity.ok(bulkImportService.importMemberships(memberships));
+    }
+    
+    // 가입 신청 일괄 등록 (CSV)
+    @PostMapping(value = "/memberships", consumes = TEXT_CSV)
+    public ResponseEntity<BulkImportResultDto> importMembershipsFromCsv(@RequestBody String csv) {
+        logger.info("POST /api/import/memberships - 가입 신청 일괄 등록 요청 (CSV)");
+        try {
+            return ResponseEntity.ok(bulkImportService.importMembershipsFromCsv(csv));
+        } catch (RuntimeException e) {
+            logger.warn("가입 신청 CSV 일괄 등록 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
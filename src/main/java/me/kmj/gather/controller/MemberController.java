@@ -1,13 +1,19 @@
 package me.kmj.gather.controller;
 
 import me.kmj.gather.entity.Member;
+import me.kmj.gather.service.GroupRecommendationService;
+import me.kmj.gather.service.ListRevisionService;
 import me.kmj.gather.service.MemberService;
+import me.kmj.gather.support.ResourceVersion;
+import me.kmj.gather.dto.MemberDetailDto;
 import me.kmj.gather.dto.MemberDto;
+import me.kmj.gather.dto.RecommendedGroupDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,10 +25,15 @@ public class MemberController {
     private static final Logger logger = LoggerFactory.getLogger(MemberController.class);
     
     private final MemberService memberService;
+    private final ListRevisionService listRevisionService;
+    private final GroupRecommendationService groupRecommendationService;
     
     @Autowired
-    public MemberController(MemberService memberService) {
+    public MemberController(MemberService memberService, ListRevisionService listRevisionService,
+                            GroupRecommendationService groupRecommendationService) {
         this.memberService = memberService;
+        this.listRevisionService = listRevisionService;
+        this.groupRecommendationService = groupRecommendationService;
     }
     
     // 회원가입
@@ -41,19 +52,27 @@ public class MemberController {
     
     // 전체 회원 목록 조회
     @GetMapping
-    public ResponseEntity<List<Member>> getAllMembers() {
+    public ResponseEntity<List<Member>> getAllMembers(WebRequest webRequest) {
         logger.info("GET /api/members - 전체 회원 목록 조회 요청");
+        if (listRevisionService.getMembersVersion().isNotModified(webRequest)) {
+            logger.info("GET /api/members - 변경 없음 (304)");
+            return null;
+        }
         List<Member> members = memberService.getAllMembers();
         logger.info("GET /api/members - 조회 완료, 회원 수: {}", members.size());
         return ResponseEntity.ok(members);
     }
     
-    // 회원 조회 (ID로)
+    // 회원 조회 (ID로, 캐시된 회원의 버전으로 바뀌지 않았으면 직렬화 없이 304)
     @GetMapping("/{id}")
-    public ResponseEntity<Member> getMemberById(@PathVariable String id) {
+    public ResponseEntity<MemberDetailDto> getMemberById(@PathVariable String id, WebRequest webRequest) {
         logger.info("GET /api/members/{} - 회원 조회 요청", id);
-        Optional<Member> member = memberService.getMemberById(id);
+        Optional<MemberDetailDto> member = memberService.getMemberById(id);
         if (member.isPresent()) {
+            if (ResourceVersion.of(member.get().getUpdatedAt(), member.get().getVersion()).isNotModified(webRequest)) {
+                logger.info("GET /api/members/{} - 변경 없음 (304)", id);
+                return null;
+            }
             logger.info("GET /api/members/{} - 조회 성공", id);
             return ResponseEntity.ok(member.get());
         } else {
@@ -89,4 +108,17 @@ public class MemberController {
             return ResponseEntity.badRequest().build();
         }
     }
-} 
\ No newline at end of file
+    
+    // 회원에게 추천할 그룹 조회 (메모리의 추천 모델로 응답)
+    @GetMapping("/{id}/recommended-groups")
+    public ResponseEntity<List<RecommendedGroupDto>> getRecommendedGroups(@PathVariable String id,
+                                                                         @RequestParam(defaultValue = "10") int size) {
+        logger.debug("GET /api/members/{}/recommended-groups - 추천 그룹 조회 요청 (크기: {})", id, size);
+        try {
+            return ResponseEntity.ok(groupRecommendationService.recommend(id, size));
+        } catch (RuntimeException e) {
+            logger.warn("GET /api/members/{}/recommended-groups - 조회 실패: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
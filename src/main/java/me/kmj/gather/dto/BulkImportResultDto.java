@@ -0,0 +1,27 @@
+package me.kmj.gather.dto;
+
+import lombok.Getter;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkImportResultDto {
+    
+    private int total;
+    private int imported;
+    private int failed;
+    private List<RowError> errors;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    
+    // 행별 실패 사유 (row는 요청 내 1부터 시작하는 순번)
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String key;
+        private String message;
+    }
+}
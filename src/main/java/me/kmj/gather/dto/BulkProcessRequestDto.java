@@ -0,0 +1,25 @@
+package me.kmj.gather.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProcessRequestDto {
+    
+    // 처리할 가입 신청 ID 목록 (groupId가 없을 때 사용)
+    private List<Long> membershipIds;
+    
+    // 지정 시 해당 그룹의 대기중인 가입 신청 전체를 처리
+    private Long groupId;
+    
+    // 변경할 상태 (APPROVED 또는 REJECTED)
+    private GroupMemberStatus status;
+}
@@ -0,0 +1,25 @@
+package me.kmj.gather.dto;
+
+import lombok.Getter;
+import lombok.AllArgsConstructor;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class BulkProcessResultDto {
+    
+    private GroupMemberStatus status;
+    private int requested;
+    private int processed;
+    private Map<Long, Outcome> results;
+    
+    // 가입 신청별 처리 결과
+    public enum Outcome {
+        PROCESSED,          // 처리됨
+        NOT_FOUND,          // 존재하지 않는 가입 신청
+        FORBIDDEN,          // 처리 권한 없음
+        ALREADY_PROCESSED   // 이미 처리된 가입 신청
+    }
+}
@@ -0,0 +1,28 @@
+package me.kmj.gather.dto;
+
+import me.kmj.gather.support.Cursor;
+import lombok.Getter;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 커서 기반 목록 조회 결과 (전체 개수 조회 없음)
+@Getter
+@AllArgsConstructor
+public class CursorSlice<T> {
+    
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    
+    public static <T> CursorSlice<T> of(Slice<T> slice, Function<T, Cursor> cursorOf) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+            ? cursorOf.apply(content.get(content.size() - 1)).encode()
+            : null;
+        return new CursorSlice<>(content, content.size(), slice.hasNext(), nextCursor);
+    }
+}
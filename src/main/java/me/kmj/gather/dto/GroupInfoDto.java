@@ -1,5 +1,8 @@
 package me.kmj.gather.dto;
 
+import me.kmj.gather.entity.GroupInfo;
+import me.kmj.gather.entity.Member;
+import org.hibernate.Hibernate;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -19,6 +22,21 @@ public class GroupInfoDto {
     private String createdById;
     private String createdByName;
     private LocalDateTime createdAt;
-    private int approvedMembersCount;
-    private int pendingMembersCount;
+    private long approvedMembersCount;
+    private long pendingMembersCount;
+    
+    // 엔티티 변환 (멤버 수는 비정규화 컬럼 사용, 생성자 이름은 이미 로딩된 경우에만 채움)
+    public static GroupInfoDto from(GroupInfo groupInfo) {
+        Member createdBy = groupInfo.getCreatedBy();
+        return new GroupInfoDto(
+            groupInfo.getId(),
+            groupInfo.getName(),
+            groupInfo.getDescription(),
+            createdBy != null ? createdBy.getId() : null,
+            createdBy != null && Hibernate.isInitialized(createdBy) ? createdBy.getName() : null,
+            groupInfo.getCreatedAt(),
+            groupInfo.getApprovedMembersCount(),
+            groupInfo.getPendingMembersCount()
+        );
+    }
 } 
\ No newline at end of file
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
 
 import java.time.LocalDateTime;
 
@@ -21,4 +22,11 @@ public class GroupMemberDto {
     private String status;
     private LocalDateTime requestedAt;
     private LocalDateTime processedAt;
-} 
\ No newline at end of file
+    
+    // JPQL 생성자 표현식용 (상태 enum을 문자열로 변환)
+    public GroupMemberDto(Long id, Long groupId, String groupName, String memberId, String memberName,
+                          GroupMemberStatus status, LocalDateTime requestedAt, LocalDateTime processedAt) {
+        this(id, groupId, groupName, memberId, memberName, status != null ? status.name() : null,
+             requestedAt, processedAt);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package me.kmj.gather.dto;
+
+import lombok.Getter;
+import lombok.AllArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+public class GroupOverlapDto {
+    
+    private Long groupId;
+    private Long otherGroupId;
+    private long members;        // 그룹의 승인 멤버 수
+    private long otherMembers;   // 비교 그룹의 승인 멤버 수
+    private long shared;         // 두 그룹에 모두 승인된 멤버 수
+}
@@ -0,0 +1,30 @@
+package me.kmj.gather.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.kmj.gather.entity.GroupInfo;
+
+import java.time.LocalDateTime;
+
+// 그룹 요약 (캐시에 저장하므로 변경 불가, 존재/생성자 확인용이라 멤버 수는 없음)
+@Getter
+@AllArgsConstructor
+public class GroupSummaryDto {
+    
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final String createdById;
+    private final LocalDateTime createdAt;
+    
+    // 생성자는 ID만 사용하므로 지연 로딩하지 않음
+    public static GroupSummaryDto from(GroupInfo groupInfo) {
+        return new GroupSummaryDto(
+            groupInfo.getId(),
+            groupInfo.getName(),
+            groupInfo.getDescription(),
+            groupInfo.getCreatedBy() != null ? groupInfo.getCreatedBy().getId() : null,
+            groupInfo.getCreatedAt()
+        );
+    }
+}
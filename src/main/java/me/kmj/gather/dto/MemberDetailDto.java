@@ -0,0 +1,33 @@
+package me.kmj.gather.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import me.kmj.gather.entity.Member;
+
+import java.time.LocalDateTime;
+
+// 회원 상세 (캐시에 저장하므로 변경 불가, 버전/수정 시각은 조건부 조회용)
+@Getter
+@AllArgsConstructor
+public class MemberDetailDto {
+    
+    private final String id;
+    private final String name;
+    private final String gender;
+    private final String phoneNumber;
+    private final String address;
+    private final Long version;
+    private final LocalDateTime updatedAt;
+    
+    public static MemberDetailDto from(Member member) {
+        return new MemberDetailDto(
+            member.getId(),
+            member.getName(),
+            member.getGender(),
+            member.getPhoneNumber(),
+            member.getAddress(),
+            member.getVersion(),
+            member.getUpdatedAt()
+        );
+    }
+}
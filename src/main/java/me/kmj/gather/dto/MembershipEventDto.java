@@ -0,0 +1,31 @@
+package me.kmj.gather.dto;
+
+import lombok.Getter;
+import lombok.AllArgsConstructor;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class MembershipEventDto {
+    
+    private long id;                    // 이벤트 ID (전체 증가, SSE Last-Event-ID로 이어받기)
+    private Type type;
+    private Long groupId;
+    private Long membershipId;          // 일괄 처리/RESET이면 null
+    private String memberId;            // 일괄 처리/RESET이면 null
+    private GroupMemberStatus status;
+    private Long approvedCount;         // 이벤트 시점의 그룹 승인 멤버 수 (메모리 카운터가 없으면 null)
+    private Long pendingCount;          // 이벤트 시점의 그룹 대기 신청 수 (메모리 카운터가 없으면 null)
+    private LocalDateTime occurredAt;
+    
+    // 이벤트 종류
+    public enum Type {
+        REQUESTED,        // 가입 신청
+        PROCESSED,        // 가입 승인/거절
+        BULK_PROCESSED,   // 그룹 가입 일괄 승인/거절 (그룹별 1건)
+        BULK_IMPORTED,    // 가입 신청 일괄 등록 (청크마다 그룹/상태별 1건)
+        RESET             // 놓친 이벤트를 이어받을 수 없음 (목록/개수를 다시 조회)
+    }
+}
@@ -0,0 +1,12 @@
+package me.kmj.gather.dto;
+
+import lombok.Getter;
+import lombok.AllArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+public class RecommendedGroupDto {
+    
+    private Long groupId;
+    private double score;   // 회원이 속한 그룹들과의 유사도 합
+}
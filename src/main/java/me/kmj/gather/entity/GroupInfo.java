@@ -4,20 +4,28 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
-import lombok.AllArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "group_info")
+// 인덱스는 리포지토리 조회 경로별로 정의
+// - (created_at, id): 전체 그룹 목록 (오프셋/커서, 최신 생성순)
+// - (created_by, created_at, id): 사용자별 그룹 목록 (오프셋/커서, 최신 생성순)
+@Table(name = "group_info",
+       indexes = {
+           @Index(name = "idx_group_info_created", columnList = "created_at, id"),
+           @Index(name = "idx_group_info_creator_created", columnList = "created_by, created_at, id")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class GroupInfo {
     
+    // 배치 INSERT가 가능하도록 시퀀스에서 ID를 미리 할당 (pooled)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_info_seq")
+    @SequenceGenerator(name = "group_info_seq", sequenceName = "group_info_seq", allocationSize = 50)
     private Long id;
     
     @Column(length = 100, nullable = false)
@@ -33,8 +41,41 @@ public class GroupInfo {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
+    // 승인된 멤버 수 (group_member 비정규화 카운터, 벌크 UPDATE로만 갱신)
+    @Column(name = "approved_members_count", nullable = false, updatable = false)
+    private long approvedMembersCount;
+    
+    // 대기중인 가입 신청 수 (group_member 비정규화 카운터, 벌크 UPDATE로만 갱신)
+    @Column(name = "pending_members_count", nullable = false, updatable = false)
+    private long pendingMembersCount;
+    
+    // 낙관적 잠금 버전 (그룹 정보 수정 시에만 증가, 멤버 수 변경은 수정 시각만 갱신)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
+    // 마지막 수정 시각 (그룹 정보 수정, 멤버 수 변경 시 갱신)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public GroupInfo(Long id, String name, String description, Member createdBy, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.createdBy = createdBy;
+        this.createdAt = createdAt;
+    }
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 } 
\ No newline at end of file
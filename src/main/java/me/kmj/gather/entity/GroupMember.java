@@ -4,20 +4,32 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
-import lombok.AllArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "group_member")
+// 인덱스는 리포지토리 조회 경로별로 정의
+// - (group_id, requested_at, id): 그룹별 멤버 목록 (오프셋/커서, 최신 신청순)
+// - (member_id, requested_at, id): 회원별 가입 신청 목록 (오프셋/커서, 최신 신청순)
+// - (group_id, status): 그룹별 상태 조회/집계, 그룹 전체 일괄 처리
+// - (group_id, member_id) 유일: 중복 가입 신청 방지, 그룹/회원 조합 조회
+@Table(name = "group_member",
+       indexes = {
+           @Index(name = "idx_group_member_group_requested", columnList = "group_id, requested_at, id"),
+           @Index(name = "idx_group_member_member_requested", columnList = "member_id, requested_at, id"),
+           @Index(name = "idx_group_member_group_status", columnList = "group_id, status")
+       },
+       uniqueConstraints = @UniqueConstraint(name = "uk_group_member_group_member", columnNames = {"group_id", "member_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class GroupMember {
     
+    // 배치 INSERT가 가능하도록 시퀀스에서 ID를 미리 할당 (pooled)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_member_seq")
+    @SequenceGenerator(name = "group_member_seq", sequenceName = "group_member_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -38,6 +50,22 @@ public class GroupMember {
     @Column(name = "processed_at")
     private LocalDateTime processedAt;
     
+    // 낙관적 잠금 버전 (같은 신청을 동시에 처리하면 한쪽만 반영)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
+    public GroupMember(Long id, Member member, GroupInfo group, GroupMemberStatus status,
+                       LocalDateTime requestedAt, LocalDateTime processedAt) {
+        this.id = id;
+        this.member = member;
+        this.group = group;
+        this.status = status;
+        this.requestedAt = requestedAt;
+        this.processedAt = processedAt;
+    }
+    
     @PrePersist
     protected void onCreate() {
         requestedAt = LocalDateTime.now();
@@ -4,14 +4,15 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
-import lombok.AllArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "member")
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class Member {
     
     @Id
@@ -29,4 +30,29 @@ public class Member {
     
     @Column(length = 255)
     private String address;
+    
+    // 낙관적 잠금 버전 (조건부 조회 ETag에 사용, 집합 INSERT로 적재된 행은 0)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
+    // 마지막 수정 시각 (조건부 조회 Last-Modified에 사용)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public Member(String id, String name, String gender, String phoneNumber, String address) {
+        this.id = id;
+        this.name = name;
+        this.gender = gender;
+        this.phoneNumber = phoneNumber;
+        this.address = address;
+    }
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
 } 
\ No newline at end of file
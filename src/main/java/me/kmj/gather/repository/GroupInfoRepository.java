@@ -1,24 +1,192 @@
 package me.kmj.gather.repository;
 
+import jakarta.persistence.QueryHint;
+import me.kmj.gather.dto.GroupInfoDto;
 import me.kmj.gather.entity.GroupInfo;
-import me.kmj.gather.entity.Member;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface GroupInfoRepository extends JpaRepository<GroupInfo, Long> {
     
-    // 페이징 처리된 그룹 목록 조회
-    Page<GroupInfo> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    // 목록 조회용 DTO 생성자 표현식 (생성자 이름과 비정규화된 멤버 수를 한 번의 조인으로 조회)
+    String DTO_SELECT = "SELECT new me.kmj.gather.dto.GroupInfoDto(g.id, g.name, g.description, c.id, c.name, " +
+                        "g.createdAt, g.approvedMembersCount, g.pendingMembersCount) " +
+                        "FROM GroupInfo g LEFT JOIN g.createdBy c ";
+    
+    // 그룹 조회 (생성자 함께 로딩)
+    @Query("SELECT g FROM GroupInfo g JOIN FETCH g.createdBy WHERE g.id = :id")
+    Optional<GroupInfo> findWithCreatorById(@Param("id") Long id);
+    
+    // 그룹 상세 조회 (DTO)
+    @Query(DTO_SELECT + "WHERE g.id = :id")
+    Optional<GroupInfoDto> findDtoById(@Param("id") Long id);
+    
+    // 페이징 처리된 그룹 목록 조회 (DTO)
+    @Query(value = DTO_SELECT + "ORDER BY g.createdAt DESC, g.id DESC",
+           countQuery = "SELECT COUNT(g) FROM GroupInfo g")
+    Page<GroupInfoDto> findAllDtos(Pageable pageable);
+    
+    // 특정 사용자가 생성한 그룹 목록 조회 (DTO)
+    @Query(value = DTO_SELECT + "WHERE c.id = :createdById ORDER BY g.createdAt DESC, g.id DESC",
+           countQuery = "SELECT COUNT(g) FROM GroupInfo g WHERE g.createdBy.id = :createdById")
+    Page<GroupInfoDto> findDtosByCreatedById(@Param("createdById") String createdById, Pageable pageable);
+    
+    // 그룹명으로 검색 (DTO)
+    @Query(value = DTO_SELECT + "WHERE g.name LIKE %:keyword% ORDER BY g.createdAt DESC, g.id DESC",
+           countQuery = "SELECT COUNT(g) FROM GroupInfo g WHERE g.name LIKE %:keyword%")
+    Page<GroupInfoDto> findDtosByNameContaining(@Param("keyword") String keyword, Pageable pageable);
+    
+    // ID 목록으로 그룹 조회 (검색 색인 결과 적재용, DTO)
+    @Query(DTO_SELECT + "WHERE g.id IN :ids")
+    List<GroupInfoDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 전체 그룹명 스트리밍 조회 (검색 색인 재구성용, [ID, 그룹명])
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT g.id, g.name FROM GroupInfo g")
+    Stream<Object[]> streamAllNames();
+    
+    // 전체 그룹 스트리밍 조회 (내보내기용, 생성자 이름 포함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(DTO_SELECT)
+    Stream<GroupInfoDto> streamAllAsDto();
+    
+    // 커서 기반 그룹 목록 조회 (첫 페이지)
+    @Query(DTO_SELECT + "ORDER BY g.createdAt DESC, g.id DESC")
+    Slice<GroupInfoDto> findFirstSlice(Pageable pageable);
+    
+    // 커서 기반 그룹 목록 조회 (커서 이후)
+    @Query(DTO_SELECT +
+           "WHERE g.createdAt <= :createdAt AND (g.createdAt < :createdAt OR g.id < :id) " +
+           "ORDER BY g.createdAt DESC, g.id DESC")
+    Slice<GroupInfoDto> findSliceAfter(@Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+    
+    // 커서 기반 사용자별 그룹 목록 조회 (첫 페이지)
+    @Query(DTO_SELECT + "WHERE c.id = :createdById ORDER BY g.createdAt DESC, g.id DESC")
+    Slice<GroupInfoDto> findFirstSliceByCreatedById(@Param("createdById") String createdById, Pageable pageable);
+    
+    // 커서 기반 사용자별 그룹 목록 조회 (커서 이후)
+    @Query(DTO_SELECT + "WHERE c.id = :createdById " +
+           "AND g.createdAt <= :createdAt AND (g.createdAt < :createdAt OR g.id < :id) " +
+           "ORDER BY g.createdAt DESC, g.id DESC")
+    Slice<GroupInfoDto> findSliceByCreatedByIdAfter(@Param("createdById") String createdById,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+    
+    // 커서 기반 그룹명 검색 (첫 페이지)
+    @Query(DTO_SELECT + "WHERE g.name LIKE %:keyword% ORDER BY g.createdAt DESC, g.id DESC")
+    Slice<GroupInfoDto> findFirstSliceByNameContaining(@Param("keyword") String keyword, Pageable pageable);
+    
+    // 커서 기반 그룹명 검색 (커서 이후)
+    @Query(DTO_SELECT + "WHERE g.name LIKE %:keyword% " +
+           "AND g.createdAt <= :createdAt AND (g.createdAt < :createdAt OR g.id < :id) " +
+           "ORDER BY g.createdAt DESC, g.id DESC")
+    Slice<GroupInfoDto> findSliceByNameContainingAfter(@Param("keyword") String keyword,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+    
+    // 그룹 생성자 ID 조회 (일괄 처리 권한 확인용, 엔티티 로딩 없음)
+    @Query("SELECT g.createdBy.id FROM GroupInfo g WHERE g.id = :id")
+    Optional<String> findOwnerIdById(@Param("id") Long id);
+    
+    // 그룹 생성자 조회 (일괄 등록 검증용)
+    @Query("SELECT g.id AS id, g.createdBy.id AS ownerId FROM GroupInfo g WHERE g.id IN :ids")
+    List<GroupOwner> findOwnersByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 그룹 상세 응답의 버전 정보 조회 (조건부 조회용, 엔티티를 로딩하지 않음)
+    @Query("SELECT g.version AS version, g.updatedAt AS updatedAt, " +
+           "g.approvedMembersCount AS approved, g.pendingMembersCount AS pending, " +
+           "c.version AS creatorVersion, c.updatedAt AS creatorUpdatedAt " +
+           "FROM GroupInfo g LEFT JOIN g.createdBy c WHERE g.id = :groupId")
+    Optional<GroupVersion> findVersionById(@Param("groupId") Long groupId);
+    
+    // 비정규화된 멤버 수 조회
+    @Query("SELECT g.approvedMembersCount AS approved, g.pendingMembersCount AS pending FROM GroupInfo g WHERE g.id = :groupId")
+    Optional<MembersCount> findMembersCountById(@Param("groupId") Long groupId);
+    
+    // 여러 그룹의 비정규화된 멤버 수 조회
+    @Query("SELECT g.id AS groupId, g.approvedMembersCount AS approved, g.pendingMembersCount AS pending " +
+           "FROM GroupInfo g WHERE g.id IN :groupIds")
+    List<GroupMembersCount> findMembersCountByIdIn(@Param("groupIds") Collection<Long> groupIds);
+    
+    // 비정규화된 멤버 수 증감
+    @Modifying
+    @Query("UPDATE GroupInfo g SET g.approvedMembersCount = g.approvedMembersCount + :approvedDelta, " +
+           "g.pendingMembersCount = g.pendingMembersCount + :pendingDelta, g.updatedAt = :updatedAt WHERE g.id = :groupId")
+    int addMembersCount(@Param("groupId") Long groupId,
+                        @Param("approvedDelta") long approvedDelta,
+                        @Param("pendingDelta") long pendingDelta,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+    
+    // 비정규화된 멤버 수 보정 (읽은 이후 값이 바뀌지 않은 경우에만 반영)
+    @Modifying
+    @Query("UPDATE GroupInfo g SET g.approvedMembersCount = :approved, g.pendingMembersCount = :pending, " +
+           "g.updatedAt = :updatedAt " +
+           "WHERE g.id = :groupId AND g.approvedMembersCount = :expectedApproved AND g.pendingMembersCount = :expectedPending")
+    int correctMembersCount(@Param("groupId") Long groupId,
+                            @Param("expectedApproved") long expectedApproved,
+                            @Param("expectedPending") long expectedPending,
+                            @Param("approved") long approved,
+                            @Param("pending") long pending,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+    
+    // group_member 실제 집계와 비정규화된 멤버 수가 어긋난 그룹 조회
+    // [그룹 ID, 저장된 승인 수, 저장된 대기 수, 실제 승인 수, 실제 대기 수]
+    @Query(value = "SELECT g.id, g.approved_members_count, g.pending_members_count, " +
+                   "COALESCE(c.approved, 0), COALESCE(c.pending, 0) " +
+                   "FROM group_info g LEFT JOIN (" +
+                   "  SELECT group_id, " +
+                   "         SUM(CASE WHEN status = 'APPROVED' THEN 1 ELSE 0 END) AS approved, " +
+                   "         SUM(CASE WHEN status = 'PENDING' THEN 1 ELSE 0 END) AS pending " +
+                   "  FROM group_member GROUP BY group_id" +
+                   ") c ON c.group_id = g.id " +
+                   "WHERE g.approved_members_count <> COALESCE(c.approved, 0) " +
+                   "   OR g.pending_members_count <> COALESCE(c.pending, 0)",
+           nativeQuery = true)
+    List<Object[]> findMembersCountDrift();
+    
+    // 그룹 생성자 조회 결과
+    interface GroupOwner {
+        Long getId();
+        String getOwnerId();
+    }
+    
+    // 그룹 상세 응답 버전 정보 (생성자 이름이 응답에 포함되므로 생성자 버전도 함께 조회)
+    interface GroupVersion {
+        Long getVersion();
+        LocalDateTime getUpdatedAt();
+        long getApproved();
+        long getPending();
+        Long getCreatorVersion();
+        LocalDateTime getCreatorUpdatedAt();
+    }
     
-    // 특정 사용자가 생성한 그룹 목록 조회
-    Page<GroupInfo> findByCreatedByOrderByCreatedAtDesc(Member createdBy, Pageable pageable);
+    // 멤버 수 조회 결과
+    interface MembersCount {
+        long getApproved();
+        long getPending();
+    }
     
-    // 그룹명으로 검색
-    @Query("SELECT g FROM GroupInfo g WHERE g.name LIKE %:keyword% ORDER BY g.createdAt DESC")
-    Page<GroupInfo> findByNameContaining(@Param("keyword") String keyword, Pageable pageable);
-} 
\ No newline at end of file
+    // 그룹별 멤버 수 조회 결과
+    interface GroupMembersCount extends MembersCount {
+        Long getGroupId();
+    }
+}
\ No newline at end of file
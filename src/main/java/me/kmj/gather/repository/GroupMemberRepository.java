@@ -1,27 +1,71 @@
 package me.kmj.gather.repository;
 
+import jakarta.persistence.QueryHint;
+import me.kmj.gather.dto.GroupMemberDto;
 import me.kmj.gather.entity.GroupMember;
 import me.kmj.gather.entity.GroupInfo;
 import me.kmj.gather.entity.Member;
 import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
     
-    // 특정 그룹의 멤버 목록 조회
-    Page<GroupMember> findByGroupOrderByRequestedAtDesc(GroupInfo group, Pageable pageable);
+    // 특정 그룹의 멤버 목록 조회 (목록 조회는 회원/그룹/그룹 생성자를 함께 조회하여 행마다 지연 로딩 방지)
+    // - 그룹/회원은 ID로 지정 (캐시된 조회 결과의 엔티티를 쿼리에 넘기지 않음)
+    @EntityGraph(attributePaths = {"member", "group", "group.createdBy"})
+    Page<GroupMember> findByGroupIdOrderByRequestedAtDesc(Long groupId, Pageable pageable);
     
     // 특정 사용자의 그룹 가입 신청 목록 조회
-    Page<GroupMember> findByMemberOrderByRequestedAtDesc(Member member, Pageable pageable);
+    @EntityGraph(attributePaths = {"member", "group", "group.createdBy"})
+    Page<GroupMember> findByMemberIdOrderByRequestedAtDesc(String memberId, Pageable pageable);
+    
+    // 커서 기반 그룹별 멤버 목록 조회 (첫 페이지)
+    @EntityGraph(attributePaths = {"member", "group", "group.createdBy"})
+    @Query("SELECT gm FROM GroupMember gm WHERE gm.group.id = :groupId ORDER BY gm.requestedAt DESC, gm.id DESC")
+    Slice<GroupMember> findFirstSliceByGroupId(@Param("groupId") Long groupId, Pageable pageable);
+    
+    // 커서 기반 그룹별 멤버 목록 조회 (커서 이후)
+    @EntityGraph(attributePaths = {"member", "group", "group.createdBy"})
+    @Query("SELECT gm FROM GroupMember gm WHERE gm.group.id = :groupId " +
+           "AND gm.requestedAt <= :requestedAt AND (gm.requestedAt < :requestedAt OR gm.id < :id) " +
+           "ORDER BY gm.requestedAt DESC, gm.id DESC")
+    Slice<GroupMember> findSliceByGroupIdAfter(@Param("groupId") Long groupId,
+                                               @Param("requestedAt") LocalDateTime requestedAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+    
+    // 커서 기반 회원별 가입 신청 목록 조회 (첫 페이지)
+    @EntityGraph(attributePaths = {"member", "group", "group.createdBy"})
+    @Query("SELECT gm FROM GroupMember gm WHERE gm.member.id = :memberId ORDER BY gm.requestedAt DESC, gm.id DESC")
+    Slice<GroupMember> findFirstSliceByMemberId(@Param("memberId") String memberId, Pageable pageable);
+    
+    // 커서 기반 회원별 가입 신청 목록 조회 (커서 이후)
+    @EntityGraph(attributePaths = {"member", "group", "group.createdBy"})
+    @Query("SELECT gm FROM GroupMember gm WHERE gm.member.id = :memberId " +
+           "AND gm.requestedAt <= :requestedAt AND (gm.requestedAt < :requestedAt OR gm.id < :id) " +
+           "ORDER BY gm.requestedAt DESC, gm.id DESC")
+    Slice<GroupMember> findSliceByMemberIdAfter(@Param("memberId") String memberId,
+                                                @Param("requestedAt") LocalDateTime requestedAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
     
     // 특정 그룹의 특정 상태 멤버 목록 조회
     List<GroupMember> findByGroupAndStatus(GroupInfo group, GroupMemberStatus status);
@@ -36,4 +80,108 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
     // 특정 그룹의 대기중인 가입 신청 수 조회
     @Query("SELECT COUNT(gm) FROM GroupMember gm WHERE gm.group = :group AND gm.status = 'PENDING'")
     long countPendingMembers(@Param("group") GroupInfo group);
-} 
\ No newline at end of file
+
+    // 전체 가입 신청 수를 상태별로 집계
+    @Query("SELECT gm.status AS status, COUNT(gm) AS count FROM GroupMember gm GROUP BY gm.status")
+    List<StatusCount> countGroupByStatus();
+
+    // 전체 가입 신청 스트리밍 조회 (내보내기용, 그룹명/회원명 포함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new me.kmj.gather.dto.GroupMemberDto(gm.id, g.id, g.name, m.id, m.name, gm.status, " +
+           "gm.requestedAt, gm.processedAt) FROM GroupMember gm JOIN gm.group g JOIN gm.member m")
+    Stream<GroupMemberDto> streamAllAsDto();
+    
+    // 특정 그룹의 특정 상태 가입 신청 ID 목록 조회
+    @Query("SELECT gm.id FROM GroupMember gm WHERE gm.group.id = :groupId AND gm.status = :status")
+    List<Long> findIdsByGroupIdAndStatus(@Param("groupId") Long groupId, @Param("status") GroupMemberStatus status);
+    
+    // 특정 그룹의 특정 상태 가입 신청 ID를 ID 순으로 afterId 다음부터 조회 (일괄 처리 키셋 페이지)
+    @Query("SELECT gm.id FROM GroupMember gm WHERE gm.group.id = :groupId AND gm.status = :status " +
+           "AND gm.id > :afterId ORDER BY gm.id")
+    List<Long> findIdsByGroupIdAndStatusAfter(@Param("groupId") Long groupId,
+                                              @Param("status") GroupMemberStatus status,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+    
+    // 가입 신청의 그룹, 상태, 그룹 생성자 조회 (일괄 처리 권한 확인용)
+    @Query("SELECT gm.id AS id, g.id AS groupId, gm.status AS status, g.createdBy.id AS ownerId " +
+           "FROM GroupMember gm JOIN gm.group g WHERE gm.id IN :ids")
+    List<MembershipOwnership> findOwnershipByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 대기중이고 처리자가 생성한 그룹의 가입 신청만 변경하고 변경된 행을 바로 반환 (UPDATE 1회)
+    // - 조건에 맞지 않으면(없음/권한 없음/이미 처리됨) 빈 결과
+    // - 조회 형태지만 UPDATE를 실행하므로 쿼리 메서드의 읽기 전용 기본값을 쓰지 않음
+    // [ID, 그룹 ID, 그룹명, 회원 ID, 회원명, 상태, 신청 시각, 처리 시각]
+    @Transactional
+    @Query(value = "SELECT gm.id, gm.group_id, g.name, gm.member_id, m.name, gm.status, gm.requested_at, gm.processed_at " +
+                   "FROM FINAL TABLE (" +
+                   "  UPDATE group_member SET status = :status, processed_at = :processedAt, version = version + 1 " +
+                   "  WHERE id = :id AND status = 'PENDING' " +
+                   "    AND group_id IN (SELECT id FROM group_info WHERE created_by = :processorId)" +
+                   ") gm JOIN group_info g ON g.id = gm.group_id JOIN member m ON m.id = gm.member_id",
+           nativeQuery = true)
+    List<Object[]> processIfPendingAndOwned(@Param("id") Long id,
+                                            @Param("status") String status,
+                                            @Param("processedAt") LocalDateTime processedAt,
+                                            @Param("processorId") String processorId);
+    
+    // 대기중인 가입 신청 일괄 처리 (엔티티 수정과 같이 버전 증가)
+    @Modifying
+    @Query("UPDATE GroupMember gm SET gm.status = :status, gm.processedAt = :processedAt, gm.version = gm.version + 1 " +
+           "WHERE gm.id IN :ids AND gm.status = 'PENDING'")
+    int updateStatusIfPending(@Param("ids") Collection<Long> ids,
+                              @Param("status") GroupMemberStatus status,
+                              @Param("processedAt") LocalDateTime processedAt);
+    
+    // 일괄 처리로 변경된 가입 신청 ID 조회 (동시 처리로 일부만 반영된 경우 확인용)
+    @Query("SELECT gm.id FROM GroupMember gm WHERE gm.id IN :ids AND gm.status = :status AND gm.processedAt = :processedAt")
+    List<Long> findIdsByIdInAndStatusAndProcessedAt(@Param("ids") Collection<Long> ids,
+                                                    @Param("status") GroupMemberStatus status,
+                                                    @Param("processedAt") LocalDateTime processedAt);
+    
+    // 이미 존재하는 (그룹 ID, 회원 ID) 조합 조회 (일괄 등록 중복 확인용)
+    @Query("SELECT gm.group.id, gm.member.id FROM GroupMember gm " +
+           "WHERE gm.group.id IN :groupIds AND gm.member.id IN :memberIds")
+    List<Object[]> findExistingPairs(@Param("groupIds") Collection<Long> groupIds,
+                                     @Param("memberIds") Collection<String> memberIds);
+    
+    // 가입 신청의 (그룹 ID, 회원 ID) 조회 (일괄 승인 후 가입 관계 그래프 반영용)
+    @Query("SELECT gm.group.id, gm.member.id FROM GroupMember gm WHERE gm.id IN :ids")
+    List<Object[]> findGroupAndMemberIdsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 승인된 (그룹 ID, 회원 ID) 스트리밍 조회 (가입 관계 그래프 재구성용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT gm.group.id, gm.member.id FROM GroupMember gm WHERE gm.status = 'APPROVED'")
+    Stream<Object[]> streamApprovedPairs();
+    
+    // 회원이 그룹의 승인된 멤버인지 확인
+    @Query("SELECT COUNT(gm) > 0 FROM GroupMember gm " +
+           "WHERE gm.group.id = :groupId AND gm.member.id = :memberId AND gm.status = 'APPROVED'")
+    boolean existsApproved(@Param("groupId") Long groupId, @Param("memberId") String memberId);
+    
+    // 두 회원이 함께 승인된 그룹 ID 목록 조회
+    @Query("SELECT a.group.id FROM GroupMember a, GroupMember b " +
+           "WHERE a.group.id = b.group.id AND a.member.id = :memberId AND b.member.id = :otherMemberId " +
+           "AND a.status = 'APPROVED' AND b.status = 'APPROVED' ORDER BY a.group.id")
+    List<Long> findSharedGroupIds(@Param("memberId") String memberId, @Param("otherMemberId") String otherMemberId);
+    
+    // 두 그룹에 함께 승인된 회원 수 조회
+    @Query("SELECT COUNT(a) FROM GroupMember a, GroupMember b " +
+           "WHERE a.member.id = b.member.id AND a.group.id = :groupId AND b.group.id = :otherGroupId " +
+           "AND a.status = 'APPROVED' AND b.status = 'APPROVED'")
+    long countSharedMembers(@Param("groupId") Long groupId, @Param("otherGroupId") Long otherGroupId);
+    
+    // 상태별 집계 결과
+    interface StatusCount {
+        GroupMemberStatus getStatus();
+        long getCount();
+    }
+    
+    // 가입 신청 권한 확인용 조회 결과
+    interface MembershipOwnership {
+        Long getId();
+        Long getGroupId();
+        GroupMemberStatus getStatus();
+        String getOwnerId();
+    }
+}
\ No newline at end of file
@@ -1,9 +1,28 @@
 package me.kmj.gather.repository;
 
+import jakarta.persistence.QueryHint;
+import me.kmj.gather.dto.MemberDto;
 import me.kmj.gather.entity.Member;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface MemberRepository extends JpaRepository<Member, String> {
-} 
\ No newline at end of file
+    
+    // 전체 회원 스트리밍 조회 (내보내기용, 엔티티를 영속성 컨텍스트에 올리지 않음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new me.kmj.gather.dto.MemberDto(m.id, m.name, m.gender, m.phoneNumber, m.address) FROM Member m")
+    Stream<MemberDto> streamAllAsDto();
+    
+    // 이미 존재하는 회원 ID 조회 (일괄 등록 중복 확인용)
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+}
\ No newline at end of file
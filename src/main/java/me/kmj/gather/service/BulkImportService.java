@@ -0,0 +1,366 @@
+package me.kmj.gather.service;
+
+import jakarta.persistence.EntityManager;
+import me.kmj.gather.dto.BulkImportResultDto;
+import me.kmj.gather.dto.BulkImportResultDto.RowError;
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.dto.GroupMemberDto;
+import me.kmj.gather.dto.MemberDto;
+import me.kmj.gather.dto.MembershipEventDto;
+import me.kmj.gather.entity.GroupInfo;
+import me.kmj.gather.entity.GroupMember;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.entity.Member;
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupInfoRepository.GroupOwner;
+import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.MemberRepository;
+import me.kmj.gather.support.AfterCommit;
+import me.kmj.gather.support.CsvReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 회원/그룹/가입 신청 일괄 등록
+// - 청크(1000행)마다 한 트랜잭션: 중복/참조 확인은 청크당 집합 쿼리 한 번, 저장은 JDBC 배치 INSERT
+// - 검증 실패는 행 단위로, 저장 실패는 청크 단위로 보고
+// - 요청 안의 중복 확인은 커밋된 청크의 키만 기준으로 함 (롤백된 청크의 행은 뒤에서 다시 등록 가능)
+@Service
+public class BulkImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImportService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+    private final GroupInfoRepository groupInfoRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final MembershipCounterService membershipCounterService;
+    private final GroupNameIndex groupNameIndex;
+    private final ListRevisionService listRevisionService;
+    private final MembershipGraph membershipGraph;
+    private final MembershipEventHub membershipEventHub;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public BulkImportService(MemberRepository memberRepository,
+                           GroupInfoRepository groupInfoRepository,
+                           GroupMemberRepository groupMemberRepository,
+                           MembershipCounterService membershipCounterService,
+                           GroupNameIndex groupNameIndex,
+                           ListRevisionService listRevisionService,
+                           MembershipGraph membershipGraph,
+                           MembershipEventHub membershipEventHub,
+                           EntityManager entityManager,
+                           PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.groupInfoRepository = groupInfoRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.membershipCounterService = membershipCounterService;
+        this.groupNameIndex = groupNameIndex;
+        this.listRevisionService = listRevisionService;
+        this.membershipGraph = membershipGraph;
+        this.membershipEventHub = membershipEventHub;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 회원 일괄 등록
+    public BulkImportResultDto importMembers(List<MemberDto> rows) {
+        return importInChunks("회원", rows, this::importMemberChunk);
+    }
+
+    // 회원 일괄 등록 (CSV 헤더: id,name,gender,phoneNumber,address)
+    public BulkImportResultDto importMembersFromCsv(String csv) {
+        return importMembers(CsvReader.read(csv).stream()
+            .map(row -> new MemberDto(row.get("id"), row.get("name"), row.get("gender"),
+                                      row.get("phoneNumber"), row.get("address")))
+            .toList());
+    }
+
+    // 그룹 일괄 등록
+    public BulkImportResultDto importGroups(List<GroupInfoDto> rows) {
+        return importInChunks("그룹", rows, (chunk, firstRow, errors, seen, accepted) ->
+            importGroupChunk(chunk, firstRow, errors));
+    }
+
+    // 그룹 일괄 등록 (CSV 헤더: name,description,createdById)
+    public BulkImportResultDto importGroupsFromCsv(String csv) {
+        return importGroups(CsvReader.read(csv).stream()
+            .map(row -> {
+                GroupInfoDto dto = new GroupInfoDto();
+                dto.setName(row.get("name"));
+                dto.setDescription(row.get("description"));
+                dto.setCreatedById(row.get("createdById"));
+                return dto;
+            })
+            .toList());
+    }
+
+    // 가입 신청 일괄 등록
+    public BulkImportResultDto importMemberships(List<GroupMemberDto> rows) {
+        return importMembershipRows(rows.stream()
+            .map(dto -> new MembershipRow(dto.getGroupId() != null ? dto.getGroupId().toString() : null,
+                                          dto.getMemberId(), dto.getStatus()))
+            .toList());
+    }
+
+    // 가입 신청 일괄 등록 (CSV 헤더: groupId,memberId,status)
+    // 그룹 ID는 청크 처리 중에 변환하여 잘못된 값은 행 단위 오류로 보고
+    public BulkImportResultDto importMembershipsFromCsv(String csv) {
+        return importMembershipRows(CsvReader.read(csv).stream()
+            .map(row -> new MembershipRow(row.get("groupId"), row.get("memberId"), row.get("status")))
+            .toList());
+    }
+
+    private BulkImportResultDto importMembershipRows(List<MembershipRow> rows) {
+        return importInChunks("가입 신청", rows, this::importMembershipChunk);
+    }
+
+    private <T> BulkImportResultDto importInChunks(String label, List<T> rows, ChunkImporter<T> importer) {
+        logger.info("{} 일괄 등록 요청 - {}건", label, rows.size());
+        long started = System.nanoTime();
+        List<RowError> errors = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        int imported = 0;
+
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<T> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            int firstRow = from + 1;
+            List<RowError> chunkErrors = new ArrayList<>();
+            Set<String> accepted = new HashSet<>();
+            try {
+                Integer count = transactionTemplate.execute(status ->
+                    importer.importChunk(chunk, firstRow, chunkErrors, seen, accepted));
+                imported += count != null ? count : 0;
+                errors.addAll(chunkErrors);
+                seen.addAll(accepted);
+            } catch (RuntimeException e) {
+                // 청크 전체가 롤백되므로 검증을 통과했던 행도 실패로 보고
+                logger.warn("{} 일괄 등록 청크 실패 - {}~{}행: {}", label, firstRow, firstRow + chunk.size() - 1, e.getMessage());
+                Set<Integer> failedRows = chunkErrors.stream().map(RowError::getRow).collect(Collectors.toSet());
+                errors.addAll(chunkErrors);
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (!failedRows.contains(firstRow + i)) {
+                        errors.add(new RowError(firstRow + i, null, "저장 실패: " + e.getMessage()));
+                    }
+                }
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(RowError::getRow));
+        long elapsedNanos = System.nanoTime() - started;
+        double rowsPerSecond = elapsedNanos > 0 ? imported * 1_000_000_000.0 / elapsedNanos : 0;
+        logger.info("{} 일괄 등록 완료 - 전체: {}건, 성공: {}건, 실패: {}건, 처리량: {}건/초",
+                   label, rows.size(), imported, rows.size() - imported, (long) rowsPerSecond);
+        return new BulkImportResultDto(rows.size(), imported, rows.size() - imported, errors,
+                                       elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+
+    private int importMemberChunk(List<MemberDto> chunk, int firstRow, List<RowError> errors,
+                                  Set<String> seen, Set<String> accepted) {
+        Set<String> ids = chunk.stream().map(MemberDto::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<String> existing = ids.isEmpty() ? Set.of() : new HashSet<>(memberRepository.findExistingIds(ids));
+
+        int count = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            MemberDto dto = chunk.get(i);
+            String error = null;
+            if (isBlank(dto.getId()) || dto.getId().length() > 10) {
+                error = "ID는 1~10자여야 합니다";
+            } else if (isBlank(dto.getName())) {
+                error = "이름은 필수입니다";
+            } else if (existing.contains(dto.getId())) {
+                error = "이미 존재하는 ID입니다: " + dto.getId();
+            } else if (seen.contains(dto.getId()) || !accepted.add(dto.getId())) {
+                error = "요청 안에서 중복된 ID입니다: " + dto.getId();
+            }
+            if (error != null) {
+                errors.add(new RowError(firstRow + i, dto.getId(), error));
+                continue;
+            }
+
+            entityManager.persist(new Member(dto.getId(), dto.getName(), dto.getGender(),
+                                             dto.getPhoneNumber(), dto.getAddress()));
+            count++;
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        if (count > 0) {
+            listRevisionService.membersChanged();
+        }
+        return count;
+    }
+
+    private int importGroupChunk(List<GroupInfoDto> chunk, int firstRow, List<RowError> errors) {
+        Set<String> creatorIds = chunk.stream().map(GroupInfoDto::getCreatedById).filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<String> existingCreators = creatorIds.isEmpty() ? Set.of()
+            : new HashSet<>(memberRepository.findExistingIds(creatorIds));
+
+        List<GroupInfo> created = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            GroupInfoDto dto = chunk.get(i);
+            String error = null;
+            if (isBlank(dto.getName()) || dto.getName().length() > 100) {
+                error = "그룹명은 1~100자여야 합니다";
+            } else if (isBlank(dto.getCreatedById()) || !existingCreators.contains(dto.getCreatedById())) {
+                error = "존재하지 않는 회원입니다: " + dto.getCreatedById();
+            }
+            if (error != null) {
+                errors.add(new RowError(firstRow + i, dto.getName(), error));
+                continue;
+            }
+
+            GroupInfo group = new GroupInfo(null, dto.getName(), dto.getDescription(),
+                                            entityManager.getReference(Member.class, dto.getCreatedById()), null);
+            entityManager.persist(group);
+            created.add(group);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        AfterCommit.run(() -> created.forEach(group -> groupNameIndex.add(group.getId(), group.getName())));
+        if (!created.isEmpty()) {
+            listRevisionService.groupsChanged();
+        }
+        return created.size();
+    }
+
+    private int importMembershipChunk(List<MembershipRow> chunk, int firstRow, List<RowError> errors,
+                                      Set<String> seen, Set<String> accepted) {
+        Set<Long> groupIds = chunk.stream().map(row -> parseGroupId(row.groupId())).filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<String> memberIds = chunk.stream().map(MembershipRow::memberId).filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+
+        Map<Long, String> owners = new HashMap<>();
+        Set<String> existingMembers = new HashSet<>();
+        Set<String> existingPairs = new HashSet<>();
+        if (!groupIds.isEmpty() && !memberIds.isEmpty()) {
+            for (GroupOwner owner : groupInfoRepository.findOwnersByIdIn(groupIds)) {
+                owners.put(owner.getId(), owner.getOwnerId());
+            }
+            existingMembers.addAll(memberRepository.findExistingIds(memberIds));
+            for (Object[] pair : groupMemberRepository.findExistingPairs(groupIds, memberIds)) {
+                existingPairs.add(pair[0] + ":" + pair[1]);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, long[]> deltas = new HashMap<>();
+        List<ApprovedPair> approved = new ArrayList<>();
+        Map<Long, Set<GroupMemberStatus>> importedStatuses = new HashMap<>();
+        int count = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            MembershipRow row = chunk.get(i);
+            Long groupId = parseGroupId(row.groupId());
+            String memberId = row.memberId();
+            String key = (groupId != null ? groupId : row.groupId()) + ":" + memberId;
+            GroupMemberStatus status = parseStatus(row.status());
+            String error = null;
+            if (isBlank(row.groupId()) || isBlank(memberId)) {
+                error = "그룹 ID와 회원 ID는 필수입니다";
+            } else if (groupId == null) {
+                error = "잘못된 그룹 ID입니다: " + row.groupId();
+            } else if (status == null) {
+                error = "잘못된 상태입니다: " + row.status();
+            } else if (!owners.containsKey(groupId)) {
+                error = "존재하지 않는 그룹입니다: " + groupId;
+            } else if (!existingMembers.contains(memberId)) {
+                error = "존재하지 않는 회원입니다: " + memberId;
+            } else if (memberId.equals(owners.get(groupId))) {
+                error = "본인이 생성한 그룹에는 가입 신청할 수 없습니다";
+            } else if (existingPairs.contains(key) || seen.contains(key) || !accepted.add(key)) {
+                error = "이미 가입 신청한 그룹입니다";
+            }
+            if (error != null) {
+                errors.add(new RowError(firstRow + i, key, error));
+                continue;
+            }
+
+            GroupMember membership = new GroupMember(null,
+                entityManager.getReference(Member.class, memberId),
+                entityManager.getReference(GroupInfo.class, groupId),
+                status, now, status == GroupMemberStatus.PENDING ? null : now);
+            entityManager.persist(membership);
+
+            long[] delta = deltas.computeIfAbsent(groupId, id -> new long[2]);
+            if (status == GroupMemberStatus.APPROVED) {
+                delta[0]++;
+                approved.add(new ApprovedPair(groupId, memberId));
+            } else if (status == GroupMemberStatus.PENDING) {
+                delta[1]++;
+            }
+            importedStatuses.computeIfAbsent(groupId, id -> EnumSet.noneOf(GroupMemberStatus.class)).add(status);
+            count++;
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        deltas.forEach((groupId, delta) -> membershipCounterService.add(groupId, delta[0], delta[1]));
+        AfterCommit.run(() -> approved.forEach(pair -> membershipGraph.approve(pair.groupId(), pair.memberId())));
+        // 건별이 아닌 그룹/상태별 한 번만 그룹장에게 알림 (일괄 처리와 같이 구독자 큐를 한 요청이 가득 채우지 않도록)
+        importedStatuses.forEach((groupId, statuses) -> statuses.forEach(status ->
+            AfterCommit.run(() -> membershipEventHub.publish(owners.get(groupId), MembershipEventDto.Type.BULK_IMPORTED,
+                groupId, null, null, status))));
+        return count;
+    }
+
+    // 숫자가 아닌 그룹 ID는 null (행 단위 오류로 보고)
+    private static Long parseGroupId(String groupId) {
+        if (isBlank(groupId)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(groupId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static GroupMemberStatus parseStatus(String status) {
+        if (isBlank(status)) {
+            return GroupMemberStatus.PENDING;
+        }
+        try {
+            return GroupMemberStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // 가입 신청 한 행 (CSV 값 그대로, 그룹 ID 변환은 청크 처리 중에)
+    private record MembershipRow(String groupId, String memberId, String status) {
+    }
+
+    private record ApprovedPair(Long groupId, String memberId) {
+    }
+
+    // seen: 앞서 커밋된 청크가 저장한 키, accepted: 이 청크가 저장한 키 (커밋된 경우에만 seen에 합침)
+    @FunctionalInterface
+    private interface ChunkImporter<T> {
+        int importChunk(List<T> chunk, int firstRow, List<RowError> errors, Set<String> seen, Set<String> accepted);
+    }
+}
@@ -0,0 +1,119 @@
+package me.kmj.gather.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// NDJSON 내보내기
+// - 전진 전용 커서(fetch size 지정)로 DTO 프로젝션을 한 행씩 읽어 바로 출력 스트림에 기록
+// - 엔티티를 만들지 않고, 일정 행마다 출력과 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+// - 내보내기마다 제한 시간을 두고 넘으면 중단 (느린 클라이언트가 커넥션을 계속 잡지 않도록)
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final MemberRepository memberRepository;
+    private final GroupInfoRepository groupInfoRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Duration membersTimeout;
+    private final Duration groupsTimeout;
+    private final Duration membershipsTimeout;
+
+    @Autowired
+    public ExportService(MemberRepository memberRepository,
+                       GroupInfoRepository groupInfoRepository,
+                       GroupMemberRepository groupMemberRepository,
+                       EntityManager entityManager,
+                       ObjectMapper objectMapper,
+                       @Value("${gather.export.timeouts.members:${gather.export.timeout:PT5M}}") Duration membersTimeout,
+                       @Value("${gather.export.timeouts.groups:${gather.export.timeout:PT5M}}") Duration groupsTimeout,
+                       @Value("${gather.export.timeouts.memberships:${gather.export.timeout:PT5M}}") Duration membershipsTimeout) {
+        this.memberRepository = memberRepository;
+        this.groupInfoRepository = groupInfoRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.membersTimeout = membersTimeout;
+        this.groupsTimeout = groupsTimeout;
+        this.membershipsTimeout = membershipsTimeout;
+    }
+
+    // 전체 회원 내보내기
+    public long exportMembers(OutputStream out) {
+        try (Stream<?> rows = memberRepository.streamAllAsDto()) {
+            long count = writeNdjson(rows, out, membersTimeout);
+            logger.info("회원 내보내기 완료 - {}건", count);
+            return count;
+        }
+    }
+
+    // 전체 그룹 내보내기
+    public long exportGroups(OutputStream out) {
+        try (Stream<?> rows = groupInfoRepository.streamAllAsDto()) {
+            long count = writeNdjson(rows, out, groupsTimeout);
+            logger.info("그룹 내보내기 완료 - {}건", count);
+            return count;
+        }
+    }
+
+    // 전체 가입 신청 내보내기
+    public long exportMemberships(OutputStream out) {
+        try (Stream<?> rows = groupMemberRepository.streamAllAsDto()) {
+            long count = writeNdjson(rows, out, membershipsTimeout);
+            logger.info("가입 신청 내보내기 완료 - {}건", count);
+            return count;
+        }
+    }
+
+    // 예외가 나도 생성기를 닫아 버퍼에 남은 행까지 출력 (출력 스트림은 닫지 않음)
+    private long writeNdjson(Stream<?> rows, OutputStream out, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                if (System.nanoTime() - deadline >= 0) {
+                    logger.warn("내보내기 시간 초과 - {}건 기록 후 중단 (제한: {})", count, timeout);
+                    throw new RuntimeException("내보내기 제한 시간을 초과했습니다: " + timeout);
+                }
+                generator.writeObject(iterator.next());
+                generator.writeRaw('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            generator.flush();
+            return count;
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등
+            logger.warn("내보내기 중단 - {}건 기록 후 실패: {}", count, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,19 +1,45 @@
 package me.kmj.gather.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import me.kmj.gather.config.CacheConfig;
 import me.kmj.gather.entity.GroupInfo;
 import me.kmj.gather.entity.Member;
 import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupInfoRepository.GroupVersion;
 import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.MemberRepository;
+import me.kmj.gather.dto.CursorSlice;
 import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.dto.GroupSummaryDto;
+import me.kmj.gather.support.AfterCommit;
+import me.kmj.gather.support.Cursor;
+import me.kmj.gather.support.ReadRouting;
+import me.kmj.gather.support.ResourceVersion;
+import me.kmj.gather.support.SingleFlight;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -23,22 +49,48 @@ public class GroupInfoService {
     
     private final GroupInfoRepository groupInfoRepository;
     private final GroupMemberRepository groupMemberRepository;
+    private final MemberRepository memberRepository;
     private final MemberService memberService;
+    private final MembershipCounterService membershipCounterService;
+    private final GroupNameIndex groupNameIndex;
+    private final ListRevisionService listRevisionService;
+    private final MembershipGraph membershipGraph;
+    
+    // 인기 그룹 조회/검색이 몰릴 때 같은 조회를 한 번만 실행 (응답 DTO 경로만, 쓰기 경로는 자기 트랜잭션에서 조회)
+    private final SingleFlight<Long, Optional<GroupInfoDto>> groupDtoLoads;
+    private final SingleFlight<SearchKey, Page<GroupInfoDto>> searches;
+    private final SingleFlight<SearchKey, CursorSlice<GroupInfoDto>> cursorSearches;
     
     @Autowired
     public GroupInfoService(GroupInfoRepository groupInfoRepository,
                           GroupMemberRepository groupMemberRepository,
-                          MemberService memberService) {
+                          MemberRepository memberRepository,
+                          MemberService memberService,
+                          MembershipCounterService membershipCounterService,
+                          GroupNameIndex groupNameIndex,
+                          ListRevisionService listRevisionService,
+                          MembershipGraph membershipGraph,
+                          MeterRegistry meterRegistry,
+                          @Value("${gather.single-flight.max-wait:PT2S}") Duration maxWait) {
         this.groupInfoRepository = groupInfoRepository;
         this.groupMemberRepository = groupMemberRepository;
+        this.memberRepository = memberRepository;
         this.memberService = memberService;
+        this.membershipCounterService = membershipCounterService;
+        this.groupNameIndex = groupNameIndex;
+        this.listRevisionService = listRevisionService;
+        this.membershipGraph = membershipGraph;
+        this.groupDtoLoads = new SingleFlight<>("group-dto", maxWait, meterRegistry);
+        this.searches = new SingleFlight<>("group-search", maxWait, meterRegistry);
+        this.cursorSearches = new SingleFlight<>("group-search-cursor", maxWait, meterRegistry);
     }
     
     // 그룹 생성
     public GroupInfo createGroup(GroupInfoDto groupInfoDto, String createdById) {
         logger.info("그룹 생성 요청 - 그룹명: {}, 생성자: {}", groupInfoDto.getName(), createdById);
         
-        Optional<Member> creator = memberService.getMemberById(createdById);
+        // 연관관계에 넣을 생성자는 캐시가 아닌 현재 트랜잭션에서 조회
+        Optional<Member> creator = memberRepository.findById(createdById);
         if (creator.isEmpty()) {
             logger.warn("그룹 생성 실패 - 존재하지 않는 생성자: {}", createdById);
             throw new RuntimeException("존재하지 않는 회원입니다: " + createdById);
@@ -50,11 +102,14 @@ public class GroupInfoService {
         groupInfo.setCreatedBy(creator.get());
         
         GroupInfo savedGroup = groupInfoRepository.save(groupInfo);
+        AfterCommit.run(() -> groupNameIndex.add(savedGroup.getId(), savedGroup.getName()));
+        listRevisionService.groupsChanged();
         logger.info("그룹 생성 완료 - ID: {}, 그룹명: {}", savedGroup.getId(), savedGroup.getName());
         return savedGroup;
     }
     
     // 그룹 수정
+    @CacheEvict(cacheNames = CacheConfig.GROUPS, key = "#groupId")
     public GroupInfo updateGroup(Long groupId, GroupInfoDto groupInfoDto, String createdById) {
         logger.info("그룹 수정 요청 - ID: {}, 수정자: {}", groupId, createdById);
         
@@ -74,11 +129,14 @@ public class GroupInfoService {
         groupInfo.setDescription(groupInfoDto.getDescription());
         
         GroupInfo updatedGroup = groupInfoRepository.save(groupInfo);
+        AfterCommit.run(() -> groupNameIndex.add(updatedGroup.getId(), updatedGroup.getName()));
+        listRevisionService.groupsChanged();
         logger.info("그룹 수정 완료 - ID: {}", updatedGroup.getId());
         return updatedGroup;
     }
     
     // 그룹 삭제
+    @CacheEvict(cacheNames = CacheConfig.GROUPS, key = "#groupId")
     public void deleteGroup(Long groupId, String createdById) {
         logger.info("그룹 삭제 요청 - ID: {}, 삭제자: {}", groupId, createdById);
         
@@ -95,13 +153,23 @@ public class GroupInfoService {
         }
         
         groupInfoRepository.deleteById(groupId);
+        membershipCounterService.evict(groupId);
+        AfterCommit.run(() -> {
+            groupNameIndex.remove(groupId);
+            membershipGraph.removeGroup(groupId);
+        });
+        listRevisionService.groupsChanged();
         logger.info("그룹 삭제 완료 - ID: {}", groupId);
     }
     
-    // 그룹 상세 조회
-    public Optional<GroupInfo> getGroupById(Long groupId) {
+    // 그룹 요약 조회 (존재하는 그룹만 캐시, 엔티티 대신 변경 불가 DTO를 저장)
+    // - 공유 캐시에 적재하므로 복제본이 아닌 원본에서 읽음
+    @Cacheable(cacheNames = CacheConfig.GROUPS, key = "#groupId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<GroupSummaryDto> getGroupById(Long groupId) {
         logger.debug("그룹 상세 조회 요청 - ID: {}", groupId);
-        Optional<GroupInfo> groupInfo = groupInfoRepository.findById(groupId);
+        ReadRouting.primary();
+        Optional<GroupSummaryDto> groupInfo = groupInfoRepository.findById(groupId).map(GroupSummaryDto::from);
         if (groupInfo.isPresent()) {
             logger.debug("그룹 상세 조회 성공 - ID: {}, 그룹명: {}", groupId, groupInfo.get().getName());
         } else {
@@ -110,34 +178,175 @@ public class GroupInfoService {
         return groupInfo;
     }
     
+    // 그룹 상세 조회 (생성자 이름과 멤버 수 포함, 쿼리 1회, 동시 조회는 1회로 합침)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<GroupInfoDto> getGroupDtoById(Long groupId) {
+        logger.debug("그룹 상세 조회 요청 - ID: {}", groupId);
+        Optional<GroupInfoDto> groupInfo = groupDtoLoads.execute(groupId, () -> groupInfoRepository.findDtoById(groupId));
+        if (groupInfo.isPresent()) {
+            logger.debug("그룹 상세 조회 성공 - ID: {}, 그룹명: {}", groupId, groupInfo.get().getName());
+        } else {
+            logger.debug("그룹 상세 조회 실패 - ID: {} (존재하지 않음)", groupId);
+        }
+        return groupInfo;
+    }
+    
+    // 그룹 상세 응답의 조건부 조회 검증값 (버전/수정 시각/멤버 수만 조회, 엔티티 로딩 없음)
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getGroupVersion(Long groupId) {
+        return groupInfoRepository.findVersionById(groupId).map(GroupInfoService::versionOf);
+    }
+    
     // 페이징 처리된 그룹 목록 조회
-    public Page<GroupInfo> getAllGroups(Pageable pageable) {
+    // - 목록 응답의 검증값은 메모리 변경 번호이므로 목록 조회는 모든 쓰기를 반영한 곳에서 읽음 (복제본이 뒤처졌으면 원본)
+    @Transactional(readOnly = true)
+    public Page<GroupInfoDto> getAllGroups(Pageable pageable) {
         logger.debug("그룹 목록 조회 요청 - 페이지: {}, 크기: {}", pageable.getPageNumber(), pageable.getPageSize());
-        Page<GroupInfo> groups = groupInfoRepository.findAllByOrderByCreatedAtDesc(pageable);
+        ReadRouting.latest();
+        Page<GroupInfoDto> groups = groupInfoRepository.findAllDtos(pageable);
         logger.debug("조회된 그룹 수: {}", groups.getTotalElements());
         return groups;
     }
     
-    // 그룹명으로 그룹 검색
-    public Page<GroupInfo> searchGroupsByName(String keyword, Pageable pageable) {
+    // 그룹명으로 그룹 검색 (같은 키워드/페이지의 동시 검색은 1회로 합침)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Page<GroupInfoDto> searchGroupsByName(String keyword, Pageable pageable) {
         logger.debug("그룹명 검색 요청 - 키워드: {}", keyword);
-        Page<GroupInfo> groups = groupInfoRepository.findByNameContaining(keyword, pageable);
-        logger.debug("검색된 그룹 수: {}", groups.getTotalElements());
-        return groups;
+        ReadRouting.latest();
+        return searches.execute(new SearchKey(keyword, null, pageable.getOffset(), pageable.getPageSize()),
+            () -> search(keyword, pageable));
     }
     
     // 특정 사용자가 생성한 그룹 목록 조회
-    public Page<GroupInfo> getGroupsByCreator(String createdById, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<GroupInfoDto> getGroupsByCreator(String createdById, Pageable pageable) {
         logger.debug("사용자별 그룹 목록 조회 요청 - 생성자: {}", createdById);
+        ReadRouting.latest();
         
-        Optional<Member> creator = memberService.getMemberById(createdById);
-        if (creator.isEmpty()) {
-            logger.warn("사용자별 그룹 목록 조회 실패 - 존재하지 않는 사용자: {}", createdById);
-            throw new RuntimeException("존재하지 않는 회원입니다: " + createdById);
+        Page<GroupInfoDto> groups = groupInfoRepository.findDtosByCreatedById(createdById, pageable);
+        if (groups.isEmpty()) {
+            requireCreator(createdById);
         }
-        
-        Page<GroupInfo> groups = groupInfoRepository.findByCreatedByOrderByCreatedAtDesc(creator.get(), pageable);
         logger.debug("조회된 그룹 수: {}", groups.getTotalElements());
         return groups;
     }
-} 
\ No newline at end of file
+    
+    // 커서 기반 그룹 목록 조회
+    @Transactional(readOnly = true)
+    public CursorSlice<GroupInfoDto> getAllGroups(String after, int size) {
+        logger.debug("커서 기반 그룹 목록 조회 요청 - 커서: {}, 크기: {}", after, size);
+        ReadRouting.latest();
+        Cursor cursor = Cursor.decode(after);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<GroupInfoDto> groups = cursor == null
+            ? groupInfoRepository.findFirstSlice(pageable)
+            : groupInfoRepository.findSliceAfter(cursor.timestamp(), cursor.id(), pageable);
+        logger.debug("조회된 그룹 수: {}", groups.getNumberOfElements());
+        return CursorSlice.of(groups, GroupInfoService::cursorOf);
+    }
+    
+    // 커서 기반 그룹명 검색 (같은 키워드/커서의 동시 검색은 1회로 합침)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorSlice<GroupInfoDto> searchGroupsByName(String keyword, String after, int size) {
+        logger.debug("커서 기반 그룹명 검색 요청 - 키워드: {}, 커서: {}", keyword, after);
+        ReadRouting.latest();
+        return cursorSearches.execute(new SearchKey(keyword, after, 0, size), () -> search(keyword, after, size));
+    }
+    
+    // 커서 기반 사용자별 그룹 목록 조회
+    @Transactional(readOnly = true)
+    public CursorSlice<GroupInfoDto> getGroupsByCreator(String createdById, String after, int size) {
+        logger.debug("커서 기반 사용자별 그룹 목록 조회 요청 - 생성자: {}, 커서: {}", createdById, after);
+        ReadRouting.latest();
+        
+        Cursor cursor = Cursor.decode(after);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<GroupInfoDto> groups = cursor == null
+            ? groupInfoRepository.findFirstSliceByCreatedById(createdById, pageable)
+            : groupInfoRepository.findSliceByCreatedByIdAfter(createdById, cursor.timestamp(), cursor.id(), pageable);
+        if (!groups.hasContent()) {
+            requireCreator(createdById);
+        }
+        logger.debug("조회된 그룹 수: {}", groups.getNumberOfElements());
+        return CursorSlice.of(groups, GroupInfoService::cursorOf);
+    }
+    
+    // 그룹명 검색 실행 (색인으로 처리할 수 없는 키워드는 DB 검색)
+    private Page<GroupInfoDto> search(String keyword, Pageable pageable) {
+        // 색인으로 현재 페이지의 ID만 찾은 뒤 해당 그룹만 조회
+        Optional<GroupNameIndex.SearchResult> hits = groupNameIndex.search(
+            keyword, Long.MAX_VALUE, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.isPresent()) {
+            Page<GroupInfoDto> groups = new PageImpl<>(findAllInOrder(hits.get().ids()), pageable, hits.get().total());
+            logger.debug("검색된 그룹 수 (색인): {}", groups.getTotalElements());
+            return groups;
+        }
+        
+        Page<GroupInfoDto> groups = groupInfoRepository.findDtosByNameContaining(keyword, pageable);
+        logger.debug("검색된 그룹 수: {}", groups.getTotalElements());
+        return groups;
+    }
+    
+    // 커서 기반 그룹명 검색 실행
+    private CursorSlice<GroupInfoDto> search(String keyword, String after, int size) {
+        Cursor cursor = Cursor.decode(after);
+        Pageable pageable = PageRequest.of(0, size);
+        
+        // 색인 결과는 ID 역순이므로 커서의 ID 이전부터 조회
+        Optional<GroupNameIndex.SearchResult> hits = groupNameIndex.search(
+            keyword, cursor == null ? Long.MAX_VALUE : cursor.id(), 0, size + 1);
+        if (hits.isPresent()) {
+            List<Long> ids = hits.get().ids();
+            boolean hasNext = ids.size() > size;
+            List<GroupInfoDto> content = findAllInOrder(hasNext ? ids.subList(0, size) : ids);
+            logger.debug("검색된 그룹 수 (색인): {}", content.size());
+            return CursorSlice.of(new SliceImpl<>(content, pageable, hasNext), GroupInfoService::cursorOf);
+        }
+        
+        Slice<GroupInfoDto> groups = cursor == null
+            ? groupInfoRepository.findFirstSliceByNameContaining(keyword, pageable)
+            : groupInfoRepository.findSliceByNameContainingAfter(keyword, cursor.timestamp(), cursor.id(), pageable);
+        logger.debug("검색된 그룹 수: {}", groups.getNumberOfElements());
+        return CursorSlice.of(groups, GroupInfoService::cursorOf);
+    }
+    
+    // 결과가 비었을 때만 생성자 존재 여부 확인 (그룹이 있으면 생성자도 존재하므로 추가 쿼리 생략)
+    private void requireCreator(String createdById) {
+        if (memberService.getMemberById(createdById).isEmpty()) {
+            logger.warn("사용자별 그룹 목록 조회 실패 - 존재하지 않는 사용자: {}", createdById);
+            throw new RuntimeException("존재하지 않는 회원입니다: " + createdById);
+        }
+    }
+    
+    // ID 순서를 유지하여 그룹 조회
+    private List<GroupInfoDto> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, GroupInfoDto> groupsById = groupInfoRepository.findDtosByIdIn(ids).stream()
+            .collect(Collectors.toMap(GroupInfoDto::getId, Function.identity()));
+        return ids.stream()
+            .map(groupsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+    
+    // 그룹 정보 버전은 멤버 수 변경 시 증가하지 않으므로 멤버 수를 ETag에 함께 넣음
+    private static ResourceVersion versionOf(GroupVersion version) {
+        LocalDateTime lastModified = version.getCreatorUpdatedAt() != null
+            && version.getCreatorUpdatedAt().isAfter(version.getUpdatedAt())
+            ? version.getCreatorUpdatedAt()
+            : version.getUpdatedAt();
+        long creatorVersion = version.getCreatorVersion() != null ? version.getCreatorVersion() : -1;
+        return ResourceVersion.of(lastModified, version.getVersion(), version.getApproved(), version.getPending(),
+            creatorVersion);
+    }
+    
+    private static Cursor cursorOf(GroupInfoDto groupInfo) {
+        return new Cursor(groupInfo.getCreatedAt(), groupInfo.getId());
+    }
+    
+    // 동시 검색 합치기 키 (페이지 검색은 after 없이 offset, 커서 검색은 offset 없이 after)
+    private record SearchKey(String keyword, String after, long offset, int size) {
+    }
+}
@@ -4,19 +4,47 @@ import me.kmj.gather.entity.GroupMember;
 import me.kmj.gather.entity.GroupInfo;
 import me.kmj.gather.entity.Member;
 import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.repository.GroupInfoRepository;
 import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.GroupMemberRepository.MembershipOwnership;
+import me.kmj.gather.repository.MemberRepository;
+import me.kmj.gather.dto.BulkProcessRequestDto;
+import me.kmj.gather.dto.BulkProcessResultDto;
+import me.kmj.gather.dto.BulkProcessResultDto.Outcome;
+import me.kmj.gather.dto.CursorSlice;
 import me.kmj.gather.dto.GroupMemberDto;
+import me.kmj.gather.dto.GroupOverlapDto;
+import me.kmj.gather.dto.MembershipEventDto;
+import me.kmj.gather.support.AfterCommit;
+import me.kmj.gather.support.Cursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -24,44 +52,53 @@ public class GroupMemberService {
     
     private static final Logger logger = LoggerFactory.getLogger(GroupMemberService.class);
     
+    private static final int BULK_BATCH_SIZE = 1000;
+    
+    private static final String UNIQUE_VIOLATION = "23505";
+    
     private final GroupMemberRepository groupMemberRepository;
-    private final GroupInfoService groupInfoService;
+    private final GroupInfoRepository groupInfoRepository;
+    private final MemberRepository memberRepository;
     private final MemberService memberService;
+    private final MembershipCounterService membershipCounterService;
+    private final MembershipGraph membershipGraph;
+    private final MembershipEventHub membershipEventHub;
     
     @Autowired
     public GroupMemberService(GroupMemberRepository groupMemberRepository,
-                            GroupInfoService groupInfoService,
-                            MemberService memberService) {
+                            GroupInfoRepository groupInfoRepository,
+                            MemberRepository memberRepository,
+                            MemberService memberService,
+                            MembershipCounterService membershipCounterService,
+                            MembershipGraph membershipGraph,
+                            MembershipEventHub membershipEventHub) {
         this.groupMemberRepository = groupMemberRepository;
-        this.groupInfoService = groupInfoService;
+        this.groupInfoRepository = groupInfoRepository;
+        this.memberRepository = memberRepository;
         this.memberService = memberService;
+        this.membershipCounterService = membershipCounterService;
+        this.membershipGraph = membershipGraph;
+        this.membershipEventHub = membershipEventHub;
     }
     
     // 그룹 가입 신청
     public GroupMember requestGroupMembership(Long groupId, String memberId) {
         logger.info("그룹 가입 신청 요청 - 그룹: {}, 회원: {}", groupId, memberId);
         
-        // 그룹 존재 확인
-        Optional<GroupInfo> group = groupInfoService.getGroupById(groupId);
+        // 그룹 존재 확인 (연관관계에 넣을 엔티티는 캐시가 아닌 현재 트랜잭션에서 조회)
+        Optional<GroupInfo> group = groupInfoRepository.findWithCreatorById(groupId);
         if (group.isEmpty()) {
             logger.warn("그룹 가입 신청 실패 - 존재하지 않는 그룹: {}", groupId);
             throw new RuntimeException("존재하지 않는 그룹입니다: " + groupId);
         }
         
         // 회원 존재 확인
-        Optional<Member> member = memberService.getMemberById(memberId);
+        Optional<Member> member = memberRepository.findById(memberId);
         if (member.isEmpty()) {
             logger.warn("그룹 가입 신청 실패 - 존재하지 않는 회원: {}", memberId);
             throw new RuntimeException("존재하지 않는 회원입니다: " + memberId);
         }
         
-        // 이미 신청했는지 확인
-        Optional<GroupMember> existingMembership = groupMemberRepository.findByGroupAndMember(group.get(), member.get());
-        if (existingMembership.isPresent()) {
-            logger.warn("그룹 가입 신청 실패 - 이미 신청됨: 그룹 {}, 회원 {}", groupId, memberId);
-            throw new RuntimeException("이미 가입 신청한 그룹입니다");
-        }
-        
         // 본인이 생성한 그룹인지 확인
         if (group.get().getCreatedBy().getId().equals(memberId)) {
             logger.warn("그룹 가입 신청 실패 - 본인이 생성한 그룹: 그룹 {}, 회원 {}", groupId, memberId);
@@ -73,101 +110,361 @@ public class GroupMemberService {
         groupMember.setMember(member.get());
         groupMember.setStatus(GroupMemberStatus.PENDING);
         
-        GroupMember savedMembership = groupMemberRepository.save(groupMember);
+        // 중복 신청은 미리 조회하지 않고 (그룹, 회원) 유일 제약으로 판단 (동시 신청도 한 건만 저장)
+        GroupMember savedMembership;
+        try {
+            savedMembership = groupMemberRepository.saveAndFlush(groupMember);
+        } catch (DataIntegrityViolationException e) {
+            if (!isUniqueViolation(e)) {
+                throw e;
+            }
+            logger.warn("그룹 가입 신청 실패 - 이미 신청됨: 그룹 {}, 회원 {}", groupId, memberId);
+            throw new RuntimeException("이미 가입 신청한 그룹입니다");
+        }
+        membershipCounterService.add(groupId, 0, 1);
+        String ownerId = group.get().getCreatedBy().getId();
+        AfterCommit.run(() -> membershipEventHub.publish(ownerId, MembershipEventDto.Type.REQUESTED, groupId,
+            savedMembership.getId(), memberId, GroupMemberStatus.PENDING));
         logger.info("그룹 가입 신청 완료 - ID: {}, 그룹: {}, 회원: {}", 
                    savedMembership.getId(), groupId, memberId);
         return savedMembership;
     }
     
     // 그룹 가입 승인/거절
-    public GroupMember processGroupMembership(Long membershipId, GroupMemberStatus status, String processorId) {
+    // - 대기중이고 처리자가 그룹 생성자인 신청만 변경하는 조건부 UPDATE 1회로 처리 (동시 처리 시 한 요청만 반영)
+    // - 변경된 행이 없을 때만 존재 여부/권한/상태를 조회하여 실패 사유 판단
+    public GroupMemberDto processGroupMembership(Long membershipId, GroupMemberStatus status, String processorId) {
         logger.info("그룹 가입 처리 요청 - 멤버십ID: {}, 상태: {}, 처리자: {}", membershipId, status, processorId);
         
-        Optional<GroupMember> membership = groupMemberRepository.findById(membershipId);
-        if (membership.isEmpty()) {
-            logger.warn("그룹 가입 처리 실패 - 존재하지 않는 멤버십: {}", membershipId);
-            throw new RuntimeException("존재하지 않는 가입 신청입니다: " + membershipId);
+        if (status != GroupMemberStatus.APPROVED && status != GroupMemberStatus.REJECTED) {
+            logger.warn("그룹 가입 처리 실패 - 잘못된 상태: {}", status);
+            throw new RuntimeException("승인 또는 거절만 처리할 수 있습니다: " + status);
         }
         
-        GroupMember membershipEntity = membership.get();
+        List<Object[]> rows = groupMemberRepository.processIfPendingAndOwned(
+            membershipId, status.name(), LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), processorId);
+        if (rows.isEmpty()) {
+            throw processFailure(membershipId, processorId);
+        }
         
-        // 처리 권한 확인 (그룹 생성자만 처리 가능)
-        if (!membershipEntity.getGroup().getCreatedBy().getId().equals(processorId)) {
-            logger.warn("그룹 가입 처리 실패 - 권한 없음: 멤버십ID {}, 처리자 {}", membershipId, processorId);
-            throw new RuntimeException("그룹 가입 신청을 처리할 권한이 없습니다");
+        GroupMemberDto processedMembership = toDto(rows.get(0));
+        membershipCounterService.add(processedMembership.getGroupId(),
+                status == GroupMemberStatus.APPROVED ? 1 : 0, -1);
+        if (status == GroupMemberStatus.APPROVED) {
+            AfterCommit.run(() -> membershipGraph.approve(processedMembership.getGroupId(), processedMembership.getMemberId()));
         }
+        AfterCommit.run(() -> membershipEventHub.publish(processorId, MembershipEventDto.Type.PROCESSED,
+            processedMembership.getGroupId(), processedMembership.getId(), processedMembership.getMemberId(), status));
+        logger.info("그룹 가입 처리 완료 - ID: {}, 상태: {}", processedMembership.getId(), status);
+        return processedMembership;
+    }
+    
+    // 그룹 가입 일괄 승인/거절 (권한 확인 후 대기중인 신청만 배치 단위 조건부 UPDATE)
+    public BulkProcessResultDto processGroupMembershipsInBulk(BulkProcessRequestDto request, String processorId) {
+        GroupMemberStatus status = request.getStatus();
+        logger.info("그룹 가입 일괄 처리 요청 - 그룹: {}, 상태: {}, 처리자: {}", request.getGroupId(), status, processorId);
         
-        // 이미 처리된 신청인지 확인
-        if (membershipEntity.getStatus() != GroupMemberStatus.PENDING) {
-            logger.warn("그룹 가입 처리 실패 - 이미 처리됨: 멤버십ID {}, 현재상태 {}", membershipId, membershipEntity.getStatus());
-            throw new RuntimeException("이미 처리된 가입 신청입니다");
+        if (status != GroupMemberStatus.APPROVED && status != GroupMemberStatus.REJECTED) {
+            logger.warn("그룹 가입 일괄 처리 실패 - 잘못된 상태: {}", status);
+            throw new RuntimeException("승인 또는 거절만 처리할 수 있습니다: " + status);
         }
         
-        membershipEntity.setStatus(status);
-        membershipEntity.setProcessedAt(LocalDateTime.now());
+        // 같은 요청에서 변경된 행을 식별할 수 있도록 DB 정밀도(마이크로초)에 맞춘 처리 시각
+        LocalDateTime processedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Map<Long, Outcome> results = new LinkedHashMap<>();
+        Map<Long, Long> processedByGroup = new HashMap<>();
         
-        GroupMember processedMembership = groupMemberRepository.save(membershipEntity);
-        logger.info("그룹 가입 처리 완료 - ID: {}, 상태: {}", processedMembership.getId(), status);
-        return processedMembership;
+        if (request.getGroupId() != null) {
+            // 그룹 전체: 권한은 그룹 단위로 한 번만 확인 (캐시가 아닌 현재 트랜잭션에서 조회)
+            Long groupId = request.getGroupId();
+            Optional<String> ownerId = groupInfoRepository.findOwnerIdById(groupId);
+            if (ownerId.isEmpty()) {
+                logger.warn("그룹 가입 일괄 처리 실패 - 존재하지 않는 그룹: {}", groupId);
+                throw new RuntimeException("존재하지 않는 그룹입니다: " + groupId);
+            }
+            if (!ownerId.get().equals(processorId)) {
+                logger.warn("그룹 가입 일괄 처리 실패 - 권한 없음: 그룹 {}, 처리자 {}", groupId, processorId);
+                throw new RuntimeException("그룹 가입 신청을 처리할 권한이 없습니다");
+            }
+            
+            // 대기중인 ID를 ID 순으로 한 배치씩 읽어 처리 (전체 ID 목록을 메모리에 올리지 않음)
+            Pageable batchSize = PageRequest.of(0, BULK_BATCH_SIZE);
+            List<Long> batch = groupMemberRepository.findIdsByGroupIdAndStatusAfter(
+                groupId, GroupMemberStatus.PENDING, 0L, batchSize);
+            while (!batch.isEmpty()) {
+                List<Long> processed = updateIfPending(batch, status, processedAt, results);
+                processedByGroup.merge(groupId, (long) processed.size(), Long::sum);
+                approveInGraphAfterCommit(processed, status);
+                if (batch.size() < BULK_BATCH_SIZE) {
+                    break;
+                }
+                batch = groupMemberRepository.findIdsByGroupIdAndStatusAfter(
+                    groupId, GroupMemberStatus.PENDING, batch.get(batch.size() - 1), batchSize);
+            }
+        } else {
+            // ID 목록: 배치마다 한 번의 조회로 존재 여부, 권한, 상태 확인
+            List<Long> membershipIds = request.getMembershipIds() == null ? List.of()
+                : new ArrayList<>(new LinkedHashSet<>(request.getMembershipIds()));
+            membershipIds.remove(null);
+            if (membershipIds.isEmpty()) {
+                logger.warn("그룹 가입 일괄 처리 실패 - 처리할 가입 신청 없음");
+                throw new RuntimeException("처리할 가입 신청이 없습니다");
+            }
+            
+            for (List<Long> batch : partition(membershipIds)) {
+                Map<Long, MembershipOwnership> ownerships = groupMemberRepository.findOwnershipByIdIn(batch).stream()
+                    .collect(Collectors.toMap(MembershipOwnership::getId, Function.identity()));
+                
+                List<Long> eligible = new ArrayList<>();
+                for (Long id : batch) {
+                    MembershipOwnership ownership = ownerships.get(id);
+                    if (ownership == null) {
+                        results.put(id, Outcome.NOT_FOUND);
+                    } else if (!processorId.equals(ownership.getOwnerId())) {
+                        results.put(id, Outcome.FORBIDDEN);
+                    } else if (ownership.getStatus() != GroupMemberStatus.PENDING) {
+                        results.put(id, Outcome.ALREADY_PROCESSED);
+                    } else {
+                        eligible.add(id);
+                    }
+                }
+                
+                List<Long> processed = updateIfPending(eligible, status, processedAt, results);
+                for (Long id : processed) {
+                    processedByGroup.merge(ownerships.get(id).getGroupId(), 1L, Long::sum);
+                }
+                approveInGraphAfterCommit(processed, status);
+            }
+        }
+        
+        processedByGroup.forEach((groupId, count) ->
+            membershipCounterService.add(groupId, status == GroupMemberStatus.APPROVED ? count : 0, -count));
+        // 일괄 처리는 건별이 아닌 그룹별 한 번만 알림 (구독자 큐를 한 요청이 가득 채우지 않도록)
+        processedByGroup.forEach((groupId, count) -> {
+            if (count > 0) {
+                AfterCommit.run(() -> membershipEventHub.publish(processorId, MembershipEventDto.Type.BULK_PROCESSED,
+                    groupId, null, null, status));
+            }
+        });
+        int processedCount = (int) results.values().stream().filter(outcome -> outcome == Outcome.PROCESSED).count();
+        logger.info("그룹 가입 일괄 처리 완료 - 요청: {}건, 처리: {}건, 상태: {}", results.size(), processedCount, status);
+        return new BulkProcessResultDto(status, results.size(), processedCount, results);
     }
     
     // 특정 그룹의 멤버 목록 조회
+    @Transactional(readOnly = true)
     public Page<GroupMember> getMembersByGroup(Long groupId, Pageable pageable) {
         logger.debug("그룹별 멤버 목록 조회 요청 - 그룹: {}", groupId);
         
-        Optional<GroupInfo> group = groupInfoService.getGroupById(groupId);
-        if (group.isEmpty()) {
-            logger.warn("그룹별 멤버 목록 조회 실패 - 존재하지 않는 그룹: {}", groupId);
-            throw new RuntimeException("존재하지 않는 그룹입니다: " + groupId);
+        Page<GroupMember> members = groupMemberRepository.findByGroupIdOrderByRequestedAtDesc(groupId, pageable);
+        if (!members.hasContent()) {
+            requireGroup(groupId);
         }
-        
-        Page<GroupMember> members = groupMemberRepository.findByGroupOrderByRequestedAtDesc(group.get(), pageable);
         logger.debug("조회된 멤버 수: {}", members.getTotalElements());
         return members;
     }
     
     // 특정 회원의 그룹 가입 신청 목록 조회
+    @Transactional(readOnly = true)
     public Page<GroupMember> getMembershipsByMember(String memberId, Pageable pageable) {
         logger.debug("회원별 그룹 가입 신청 목록 조회 요청 - 회원: {}", memberId);
         
-        Optional<Member> member = memberService.getMemberById(memberId);
-        if (member.isEmpty()) {
+        if (memberService.getMemberById(memberId).isEmpty()) {
             logger.warn("회원별 그룹 가입 신청 목록 조회 실패 - 존재하지 않는 회원: {}", memberId);
             throw new RuntimeException("존재하지 않는 회원입니다: " + memberId);
         }
         
-        Page<GroupMember> memberships = groupMemberRepository.findByMemberOrderByRequestedAtDesc(member.get(), pageable);
+        Page<GroupMember> memberships = groupMemberRepository.findByMemberIdOrderByRequestedAtDesc(memberId, pageable);
         logger.debug("조회된 가입 신청 수: {}", memberships.getTotalElements());
         return memberships;
     }
     
-    // 특정 그룹의 승인된 멤버 수 조회
-    public long getApprovedMembersCount(Long groupId) {
-        logger.debug("승인된 멤버 수 조회 요청 - 그룹: {}", groupId);
+    // 커서 기반 특정 그룹의 멤버 목록 조회
+    @Transactional(readOnly = true)
+    public CursorSlice<GroupMember> getMembersByGroup(Long groupId, String after, int size) {
+        logger.debug("커서 기반 그룹별 멤버 목록 조회 요청 - 그룹: {}, 커서: {}", groupId, after);
         
-        Optional<GroupInfo> group = groupInfoService.getGroupById(groupId);
-        if (group.isEmpty()) {
-            logger.warn("승인된 멤버 수 조회 실패 - 존재하지 않는 그룹: {}", groupId);
-            throw new RuntimeException("존재하지 않는 그룹입니다: " + groupId);
+        Cursor cursor = Cursor.decode(after);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<GroupMember> members = cursor == null
+            ? groupMemberRepository.findFirstSliceByGroupId(groupId, pageable)
+            : groupMemberRepository.findSliceByGroupIdAfter(groupId, cursor.timestamp(), cursor.id(), pageable);
+        if (!members.hasContent()) {
+            requireGroup(groupId);
+        }
+        logger.debug("조회된 멤버 수: {}", members.getNumberOfElements());
+        return CursorSlice.of(members, GroupMemberService::cursorOf);
+    }
+    
+    // 커서 기반 특정 회원의 그룹 가입 신청 목록 조회
+    @Transactional(readOnly = true)
+    public CursorSlice<GroupMember> getMembershipsByMember(String memberId, String after, int size) {
+        logger.debug("커서 기반 회원별 그룹 가입 신청 목록 조회 요청 - 회원: {}, 커서: {}", memberId, after);
+        
+        if (memberService.getMemberById(memberId).isEmpty()) {
+            logger.warn("회원별 그룹 가입 신청 목록 조회 실패 - 존재하지 않는 회원: {}", memberId);
+            throw new RuntimeException("존재하지 않는 회원입니다: " + memberId);
         }
         
-        long count = groupMemberRepository.countApprovedMembers(group.get());
+        Cursor cursor = Cursor.decode(after);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<GroupMember> memberships = cursor == null
+            ? groupMemberRepository.findFirstSliceByMemberId(memberId, pageable)
+            : groupMemberRepository.findSliceByMemberIdAfter(memberId, cursor.timestamp(), cursor.id(), pageable);
+        logger.debug("조회된 가입 신청 수: {}", memberships.getNumberOfElements());
+        return CursorSlice.of(memberships, GroupMemberService::cursorOf);
+    }
+    
+    // 특정 그룹의 승인된 멤버 수 조회
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getApprovedMembersCount(Long groupId) {
+        logger.debug("승인된 멤버 수 조회 요청 - 그룹: {}", groupId);
+        long count = membershipCounterService.getApprovedCount(groupId);
         logger.debug("승인된 멤버 수: {}", count);
         return count;
     }
     
     // 특정 그룹의 대기중인 가입 신청 수 조회
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getPendingMembersCount(Long groupId) {
         logger.debug("대기중인 가입 신청 수 조회 요청 - 그룹: {}", groupId);
-        
-        Optional<GroupInfo> group = groupInfoService.getGroupById(groupId);
-        if (group.isEmpty()) {
-            logger.warn("대기중인 가입 신청 수 조회 실패 - 존재하지 않는 그룹: {}", groupId);
+        long count = membershipCounterService.getPendingCount(groupId);
+        logger.debug("대기중인 가입 신청 수: {}", count);
+        return count;
+    }
+    
+    // 회원이 그룹의 승인된 멤버인지 확인 (가입 관계 그래프, 재구성 전에는 DB 조회)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public boolean isApprovedMember(Long groupId, String memberId) {
+        return membershipGraph.isApprovedMember(groupId, memberId)
+            .orElseGet(() -> groupMemberRepository.existsApproved(groupId, memberId));
+    }
+    
+    // 두 회원이 함께 승인된 그룹 ID 목록 조회
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<Long> getSharedGroupIds(String memberId, String otherMemberId) {
+        logger.debug("공통 그룹 조회 요청 - 회원: {}, {}", memberId, otherMemberId);
+        return membershipGraph.findSharedGroups(memberId, otherMemberId)
+            .orElseGet(() -> groupMemberRepository.findSharedGroupIds(memberId, otherMemberId));
+    }
+    
+    // 두 그룹의 승인 멤버 수와 공통 멤버 수 조회
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public GroupOverlapDto getGroupOverlap(Long groupId, Long otherGroupId) {
+        logger.debug("그룹 공통 멤버 조회 요청 - 그룹: {}, {}", groupId, otherGroupId);
+        MembershipGraph.Overlap overlap = membershipGraph.overlap(groupId, otherGroupId)
+            .orElseGet(() -> new MembershipGraph.Overlap(
+                membershipCounterService.getApprovedCount(groupId),
+                membershipCounterService.getApprovedCount(otherGroupId),
+                groupMemberRepository.countSharedMembers(groupId, otherGroupId)));
+        return new GroupOverlapDto(groupId, otherGroupId, overlap.members(), overlap.otherMembers(), overlap.shared());
+    }
+    
+    // 그룹장의 가입 신청/처리 이벤트 구독 (count 폴링 대체)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public SseEmitter subscribeEvents(String ownerId, Long lastEventId) {
+        if (memberService.getMemberById(ownerId).isEmpty()) {
+            logger.warn("가입 이벤트 구독 실패 - 존재하지 않는 회원: {}", ownerId);
+            throw new RuntimeException("존재하지 않는 회원입니다: " + ownerId);
+        }
+        return membershipEventHub.subscribe(ownerId, lastEventId);
+    }
+    
+    // 목록이 비었을 때만 그룹 존재 여부 확인 (멤버가 있으면 그룹도 존재하므로 추가 쿼리 생략)
+    private void requireGroup(Long groupId) {
+        if (!groupInfoRepository.existsById(groupId)) {
+            logger.warn("그룹별 멤버 목록 조회 실패 - 존재하지 않는 그룹: {}", groupId);
             throw new RuntimeException("존재하지 않는 그룹입니다: " + groupId);
         }
+    }
+    
+    // 승인된 (그룹, 회원) 조합을 배치당 1회 조회하여 커밋 후 가입 관계 그래프에 반영
+    private void approveInGraphAfterCommit(List<Long> processed, GroupMemberStatus status) {
+        if (status != GroupMemberStatus.APPROVED || processed.isEmpty()) {
+            return;
+        }
+        List<Object[]> pairs = groupMemberRepository.findGroupAndMemberIdsByIdIn(processed);
+        AfterCommit.run(() -> pairs.forEach(pair -> membershipGraph.approve((Long) pair[0], (String) pair[1])));
+    }
+    
+    // 대기중인 가입 신청만 변경하고 실제로 변경된 ID 목록 반환
+    private List<Long> updateIfPending(List<Long> ids, GroupMemberStatus status, LocalDateTime processedAt,
+                                       Map<Long, Outcome> results) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
         
-        long count = groupMemberRepository.countPendingMembers(group.get());
-        logger.debug("대기중인 가입 신청 수: {}", count);
-        return count;
+        int updated = groupMemberRepository.updateStatusIfPending(ids, status, processedAt);
+        
+        // 조회 이후 다른 요청이 먼저 처리한 신청이 있을 때만 실제 반영된 행을 다시 확인
+        List<Long> processed = updated == ids.size()
+            ? ids
+            : groupMemberRepository.findIdsByIdInAndStatusAndProcessedAt(ids, status, processedAt);
+        Set<Long> processedIds = new HashSet<>(processed);
+        for (Long id : ids) {
+            results.put(id, processedIds.contains(id) ? Outcome.PROCESSED : Outcome.ALREADY_PROCESSED);
+        }
+        return processed;
+    }
+    
+    // 유일 제약 위반 여부 (SQLSTATE 23505)
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // 조건부 UPDATE가 반영되지 않은 원인 판단
+    private RuntimeException processFailure(Long membershipId, String processorId) {
+        List<MembershipOwnership> ownerships = groupMemberRepository.findOwnershipByIdIn(List.of(membershipId));
+        if (ownerships.isEmpty()) {
+            logger.warn("그룹 가입 처리 실패 - 존재하지 않는 멤버십: {}", membershipId);
+            return new RuntimeException("존재하지 않는 가입 신청입니다: " + membershipId);
+        }
+        
+        MembershipOwnership ownership = ownerships.get(0);
+        if (!processorId.equals(ownership.getOwnerId())) {
+            logger.warn("그룹 가입 처리 실패 - 권한 없음: 멤버십ID {}, 처리자 {}", membershipId, processorId);
+            return new RuntimeException("그룹 가입 신청을 처리할 권한이 없습니다");
+        }
+        
+        logger.warn("그룹 가입 처리 실패 - 이미 처리됨: 멤버십ID {}, 현재상태 {}", membershipId, ownership.getStatus());
+        return new RuntimeException("이미 처리된 가입 신청입니다");
+    }
+    
+    private static GroupMemberDto toDto(Object[] row) {
+        return new GroupMemberDto(
+            ((Number) row[0]).longValue(),
+            ((Number) row[1]).longValue(),
+            (String) row[2],
+            (String) row[3],
+            (String) row[4],
+            String.valueOf(row[5]),
+            toLocalDateTime(row[6]),
+            toLocalDateTime(row[7])
+        );
+    }
+    
+    // 네이티브 조회 결과의 시각 변환 (드라이버/Hibernate 버전에 따라 Timestamp 또는 LocalDateTime)
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+    
+    private static List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(from + BULK_BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+    
+    private static Cursor cursorOf(GroupMember groupMember) {
+        return new Cursor(groupMember.getRequestedAt(), groupMember.getId());
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
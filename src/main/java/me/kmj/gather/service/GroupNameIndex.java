@@ -0,0 +1,230 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.repository.GroupInfoRepository;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// 그룹명 n-gram 역색인
+// - 그룹명을 NFC 정규화한 뒤 코드 포인트 단위 2-gram, 3-gram으로 색인 (한글 음절 단위)
+// - 2~3자 키워드는 n-gram 하나로 정확히 일치, 4자 이상은 3-gram 교집합 후 원문 포함 여부 확인
+// - 결과는 그룹 ID 역순 (생성 순서 최신순)
+// - 1자 키워드나 색인 적재 전에는 Optional.empty()를 반환하여 DB 검색으로 대체
+@Component
+public class GroupNameIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupNameIndex.class);
+
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+
+    private final GroupInfoRepository groupInfoRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Integer, String> names = new HashMap<>();
+    private volatile boolean ready;
+
+    @Autowired
+    public GroupNameIndex(GroupInfoRepository groupInfoRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.groupInfoRepository = groupInfoRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 그룹명 색인 추가 (이미 있으면 교체)
+    public void add(Long groupId, String name) {
+        int id = toIndexId(groupId);
+        String normalized = normalize(name);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            names.put(id, normalized);
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new RoaringBitmap()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 그룹명 색인 제거
+    public void remove(Long groupId) {
+        int id = toIndexId(groupId);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 키워드를 포함하는 그룹 ID 검색 (beforeId 미만, offset부터 limit개)
+    public Optional<SearchResult> search(String keyword, long beforeId, int offset, int limit) {
+        if (!ready || keyword == null) {
+            return Optional.empty();
+        }
+        String normalized = normalize(keyword);
+        int length = normalized.codePointCount(0, normalized.length());
+        if (length < MIN_GRAM) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap candidates = candidates(normalized, length);
+            if (beforeId <= Integer.MAX_VALUE) {
+                candidates = RoaringBitmap.and(candidates, RoaringBitmap.bitmapOfRange(0, beforeId));
+            }
+
+            // 2~3자 키워드는 후보가 곧 결과이므로 원문 확인 생략
+            boolean exact = length <= MAX_GRAM;
+            List<Long> ids = new ArrayList<>(Math.min(limit, 1024));
+            long total = 0;
+            IntIterator iterator = candidates.getReverseIntIterator();
+            while (iterator.hasNext()) {
+                int id = iterator.next();
+                if (!exact && !names.getOrDefault(id, "").contains(normalized)) {
+                    continue;
+                }
+                if (total >= offset && ids.size() < limit) {
+                    ids.add((long) id);
+                }
+                total++;
+                if (exact && ids.size() == limit) {
+                    total = candidates.getLongCardinality();
+                    break;
+                }
+            }
+            return Optional.of(new SearchResult(ids, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 애플리케이션 시작 시 전체 그룹명으로 색인 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            postings.clear();
+            names.clear();
+            Integer indexed = readOnlyTransaction.execute(status -> {
+                int count = 0;
+                try (Stream<Object[]> rows = groupInfoRepository.streamAllNames()) {
+                    for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                        int id = toIndexId((Long) row[0]);
+                        String normalized = normalize((String) row[1]);
+                        names.put(id, normalized);
+                        for (String gram : grams(normalized)) {
+                            postings.computeIfAbsent(gram, key -> new RoaringBitmap()).add(id);
+                        }
+                        count++;
+                    }
+                }
+                return count;
+            });
+            postings.values().forEach(RoaringBitmap::runOptimize);
+            ready = true;
+            logger.info("그룹명 색인 재구성 완료 - 그룹: {}개, n-gram: {}개, 소요: {}ms",
+                       indexed, postings.size(), System.currentTimeMillis() - started);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private RoaringBitmap candidates(String keyword, int length) {
+        if (length <= MAX_GRAM) {
+            RoaringBitmap posting = postings.get(keyword);
+            return posting != null ? posting : new RoaringBitmap();
+        }
+
+        // 후보가 적은 3-gram부터 교집합
+        List<RoaringBitmap> lists = new ArrayList<>();
+        for (String gram : gramsOfSize(keyword, MAX_GRAM)) {
+            RoaringBitmap posting = postings.get(gram);
+            if (posting == null) {
+                return new RoaringBitmap();
+            }
+            lists.add(posting);
+        }
+        lists.sort((a, b) -> Integer.compare(a.getCardinality(), b.getCardinality()));
+        RoaringBitmap result = lists.get(0).clone();
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.and(lists.get(i));
+        }
+        return result;
+    }
+
+    private void removeInternal(int id) {
+        String previous = names.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            RoaringBitmap posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int size = MIN_GRAM; size <= MAX_GRAM; size++) {
+            grams.addAll(gramsOfSize(text, size));
+        }
+        return grams;
+    }
+
+    // 코드 포인트 기준 n-gram (서로게이트 쌍이 잘리지 않도록)
+    private static List<String> gramsOfSize(String text, int size) {
+        int[] codePoints = text.codePoints().toArray();
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + size <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, size));
+        }
+        return grams;
+    }
+
+    // 자모가 분리된 입력(NFD)도 같은 음절로 색인되도록 NFC 정규화
+    private static String normalize(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFC);
+    }
+
+    private static int toIndexId(Long groupId) {
+        if (groupId == null || groupId < 0 || groupId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("색인할 수 없는 그룹 ID입니다: " + groupId);
+        }
+        return groupId.intValue();
+    }
+
+    // 검색 결과 (현재 페이지 ID 목록 + 전체 일치 수)
+    public record SearchResult(List<Long> ids, long total) {
+    }
+}
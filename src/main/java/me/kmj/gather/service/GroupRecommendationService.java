@@ -0,0 +1,391 @@
+package me.kmj.gather.service;
+
+import jakarta.annotation.PreDestroy;
+import me.kmj.gather.dto.RecommendedGroupDto;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// 함께 가입한 회원 기반 그룹 추천 (그룹 간 유사도)
+// - 유사도(A, B) = 공통 승인 회원 수 / sqrt(A 회원 수 × B 회원 수)
+// - 그룹마다 유사도 상위 K개 이웃을 기본형 배열로 보관, 추천은 회원이 속한 그룹들의 이웃 점수 합 (DB 조회 없음)
+// - 전체 계산은 ForkJoinPool에서 그룹 단위로 나눠 병렬 실행
+// - 그래프 읽기 잠금은 회원/이웃 그룹 일정 수 단위로만 잡음 (큰 그룹 하나를 계산하는 동안 승인 반영이 밀리지 않도록)
+//   (단위 사이에 바뀐 가입 관계는 바뀐 그룹으로 기록되어 다음 부분 재계산에서 반영)
+// - 가입 관계가 바뀐 그룹은 짧은 주기로 이웃만 다시 계산하고, 전체는 긴 주기로 다시 계산
+//   (바뀐 그룹의 회원 수가 다른 그룹 유사도의 분모에 주는 영향은 전체 계산에서 보정)
+@Service
+public class GroupRecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupRecommendationService.class);
+
+    // 작업을 더 나누지 않고 한 스레드에서 계산할 그룹 수
+    private static final int SPLIT_THRESHOLD = 64;
+    // 한 번에 반환하는 최대 추천 수
+    private static final int MAX_RECOMMENDATIONS = 100;
+    // 읽기 잠금 한 번에 처리할 회원/이웃 그룹 수
+    private static final int ITEMS_PER_LOCK = 256;
+
+    private final MembershipGraph membershipGraph;
+    private final int topK;
+    private final ForkJoinPool pool;
+    // 스레드별 공통 회원 수 계산용 배열 (그룹 ID를 인덱스로 사용, 그룹마다 새로 할당하지 않음)
+    private final ThreadLocal<CoCounts> coCounts = ThreadLocal.withInitial(CoCounts::new);
+
+    private volatile ConcurrentMap<Integer, Neighbors> neighbors = new ConcurrentHashMap<>();
+    private volatile BuildStats lastBuild;
+
+    @Autowired
+    public GroupRecommendationService(MembershipGraph membershipGraph,
+                                      @Value("${gather.recommendations.top-k:50}") int topK,
+                                      @Value("${gather.recommendations.parallelism:0}") int parallelism) {
+        this.membershipGraph = membershipGraph;
+        this.topK = topK;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    // 회원에게 추천할 그룹 (이미 승인된 그룹 제외, 점수 내림차순)
+    // - 모델 계산 전이거나 승인된 그룹이 없는 회원은 빈 목록
+    public List<RecommendedGroupDto> recommend(String memberId, int size) {
+        if (lastBuild == null || size <= 0) {
+            return List.of();
+        }
+        RoaringBitmap joined = membershipGraph.read(view -> {
+            RoaringBitmap groups = view.groupsOf(memberId);
+            return groups == null ? null : groups.clone();
+        }).orElse(null);
+        if (joined == null || joined.isEmpty()) {
+            return List.of();
+        }
+
+        // 이웃 목록을 (그룹 ID, 위치)로 이어 붙여 정렬한 뒤 같은 그룹의 점수를 합산
+        Map<Integer, Neighbors> current = neighbors;
+        List<Neighbors> lists = new ArrayList<>();
+        int total = 0;
+        IntIterator iterator = joined.getIntIterator();
+        while (iterator.hasNext()) {
+            Neighbors list = current.get(iterator.next());
+            if (list != null) {
+                lists.add(list);
+                total += list.groupIds.length;
+            }
+        }
+        long[] keys = new long[total];
+        float[] scores = new float[total];
+        int count = 0;
+        for (Neighbors list : lists) {
+            for (int i = 0; i < list.groupIds.length; i++) {
+                if (!joined.contains(list.groupIds[i])) {
+                    keys[count] = ((long) list.groupIds[i] << 32) | count;
+                    scores[count] = list.scores[i];
+                    count++;
+                }
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        TopK top = new TopK(Math.min(size, MAX_RECOMMENDATIONS));
+        for (int i = 0; i < count; ) {
+            int groupId = (int) (keys[i] >>> 32);
+            float score = 0;
+            while (i < count && (int) (keys[i] >>> 32) == groupId) {
+                score += scores[(int) keys[i]];
+                i++;
+            }
+            top.offer(groupId, score);
+        }
+
+        Neighbors ranked = top.toNeighbors();
+        List<RecommendedGroupDto> recommendations = new ArrayList<>(ranked.groupIds.length);
+        for (int i = 0; i < ranked.groupIds.length; i++) {
+            recommendations.add(new RecommendedGroupDto((long) ranked.groupIds[i], ranked.scores[i]));
+        }
+        return recommendations;
+    }
+
+    // 마지막 전체 계산 결과 (계산 전이면 empty)
+    public Optional<BuildStats> getLastBuild() {
+        return Optional.ofNullable(lastBuild);
+    }
+
+    // 애플리케이션 시작 시 전체 계산 (가입 관계 그래프 재구성 이후)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    // 전체 그룹의 이웃 목록 계산
+    @Scheduled(fixedDelayString = "${gather.recommendations.rebuild-interval:PT1H}",
+               initialDelayString = "${gather.recommendations.rebuild-interval:PT1H}")
+    public synchronized void rebuild() {
+        Optional<int[]> groupIds = membershipGraph.read(MembershipGraph.View::groupIds);
+        if (groupIds.isEmpty()) {
+            logger.warn("그룹 추천 모델 계산 생략 - 가입 관계 그래프 준비 전");
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        // 계산 중 바뀐 그룹은 다음 부분 재계산에서 반영
+        membershipGraph.drainChangedGroups();
+        ConcurrentMap<Integer, Neighbors> built = new ConcurrentHashMap<>(Math.max(16, groupIds.get().length * 4 / 3));
+        pool.invoke(new ScoreTask(groupIds.get(), 0, groupIds.get().length, built));
+        neighbors = built;
+
+        long elapsed = System.currentTimeMillis() - started;
+        long modelBytes = built.values().stream().mapToLong(Neighbors::sizeInBytes).sum();
+        long neighborCount = built.values().stream().mapToLong(list -> list.groupIds.length).sum();
+        lastBuild = new BuildStats(built.size(), neighborCount, modelBytes, elapsed);
+        logger.info("그룹 추천 모델 계산 완료 - 그룹: {}개, 이웃: {}개, 모델: {}KB, 소요: {}ms",
+                   built.size(), neighborCount, modelBytes / 1024, elapsed);
+    }
+
+    // 가입 관계가 바뀐 그룹의 이웃 목록만 다시 계산
+    @Scheduled(fixedDelayString = "${gather.recommendations.refresh-interval:PT10S}")
+    public synchronized void refresh() {
+        if (lastBuild == null) {
+            return;
+        }
+        RoaringBitmap changed = membershipGraph.drainChangedGroups();
+        if (changed.isEmpty()) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        int[] groupIds = changed.toArray();
+        pool.invoke(new ScoreTask(groupIds, 0, groupIds.length, neighbors));
+        logger.debug("그룹 추천 부분 재계산 완료 - 그룹: {}개, 소요: {}ms", groupIds.length, System.currentTimeMillis() - started);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // 그룹 하나의 이웃 목록 계산 (승인 회원이 없으면 null)
+    // - 그룹의 회원 비트맵만 잠금 안에서 복사하고, 공통 회원 수 집계와 점수 계산은 단위별로 잠금
+    private Neighbors score(int groupId) {
+        RoaringBitmap members = membershipGraph.read(view -> {
+            RoaringBitmap current = view.membersOf(groupId);
+            return current == null || current.isEmpty() ? null : current.clone();
+        }).orElse(null);
+        if (members == null) {
+            return null;
+        }
+        CoCounts counts = coCounts.get();
+        try {
+            IntIterator memberIterator = members.getIntIterator();
+            while (memberIterator.hasNext()) {
+                membershipGraph.read(view -> {
+                    for (int i = 0; i < ITEMS_PER_LOCK && memberIterator.hasNext(); i++) {
+                        IntIterator groupIterator = view.groupsOf(memberIterator.next()).getIntIterator();
+                        while (groupIterator.hasNext()) {
+                            int other = groupIterator.next();
+                            if (other != groupId) {
+                                counts.increment(other);
+                            }
+                        }
+                    }
+                    return Boolean.TRUE;
+                });
+            }
+
+            double size = members.getCardinality();
+            TopK top = new TopK(topK);
+            for (int from = 0; from < counts.touchedCount; from += ITEMS_PER_LOCK) {
+                int start = from;
+                int end = Math.min(from + ITEMS_PER_LOCK, counts.touchedCount);
+                membershipGraph.read(view -> {
+                    for (int i = start; i < end; i++) {
+                        int other = counts.touched[i];
+                        // 단위 사이에 삭제된 그룹은 제외
+                        RoaringBitmap otherMembers = view.membersOf(other);
+                        if (otherMembers != null) {
+                            double otherSize = otherMembers.getCardinality();
+                            top.offer(other, (float) (counts.counts[other] / Math.sqrt(size * otherSize)));
+                        }
+                    }
+                    return Boolean.TRUE;
+                });
+            }
+            return top.toNeighbors();
+        } finally {
+            counts.clear();
+        }
+    }
+
+    // 그룹 배열을 나눠 병렬로 이웃 목록 계산
+    private final class ScoreTask extends RecursiveAction {
+
+        private final int[] groupIds;
+        private final int from;
+        private final int to;
+        private final ConcurrentMap<Integer, Neighbors> target;
+
+        private ScoreTask(int[] groupIds, int from, int to, ConcurrentMap<Integer, Neighbors> target) {
+            this.groupIds = groupIds;
+            this.from = from;
+            this.to = to;
+            this.target = target;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ScoreTask(groupIds, from, middle, target), new ScoreTask(groupIds, middle, to, target));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                Neighbors list = score(groupIds[i]);
+                if (list == null) {
+                    target.remove(groupIds[i]);
+                } else {
+                    target.put(groupIds[i], list);
+                }
+            }
+        }
+    }
+
+    // 그룹 ID별 공통 회원 수 (0이 아닌 위치만 기록해 두고 그 위치만 초기화)
+    private static final class CoCounts {
+
+        private int[] counts = new int[1024];
+        private int[] touched = new int[256];
+        private int touchedCount;
+
+        private void increment(int groupId) {
+            if (groupId >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(groupId + 1, counts.length * 2));
+            }
+            if (counts[groupId]++ == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touched.length * 2);
+                }
+                touched[touchedCount++] = groupId;
+            }
+        }
+
+        private void clear() {
+            for (int i = 0; i < touchedCount; i++) {
+                counts[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+
+    // 점수 상위 k개 (최소 힙, 점수가 같으면 그룹 ID가 작은 쪽 우선)
+    private static final class TopK {
+
+        private final int[] groupIds;
+        private final float[] scores;
+        private int size;
+
+        private TopK(int k) {
+            this.groupIds = new int[k];
+            this.scores = new float[k];
+        }
+
+        private void offer(int groupId, float score) {
+            if (size < groupIds.length) {
+                groupIds[size] = groupId;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (size > 0 && less(groupIds[0], scores[0], groupId, score)) {
+                groupIds[0] = groupId;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        // 점수 내림차순 배열로 변환 (힙은 비워짐)
+        private Neighbors toNeighbors() {
+            int[] sortedIds = new int[size];
+            float[] sortedScores = new float[size];
+            for (int i = size - 1; i >= 0; i--) {
+                sortedIds[i] = groupIds[0];
+                sortedScores[i] = scores[0];
+                size--;
+                groupIds[0] = groupIds[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return new Neighbors(sortedIds, sortedScores);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!less(groupIds[index], scores[index], groupIds[parent], scores[parent])) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && less(groupIds[left], scores[left], groupIds[smallest], scores[smallest])) {
+                    smallest = left;
+                }
+                if (right < size && less(groupIds[right], scores[right], groupIds[smallest], scores[smallest])) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int groupId = groupIds[a];
+            float score = scores[a];
+            groupIds[a] = groupIds[b];
+            scores[a] = scores[b];
+            groupIds[b] = groupId;
+            scores[b] = score;
+        }
+
+        // 순위가 더 낮은지 (점수가 낮거나, 같으면 그룹 ID가 큼)
+        private static boolean less(int groupId, float score, int otherGroupId, float otherScore) {
+            return score < otherScore || (score == otherScore && groupId > otherGroupId);
+        }
+    }
+
+    // 점수 내림차순 이웃 그룹 ID와 유사도
+    private record Neighbors(int[] groupIds, float[] scores) {
+
+        // 배열 본문 + 배열 헤더 + 맵 항목(키, 노드, 레코드) 대략치
+        private long sizeInBytes() {
+            return (long) groupIds.length * (Integer.BYTES + Float.BYTES) + 2 * 16 + 80;
+        }
+    }
+
+    // 전체 계산 결과 (그룹 수, 이웃 수, 모델 크기 추정치, 소요 시간)
+    public record BuildStats(int groups, long neighbors, long modelBytes, long elapsedMillis) {
+    }
+}
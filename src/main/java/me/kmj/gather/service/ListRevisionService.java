@@ -0,0 +1,64 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.support.AfterCommit;
+import me.kmj.gather.support.ResourceVersion;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 회원/그룹 목록 응답의 변경 번호 (목록 조건부 조회용)
+// - 목록에 보이는 값이 바뀌는 트랜잭션이 커밋되면 증가하므로 304 판단에 DB 조회가 필요 없음
+// - 목록 조회 전에 읽어야 함 (조회 중 커밋된 변경은 다음 요청에서 200으로 반영)
+// - 메모리 값이라 재시작하면 처음부터 다시 세므로 기동 시각을 ETag에 함께 넣음
+@Service
+public class ListRevisionService {
+
+    private final long startedAt = System.currentTimeMillis();
+
+    private final Revision members = new Revision(startedAt);
+    private final Revision groups = new Revision(startedAt);
+
+    // 회원 목록 변경 (커밋 후 반영)
+    public void membersChanged() {
+        AfterCommit.run(members::increment);
+    }
+
+    // 그룹 목록 변경 (그룹 정보, 생성자 이름, 멤버 수 변경 포함, 커밋 후 반영)
+    public void groupsChanged() {
+        AfterCommit.run(groups::increment);
+    }
+
+    public ResourceVersion getMembersVersion() {
+        return members.toVersion(startedAt);
+    }
+
+    public ResourceVersion getGroupsVersion() {
+        return groups.toVersion(startedAt);
+    }
+
+    private static final class Revision {
+
+        private final AtomicLong number = new AtomicLong();
+        private volatile long changedAt;
+
+        private Revision(long changedAt) {
+            this.changedAt = changedAt;
+        }
+
+        private void increment() {
+            changedAt = System.currentTimeMillis();
+            number.incrementAndGet();
+        }
+
+        // 변경 시각을 먼저 읽어 번호보다 늦은 시각이 되지 않도록 함
+        private ResourceVersion toVersion(long startedAt) {
+            long lastChangedAt = changedAt;
+            long revision = number.get();
+            LocalDateTime lastModified = LocalDateTime.ofInstant(Instant.ofEpochMilli(lastChangedAt), ZoneId.systemDefault());
+            return ResourceVersion.of(lastModified, startedAt, revision);
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package me.kmj.gather.service;
 
+import me.kmj.gather.config.CacheConfig;
 import me.kmj.gather.entity.Member;
 import me.kmj.gather.repository.MemberRepository;
+import me.kmj.gather.dto.MemberDetailDto;
 import me.kmj.gather.dto.MemberDto;
+import me.kmj.gather.support.AfterCommit;
+import me.kmj.gather.support.ReadRouting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,10 +26,15 @@ public class MemberService {
     private static final Logger logger = LoggerFactory.getLogger(MemberService.class);
     
     private final MemberRepository memberRepository;
+    private final ListRevisionService listRevisionService;
+    private final MembershipGraph membershipGraph;
     
     @Autowired
-    public MemberService(MemberRepository memberRepository) {
+    public MemberService(MemberRepository memberRepository, ListRevisionService listRevisionService,
+                         MembershipGraph membershipGraph) {
         this.memberRepository = memberRepository;
+        this.listRevisionService = listRevisionService;
+        this.membershipGraph = membershipGraph;
     }
     
     // 회원가입
@@ -44,14 +56,20 @@ public class MemberService {
         );
         
         Member savedMember = memberRepository.save(member);
+        listRevisionService.membersChanged();
         logger.info("회원가입 완료: {}", savedMember.getId());
         return savedMember;
     }
     
-    // 회원 조회 (ID로)
-    public Optional<Member> getMemberById(String id) {
+    // 회원 조회 (ID로, 존재하는 회원만 캐시)
+    // - 캐시에는 엔티티 대신 변경 불가 DTO를 저장 (호출한 쪽이 수정하거나 다른 트랜잭션에 연결하지 않도록)
+    // - 캐시는 모든 호출자가 공유하므로 복제본이 아닌 원본에서 읽어 적재 (뒤처진 값이 캐시에 남지 않도록)
+    @Cacheable(cacheNames = CacheConfig.MEMBERS, key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<MemberDetailDto> getMemberById(String id) {
         logger.debug("회원 조회 요청 - ID: {}", id);
-        Optional<Member> member = memberRepository.findById(id);
+        ReadRouting.primary();
+        Optional<MemberDetailDto> member = memberRepository.findById(id).map(MemberDetailDto::from);
         if (member.isPresent()) {
             logger.debug("회원 조회 성공 - ID: {}, 이름: {}", id, member.get().getName());
         } else {
@@ -60,15 +78,18 @@ public class MemberService {
         return member;
     }
     
-    // 전체 회원 목록 조회
+    // 전체 회원 목록 조회 (응답 검증값이 메모리 변경 번호이므로 모든 쓰기를 반영한 곳에서 읽음)
+    @Transactional(readOnly = true)
     public List<Member> getAllMembers() {
         logger.debug("전체 회원 목록 조회 요청");
+        ReadRouting.latest();
         List<Member> members = memberRepository.findAll();
         logger.debug("조회된 회원 수: {}", members.size());
         return members;
     }
     
     // 회원 정보 수정
+    @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id")
     public Member updateMember(String id, MemberDto memberDto) {
         logger.info("회원 정보 수정 요청 - ID: {}", id);
         
@@ -85,11 +106,18 @@ public class MemberService {
         member.setAddress(memberDto.getAddress());
         
         Member updatedMember = memberRepository.save(member);
+        // 그룹 목록에 생성자 이름이 포함되므로 그룹 목록도 변경
+        listRevisionService.membersChanged();
+        listRevisionService.groupsChanged();
         logger.info("회원 정보 수정 완료 - ID: {}", updatedMember.getId());
         return updatedMember;
     }
     
-    // 회원 삭제
+    // 회원 삭제 (그룹 캐시는 생성자 ID를 담고 있으므로 함께 비움, 회원 삭제는 드물어 전체 제거)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.MEMBERS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.GROUPS, allEntries = true)
+    })
     public void deleteMember(String id) {
         logger.info("회원 삭제 요청 - ID: {}", id);
         
@@ -99,6 +127,9 @@ public class MemberService {
         }
         
         memberRepository.deleteById(id);
+        AfterCommit.run(() -> membershipGraph.removeMember(id));
+        listRevisionService.membersChanged();
+        listRevisionService.groupsChanged();
         logger.info("회원 삭제 완료 - ID: {}", id);
     }
 } 
\ No newline at end of file
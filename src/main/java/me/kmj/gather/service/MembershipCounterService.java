@@ -0,0 +1,260 @@
+package me.kmj.gather.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupInfoRepository.GroupMembersCount;
+import me.kmj.gather.repository.GroupInfoRepository.MembersCount;
+import me.kmj.gather.support.AfterCommit;
+import me.kmj.gather.support.ReadRouting;
+import me.kmj.gather.support.SingleFlight;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 그룹별 승인/대기 멤버 수 카운터
+// - group_info의 비정규화 컬럼을 가입 신청/처리와 같은 트랜잭션에서 증감
+// - 커밋된 증감만 메모리 카운터에 반영하여 조회는 O(1)
+// - 주기적으로 group_member 실제 집계와 비교하여 어긋난 값 보정
+// - 컬럼을 읽어 적재하는 동안 증감 트랜잭션이 진행/완료되면 적재 값을 보관하지 않음
+//   (읽은 값에 그 증감이 포함됐는지 알 수 없어 누락되거나 두 번 반영될 수 있으므로)
+// - 적재는 원본에서 읽음 (커밋 후 메모리에 반영된 증감이 복제본에는 아직 없을 수 있으므로)
+//   조회 트랜잭션의 첫 쿼리여야 원본 지정이 적용됨
+@Service
+@Transactional
+public class MembershipCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MembershipCounterService.class);
+
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+    private static final int WRITE_WINDOW_STRIPES = 256;
+
+    private final GroupInfoRepository groupInfoRepository;
+    private final ListRevisionService listRevisionService;
+
+    private final ConcurrentMap<Long, Counters> counters = new ConcurrentHashMap<>();
+
+    // 그룹 ID 해시별 증감 트랜잭션 시작/완료 수 (같은 칸의 다른 그룹과 겹치면 적재 값을 보관하지 않을 뿐)
+    private final WriteWindow[] writeWindows = new WriteWindow[WRITE_WINDOW_STRIPES];
+
+    // 적재되지 않은 인기 그룹에 조회가 몰릴 때 컬럼 조회를 한 번만 실행
+    private final SingleFlight<Long, Counters> loads;
+
+    @Autowired
+    public MembershipCounterService(GroupInfoRepository groupInfoRepository,
+                                    ListRevisionService listRevisionService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${gather.single-flight.max-wait:PT2S}") Duration maxWait) {
+        this.groupInfoRepository = groupInfoRepository;
+        this.listRevisionService = listRevisionService;
+        this.loads = new SingleFlight<>("membership-count", maxWait, meterRegistry);
+        for (int i = 0; i < writeWindows.length; i++) {
+            writeWindows[i] = new WriteWindow();
+        }
+    }
+
+    // 승인된 멤버 수 조회 (적재를 기다리는 호출이 커넥션을 잡지 않도록 트랜잭션 없이 실행)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getApprovedCount(Long groupId) {
+        return getCounters(groupId).approved.sum();
+    }
+
+    // 대기중인 가입 신청 수 조회
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getPendingCount(Long groupId) {
+        return getCounters(groupId).pending.sum();
+    }
+
+    // 메모리에 적재된 멤버 수 (적재되지 않았으면 빈 값, 컬럼을 조회하지 않음)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<MembersCount> getLoadedCount(Long groupId) {
+        return Optional.ofNullable(counters.get(groupId));
+    }
+
+    // 멤버 수 증감 (호출한 트랜잭션 안에서 컬럼 갱신, 커밋 후 메모리 반영)
+    public void add(Long groupId, long approvedDelta, long pendingDelta) {
+        if (approvedDelta == 0 && pendingDelta == 0) {
+            return;
+        }
+        WriteWindow window = writeWindowOf(groupId);
+        window.started.incrementAndGet();
+        try {
+            groupInfoRepository.addMembersCount(groupId, approvedDelta, pendingDelta, LocalDateTime.now());
+            listRevisionService.groupsChanged();
+        } catch (RuntimeException e) {
+            window.finished.incrementAndGet();
+            throw e;
+        }
+
+        Runnable apply = () -> counters.computeIfPresent(groupId, (id, current) -> {
+            current.approved.add(approvedDelta);
+            current.pending.add(pendingDelta);
+            return current;
+        });
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            window.finished.incrementAndGet();
+            return;
+        }
+        // 반영 후에 완료 수를 올림 (완료 수가 같으면 그 사이 커밋된 증감은 모두 컬럼과 메모리에 반영됨)
+        // 반영은 afterCommit에서 하여 뒤이어 등록된 커밋 후 작업(이벤트 발행 등)이 반영된 값을 읽음
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                window.finished.incrementAndGet();
+            }
+        });
+    }
+
+    // 삭제된 그룹의 메모리 카운터 제거
+    public void evict(Long groupId) {
+        AfterCommit.run(() -> counters.remove(groupId));
+    }
+
+    // 애플리케이션 시작 시 컬럼 값 보정 (리포지토리로 직접 적재된 데이터 대비)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    // 카운터 보정
+    @Scheduled(fixedDelayString = "${gather.counters.reconcile-interval:PT5M}",
+               initialDelayString = "${gather.counters.reconcile-interval:PT5M}")
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+
+        // 1. group_member 실제 집계와 어긋난 컬럼 보정
+        List<Object[]> drifts = groupInfoRepository.findMembersCountDrift();
+        int corrected = 0;
+        for (Object[] drift : drifts) {
+            Long groupId = ((Number) drift[0]).longValue();
+            long storedApproved = ((Number) drift[1]).longValue();
+            long storedPending = ((Number) drift[2]).longValue();
+            long actualApproved = ((Number) drift[3]).longValue();
+            long actualPending = ((Number) drift[4]).longValue();
+
+            // 집계 이후 다른 트랜잭션이 컬럼을 바꿨다면 건너뛰고 다음 주기에 다시 확인
+            int updated = groupInfoRepository.correctMembersCount(groupId, storedApproved, storedPending,
+                    actualApproved, actualPending, LocalDateTime.now());
+            if (updated > 0) {
+                corrected++;
+                listRevisionService.groupsChanged();
+                logger.warn("멤버 수 카운터 보정 - 그룹: {}, 승인 {} -> {}, 대기 {} -> {}",
+                           groupId, storedApproved, actualApproved, storedPending, actualPending);
+            }
+            evict(groupId);
+        }
+
+        // 2. 메모리 카운터와 컬럼 값이 어긋난 그룹은 다시 적재되도록 제거
+        int evicted = 0;
+        List<Long> cachedGroupIds = new ArrayList<>(counters.keySet());
+        for (int from = 0; from < cachedGroupIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = cachedGroupIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, cachedGroupIds.size()));
+            List<GroupMembersCount> stored = groupInfoRepository.findMembersCountByIdIn(batch);
+            for (GroupMembersCount count : stored) {
+                Counters current = counters.get(count.getGroupId());
+                if (current != null && (current.approved.sum() != count.getApproved()
+                        || current.pending.sum() != count.getPending())) {
+                    evict(count.getGroupId());
+                    evicted++;
+                }
+            }
+        }
+
+        logger.info("멤버 수 카운터 보정 완료 - 컬럼 보정: {}건, 메모리 재적재: {}건, 소요: {}ms",
+                   corrected, evicted, System.currentTimeMillis() - started);
+    }
+
+    private Counters getCounters(Long groupId) {
+        Counters current = counters.get(groupId);
+        if (current != null) {
+            return current;
+        }
+        return loads.execute(groupId, () -> load(groupId));
+    }
+
+    private Counters load(Long groupId) {
+        WriteWindow window = writeWindowOf(groupId);
+        long finished = window.finished.get();
+        long started = window.started.get();
+
+        ReadRouting.primary();
+        Optional<MembersCount> stored = groupInfoRepository.findMembersCountById(groupId);
+        if (stored.isEmpty()) {
+            logger.warn("멤버 수 조회 실패 - 존재하지 않는 그룹: {}", groupId);
+            throw new RuntimeException("존재하지 않는 그룹입니다: " + groupId);
+        }
+
+        Counters loaded = new Counters(stored.get().getApproved(), stored.get().getPending());
+        // 읽기 전에 진행 중인 증감이 있었으면 이번 값만 사용하고 보관하지 않음
+        if (started != finished) {
+            return loaded;
+        }
+        Counters existing = counters.putIfAbsent(groupId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        // 읽는 동안 시작된 증감은 커밋 시점에 따라 놓칠 수 있으므로 다음 조회에서 다시 적재
+        // (보관한 뒤 시작된 증감은 커밋 후 보관된 카운터에 반영됨)
+        if (window.started.get() != started) {
+            counters.remove(groupId, loaded);
+        }
+        return loaded;
+    }
+
+    private WriteWindow writeWindowOf(Long groupId) {
+        return writeWindows[Long.hashCode(groupId) & (WRITE_WINDOW_STRIPES - 1)];
+    }
+
+    // 증감 트랜잭션 시작/완료 수 (완료는 커밋 후 메모리 반영 또는 롤백 이후)
+    private static final class WriteWindow {
+
+        private final AtomicLong started = new AtomicLong();
+        private final AtomicLong finished = new AtomicLong();
+    }
+
+    // 그룹별 메모리 카운터 (경합이 심한 인기 그룹을 위해 LongAdder 사용)
+    private static final class Counters implements MembersCount {
+
+        private final LongAdder approved = new LongAdder();
+        private final LongAdder pending = new LongAdder();
+
+        private Counters(long approved, long pending) {
+            this.approved.add(approved);
+            this.pending.add(pending);
+        }
+
+        @Override
+        public long getApproved() {
+            return approved.sum();
+        }
+
+        @Override
+        public long getPending() {
+            return pending.sum();
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package me.kmj.gather.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import me.kmj.gather.dto.MembershipEventDto;
+import me.kmj.gather.dto.MembershipEventDto.Type;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.repository.GroupInfoRepository.MembersCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 그룹장별 가입 신청/처리 이벤트 스트림 (SSE)
+// - 발행은 커밋 후 호출되며 구독자 큐에 넣기만 하고 기다리지 않음 (전송은 구독자별 가상 스레드)
+// - 구독자 큐가 가득 찬 느린 구독자는 연결을 끊고, 클라이언트가 Last-Event-ID로 다시 연결하면 이어서 전송
+// - 그룹장별로 최근 이벤트를 buffer-size개까지 보관, 그보다 오래된 ID로 이어받으면 RESET 이벤트 전송
+// - 발행/구독/정리 모두 락 없이 처리 (구독자 목록은 CopyOnWriteArrayList, 최근 이벤트는 원자적 링 버퍼)
+// - 멤버 수는 메모리 카운터에 적재된 값만 사용하고, 적재되지 않았으면 비워서 발행 (커밋 후 DB 조회 없음)
+@Service
+public class MembershipEventHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(MembershipEventHub.class);
+
+    private final MembershipCounterService membershipCounterService;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long retentionMillis;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentMap<String, Channel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter published;
+    private final Counter slowConsumers;
+
+    @Autowired
+    public MembershipEventHub(MembershipCounterService membershipCounterService,
+                              MeterRegistry meterRegistry,
+                              @Value("${gather.events.buffer-size:256}") int bufferSize,
+                              @Value("${gather.events.timeout:PT30M}") Duration timeout,
+                              @Value("${gather.events.retention:PT10M}") Duration retention) {
+        this.membershipCounterService = membershipCounterService;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.retentionMillis = retention.toMillis();
+        this.published = Counter.builder("gather.membership.events.published")
+                .description("발행된 가입 이벤트 수")
+                .register(meterRegistry);
+        this.slowConsumers = Counter.builder("gather.membership.events.slow.consumers")
+                .description("큐가 가득 차 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("gather.membership.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("연결된 구독자 수")
+                .register(meterRegistry);
+    }
+
+    // 그룹장의 이벤트 구독 (lastEventId가 있으면 그 이후 이벤트부터 이어서 전송)
+    public SseEmitter subscribe(String ownerId, Long lastEventId) {
+        return subscribe(ownerId, lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(String ownerId, Long lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, lastEventId == null);
+        emitter.onCompletion(subscriber::closed);
+        emitter.onTimeout(subscriber::closed);
+        emitter.onError(error -> subscriber.closed());
+        subscriberCount.incrementAndGet();
+        // 정리 중인 채널에 등록되면 새 채널로 다시 시도
+        Channel channel = channelOf(ownerId);
+        while (!channel.add(subscriber, lastEventId)) {
+            channel = channelOf(ownerId);
+        }
+        logger.debug("가입 이벤트 구독 - 그룹장: {}, 이어받기: {}", ownerId, lastEventId);
+        return emitter;
+    }
+
+    // 이벤트 발행 (커밋 후 호출, 멤버 수는 메모리 카운터에 적재된 값이 있을 때만 포함)
+    public void publish(String ownerId, Type type, Long groupId, Long membershipId, String memberId,
+                        GroupMemberStatus status) {
+        Optional<MembersCount> count = membershipCounterService.getLoadedCount(groupId);
+        MembershipEventDto event = new MembershipEventDto(sequence.incrementAndGet(), type, groupId, membershipId, memberId,
+            status, count.map(MembersCount::getApproved).orElse(null), count.map(MembersCount::getPending).orElse(null),
+            LocalDateTime.now());
+        published.increment();
+        Channel channel = channels.computeIfAbsent(ownerId, id -> new Channel(event.getId() - 1));
+        while (!channel.publish(event)) {
+            channel = channels.computeIfAbsent(ownerId, id -> new Channel(event.getId() - 1));
+        }
+    }
+
+    // 연결 유지용 빈 주석 전송, 구독자 없이 오래 지난 그룹장 버퍼 정리
+    @Scheduled(fixedDelayString = "${gather.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        for (String ownerId : channels.keySet()) {
+            Channel channel = channels.computeIfPresent(ownerId, (id, current) -> current.closeIfIdleSince(cutoff) ? null : current);
+            if (channel != null) {
+                channel.heartbeat();
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(Channel::completeAll);
+        senders.shutdownNow();
+    }
+
+    private Channel channelOf(String ownerId) {
+        return channels.computeIfAbsent(ownerId, id -> new Channel(sequence.get()));
+    }
+
+    // 그룹장별 최근 이벤트 링 버퍼와 구독자 목록
+    // - 발행은 링에 기록한 뒤 구독자 큐에 넣기만 함 (동시 발행 시 ID 순서가 바뀔 수 있어 이어받기는 ID로 정렬)
+    // - 정리는 closed를 먼저 세우고 구독자를 다시 확인, 등록은 구독자를 먼저 넣고 closed를 확인
+    //   (둘 중 하나는 반드시 상대를 보므로 정리된 채널에 구독자가 남지 않음)
+    private final class Channel {
+
+        private final AtomicReferenceArray<MembershipEventDto> recent = new AtomicReferenceArray<>(bufferSize);
+        private final AtomicLong written = new AtomicLong();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        // 버퍼에서 밀려난 가장 큰 이벤트 ID (이보다 오래된 ID로는 이어받을 수 없음)
+        private final AtomicLong evictedUpTo;
+        private volatile long lastActivity = System.currentTimeMillis();
+        private volatile boolean closed;
+
+        private Channel(long evictedUpTo) {
+            this.evictedUpTo = new AtomicLong(evictedUpTo);
+        }
+
+        // 정리된 채널이면 false (호출한 쪽에서 새 채널로 다시 발행)
+        private boolean publish(MembershipEventDto event) {
+            int slot = (int) (written.getAndIncrement() % bufferSize);
+            MembershipEventDto evicted = recent.getAndSet(slot, event);
+            if (evicted != null) {
+                evictedUpTo.accumulateAndGet(evicted.getId(), Math::max);
+            }
+            lastActivity = System.currentTimeMillis();
+            for (Subscriber subscriber : subscribers) {
+                subscriber.deliver(event);
+            }
+            return !closed;
+        }
+
+        // 구독자를 먼저 등록하고 놓친 이벤트를 넣음 (그 사이 발행분은 구독자가 모아 두었다가 중복을 빼고 이어서 전송)
+        private boolean add(Subscriber subscriber, Long lastEventId) {
+            subscriber.channel = this;
+            subscribers.add(subscriber);
+            if (closed) {
+                subscribers.remove(subscriber);
+                return false;
+            }
+            // 등록 직전에 연결이 끊긴 구독자는 바로 제거
+            if (subscriber.closed.get()) {
+                subscribers.remove(subscriber);
+            }
+            lastActivity = System.currentTimeMillis();
+            if (lastEventId != null) {
+                subscriber.resume(missedSince(lastEventId));
+            }
+            return true;
+        }
+
+        // lastEventId 이후 이벤트 (버퍼에서 밀려난 이벤트가 있으면 RESET 하나)
+        private List<MembershipEventDto> missedSince(long lastEventId) {
+            List<MembershipEventDto> missed = new ArrayList<>();
+            for (int i = 0; i < bufferSize; i++) {
+                MembershipEventDto event = recent.get(i);
+                if (event != null && event.getId() > lastEventId) {
+                    missed.add(event);
+                }
+            }
+            if (lastEventId < evictedUpTo.get()) {
+                return List.of(new MembershipEventDto(sequence.get(), Type.RESET, null, null, null, null,
+                                                      null, null, LocalDateTime.now()));
+            }
+            missed.sort(Comparator.comparingLong(MembershipEventDto::getId));
+            return missed;
+        }
+
+        private void remove(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+            lastActivity = System.currentTimeMillis();
+        }
+
+        // 구독자 없이 cutoff 이전부터 쉬고 있으면 정리 표시 (그 사이 등록된 구독자가 있으면 되돌림)
+        private boolean closeIfIdleSince(long cutoff) {
+            if (!subscribers.isEmpty() || lastActivity >= cutoff) {
+                return false;
+            }
+            closed = true;
+            if (!subscribers.isEmpty()) {
+                closed = false;
+                return false;
+            }
+            return true;
+        }
+
+        private void heartbeat() {
+            subscribers.forEach(Subscriber::heartbeat);
+        }
+
+        private void completeAll() {
+            subscribers.forEach(Subscriber::disconnect);
+        }
+    }
+
+    // 구독자별 전송 큐 (한 번에 하나의 가상 스레드만 전송)
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<MembershipEventDto> queue = new ArrayBlockingQueue<>(bufferSize + 1);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 이어받는 동안 발행된 이벤트 (놓친 이벤트를 넣은 뒤 중복을 빼고 전송 큐로 옮김)
+        private final Queue<MembershipEventDto> held = new ConcurrentLinkedQueue<>();
+        private final Set<Long> resumed = ConcurrentHashMap.newKeySet();
+        private volatile boolean live;
+        private volatile Channel channel;
+
+        private Subscriber(SseEmitter emitter, boolean live) {
+            this.emitter = emitter;
+            this.live = live;
+        }
+
+        // 발행된 이벤트 전달 (이어받는 중이면 모아 둠)
+        private void deliver(MembershipEventDto event) {
+            if (live) {
+                enqueue(event);
+                return;
+            }
+            held.add(event);
+            if (live) {
+                releaseHeld();
+            }
+        }
+
+        private void resume(List<MembershipEventDto> missed) {
+            for (MembershipEventDto event : missed) {
+                resumed.add(event.getId());
+                enqueue(event);
+            }
+            live = true;
+            releaseHeld();
+        }
+
+        private void releaseHeld() {
+            MembershipEventDto event;
+            while ((event = held.poll()) != null) {
+                if (!resumed.contains(event.getId())) {
+                    enqueue(event);
+                }
+            }
+        }
+
+        private void enqueue(MembershipEventDto event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                slowConsumers.increment();
+                logger.warn("가입 이벤트 구독자 전송 지연 - 큐 {}건 초과, 연결 종료", bufferSize);
+                disconnect();
+                return;
+            }
+            startSending(false);
+        }
+
+        private void heartbeat() {
+            if (queue.isEmpty()) {
+                startSending(true);
+            }
+        }
+
+        // 전송 중이 아니면 가상 스레드에서 큐 비우기 (전송 중이면 그 스레드가 이어서 보냄)
+        private void startSending(boolean heartbeat) {
+            if (closed.get() || !sending.compareAndSet(false, true)) {
+                return;
+            }
+            senders.execute(() -> {
+                try {
+                    if (heartbeat) {
+                        emitter.send(SseEmitter.event().comment(""));
+                    }
+                    MembershipEventDto event;
+                    while (!closed.get() && (event = queue.poll()) != null) {
+                        emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.getId()))
+                            .name(event.getType().name())
+                            .data(event, MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    logger.debug("가입 이벤트 전송 실패 - 연결 종료: {}", e.getMessage());
+                    disconnect();
+                } finally {
+                    sending.set(false);
+                }
+                if (!queue.isEmpty()) {
+                    startSending(false);
+                }
+            });
+        }
+
+        // 연결 종료 (전송 중인 스레드를 기다리지 않도록 종료도 가상 스레드에서)
+        private void disconnect() {
+            if (closed()) {
+                senders.execute(emitter::complete);
+            }
+        }
+
+        // 구독 해제 (처음 호출될 때만 true)
+        private boolean closed() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            queue.clear();
+            held.clear();
+            Channel current = channel;
+            if (current != null) {
+                current.remove(this);
+            }
+            subscriberCount.decrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.repository.GroupMemberRepository;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// 승인된 가입 관계 그래프 (그룹 -> 승인 회원, 회원 -> 승인 그룹)
+// - 회원 ID는 사전으로 정수 번호를 붙이고 (삭제된 회원의 번호는 재사용하지 않음), 그룹 ID는 그대로 정수로 사용
+// - 양방향 모두 압축 비트맵(RoaringBitmap)으로 보관하여 멤버 여부는 비트 조회, 공통 그룹/회원은 비트맵 교집합
+// - 승인/삭제는 호출 측에서 커밋 후 반영, 시작 시 승인된 가입 신청 스트리밍 조회로 재구성
+// - 재구성 전에는 Optional.empty()를 반환하여 DB 조회로 대체
+// - 변경으로 공통 회원 수가 달라진 그룹을 모아 두고 추천 모델이 가져가 부분 재계산
+@Component
+public class MembershipGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(MembershipGraph.class);
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Graph graph = new Graph();
+    // 재구성 중 들어온 변경 (스캔이 끝난 새 그래프에 다시 적용, 변경은 모두 멱등)
+    private List<Function<Graph, RoaringBitmap>> replay;
+    // 마지막으로 가져간 이후 공통 회원 수가 바뀐 그룹
+    private RoaringBitmap changedGroups = new RoaringBitmap();
+    private volatile boolean ready;
+
+    @Autowired
+    public MembershipGraph(GroupMemberRepository groupMemberRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.groupMemberRepository = groupMemberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 승인된 가입 관계 추가
+    public void approve(Long groupId, String memberId) {
+        int group = toIndexId(groupId);
+        update(current -> {
+            current.add(group, memberId);
+            return current.groupsOf(memberId).clone();
+        });
+    }
+
+    // 그룹 삭제 반영
+    public void removeGroup(Long groupId) {
+        int group = toIndexId(groupId);
+        update(current -> current.removeGroup(group));
+    }
+
+    // 회원 삭제 반영
+    public void removeMember(String memberId) {
+        update(current -> current.removeMember(memberId));
+    }
+
+    // 회원이 그룹의 승인된 멤버인지 확인
+    public Optional<Boolean> isApprovedMember(Long groupId, String memberId) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap members = graph.membersOfGroup(groupId);
+            Integer member = graph.memberIndex.get(memberId);
+            return Optional.of(members != null && member != null && members.contains(member));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 잠금 안에서 그래프 조회 (여러 비트맵을 함께 읽는 계산용, 잠금 시간이 짧도록 작은 단위로 호출)
+    public <T> Optional<T> read(Function<View, T> reader) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(reader.apply(graph));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 마지막 호출 이후 공통 회원 수가 바뀐 그룹 ID를 가져가고 비움
+    public RoaringBitmap drainChangedGroups() {
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap drained = changedGroups;
+            changedGroups = new RoaringBitmap();
+            return drained;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 두 회원이 함께 승인된 그룹 ID (오름차순)
+    public Optional<List<Long>> findSharedGroups(String memberId, String otherMemberId) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap groups = graph.groupsOf(memberId);
+            RoaringBitmap otherGroups = graph.groupsOf(otherMemberId);
+            if (groups == null || otherGroups == null) {
+                return Optional.of(List.of());
+            }
+            RoaringBitmap shared = RoaringBitmap.and(groups, otherGroups);
+            List<Long> ids = new ArrayList<>(shared.getCardinality());
+            IntIterator iterator = shared.getIntIterator();
+            while (iterator.hasNext()) {
+                ids.add((long) iterator.next());
+            }
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 두 그룹의 승인 회원 수와 공통 회원 수 (교집합을 만들지 않고 개수만 계산)
+    public Optional<Overlap> overlap(Long groupId, Long otherGroupId) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap members = graph.membersOfGroup(groupId);
+            RoaringBitmap otherMembers = graph.membersOfGroup(otherGroupId);
+            if (members == null || otherMembers == null) {
+                return Optional.of(new Overlap(cardinality(members), cardinality(otherMembers), 0));
+            }
+            return Optional.of(new Overlap(members.getLongCardinality(), otherMembers.getLongCardinality(),
+                                           RoaringBitmap.andCardinality(members, otherMembers)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 애플리케이션 시작 시 승인된 가입 신청 전체로 그래프 재구성
+    // - 스캔은 잠금 없이 새 그래프에 적재하고 (기존 그래프로 조회 계속), 교체할 때만 쓰기 잠금
+    // - 그래프를 읽는 다른 시작 작업(추천 모델)보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        setReplay(new ArrayList<>());
+
+        Graph rebuilt = new Graph();
+        Long loaded;
+        try {
+            loaded = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Stream<Object[]> rows = groupMemberRepository.streamApprovedPairs()) {
+                    for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                        rebuilt.add(toIndexId((Long) row[0]), (String) row[1]);
+                        count++;
+                    }
+                }
+                return count;
+            });
+        } catch (RuntimeException e) {
+            setReplay(null);
+            throw e;
+        }
+        rebuilt.optimize();
+
+        lock.writeLock().lock();
+        try {
+            replay.forEach(change -> change.apply(rebuilt));
+            replay = null;
+            graph = rebuilt;
+            changedGroups = new RoaringBitmap();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("가입 관계 그래프 재구성 완료 - 승인: {}건, 그룹: {}개, 회원: {}명, 소요: {}ms",
+                   loaded, rebuilt.groupMembers.size(), rebuilt.memberIndex.size(), System.currentTimeMillis() - started);
+    }
+
+    // 변경 적용 (변경은 공통 회원 수가 바뀐 그룹을 반환)
+    private void update(Function<Graph, RoaringBitmap> change) {
+        lock.writeLock().lock();
+        try {
+            changedGroups.or(change.apply(graph));
+            if (replay != null) {
+                replay.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setReplay(List<Function<Graph, RoaringBitmap>> changes) {
+        lock.writeLock().lock();
+        try {
+            replay = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long cardinality(RoaringBitmap bitmap) {
+        return bitmap == null ? 0 : bitmap.getLongCardinality();
+    }
+
+    private static int toIndexId(Long groupId) {
+        if (groupId == null || groupId < 0 || groupId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("색인할 수 없는 그룹 ID입니다: " + groupId);
+        }
+        return groupId.intValue();
+    }
+
+    // 그래프 읽기 (read() 안에서만 사용, 반환된 비트맵은 수정하지 않음)
+    public interface View {
+
+        // 승인 회원이 있는 그룹 ID
+        int[] groupIds();
+
+        // 그룹의 승인 회원 번호 (없으면 null)
+        RoaringBitmap membersOf(int groupId);
+
+        // 회원 번호의 승인 그룹
+        RoaringBitmap groupsOf(int member);
+
+        // 회원의 승인 그룹 (없으면 null)
+        RoaringBitmap groupsOf(String memberId);
+    }
+
+    // 그룹 -> 회원 번호, 회원 번호 -> 그룹 비트맵 (잠금은 바깥에서)
+    private static final class Graph implements View {
+
+        private final Map<String, Integer> memberIndex = new HashMap<>();
+        private final List<RoaringBitmap> memberGroups = new ArrayList<>();
+        private final Map<Integer, RoaringBitmap> groupMembers = new HashMap<>();
+
+        private void add(int group, String memberId) {
+            int member = memberIndex.computeIfAbsent(memberId, id -> {
+                memberGroups.add(new RoaringBitmap());
+                return memberGroups.size() - 1;
+            });
+            memberGroups.get(member).add(group);
+            groupMembers.computeIfAbsent(group, id -> new RoaringBitmap()).add(member);
+        }
+
+        // 그룹 제거 후 회원들이 속한 다른 그룹 반환
+        private RoaringBitmap removeGroup(int group) {
+            RoaringBitmap neighbors = new RoaringBitmap();
+            RoaringBitmap members = groupMembers.remove(group);
+            if (members == null) {
+                return neighbors;
+            }
+            neighbors.add(group);
+            IntIterator iterator = members.getIntIterator();
+            while (iterator.hasNext()) {
+                RoaringBitmap groups = memberGroups.get(iterator.next());
+                groups.remove(group);
+                neighbors.or(groups);
+            }
+            return neighbors;
+        }
+
+        // 회원 제거 후 회원이 속했던 그룹 반환
+        private RoaringBitmap removeMember(String memberId) {
+            Integer member = memberIndex.remove(memberId);
+            if (member == null) {
+                return new RoaringBitmap();
+            }
+            RoaringBitmap groups = memberGroups.set(member, new RoaringBitmap());
+            IntIterator iterator = groups.getIntIterator();
+            while (iterator.hasNext()) {
+                int group = iterator.next();
+                RoaringBitmap members = groupMembers.get(group);
+                if (members != null) {
+                    members.remove(member);
+                    if (members.isEmpty()) {
+                        groupMembers.remove(group);
+                    }
+                }
+            }
+            return groups;
+        }
+
+        @Override
+        public int[] groupIds() {
+            return groupMembers.keySet().stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        @Override
+        public RoaringBitmap membersOf(int groupId) {
+            return groupMembers.get(groupId);
+        }
+
+        @Override
+        public RoaringBitmap groupsOf(int member) {
+            return memberGroups.get(member);
+        }
+
+        @Override
+        public RoaringBitmap groupsOf(String memberId) {
+            Integer member = memberIndex.get(memberId);
+            return member == null ? null : memberGroups.get(member);
+        }
+
+        private RoaringBitmap membersOfGroup(Long groupId) {
+            if (groupId == null || groupId < 0 || groupId > Integer.MAX_VALUE) {
+                return null;
+            }
+            return groupMembers.get(groupId.intValue());
+        }
+
+        // 연속된 번호가 많은 컨테이너를 run 인코딩으로 압축
+        private void optimize() {
+            groupMembers.values().forEach(RoaringBitmap::runOptimize);
+            memberGroups.forEach(RoaringBitmap::runOptimize);
+        }
+    }
+
+    // 두 그룹의 승인 회원 수와 공통 회원 수
+    public record Overlap(long members, long otherMembers, long shared) {
+    }
+}
@@ -0,0 +1,315 @@
+package me.kmj.gather.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import me.kmj.gather.support.ReplicationTrigger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.ResultSetMetaData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 원본 → 복제본 데이터베이스 동기화 (gather.replica.enabled, 복제본은 같은 프로세스의 두 번째 H2)
+// - 기동 완료 후 스키마를 복사하고, 원본 테이블에 행 트리거를 건 뒤 전체 행을 복사
+// - 이후 트리거가 replication_log에 남긴 ID의 현재 행을 원본에서 읽어 복제본에서 교체 (없으면 삭제)
+//   행 내용이 아닌 현재 상태를 복사하므로 같은 ID가 여러 번 기록되거나 순서가 바뀌어도 결과가 같음
+// - 쓰기 트랜잭션이 커밋될 때마다 번호를 올려 호출자(세션/IP)별 마지막 번호로 기록하고 동기화를 깨움
+//   호출자의 마지막 번호까지 반영된 뒤에만 그 호출자의 복제본 읽기를 허용 (자기 쓰기 직후 읽기만 원본에서)
+// - 커밋 중인 쓰기 트랜잭션이 있으면 복제본이 최신이 아닌 것으로 봄
+//   (커밋 후 작업이 메모리 변경 번호를 올린 뒤에야 번호가 올라가므로 그 사이 목록 조회가 복제본으로 가지 않도록)
+@Service
+@ConditionalOnProperty(name = "gather.replica.enabled", havingValue = "true")
+public class ReplicaSynchronizer implements TransactionExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaSynchronizer.class);
+
+    private static final int BATCH_SIZE = 5000;
+    private static final int FETCH_SIZE = 1000;
+
+    // 복제 대상 테이블과 ID 타입 (숫자 ID 여부)
+    private static final Map<String, Boolean> TABLES = new LinkedHashMap<>();
+
+    static {
+        TABLES.put("member", false);
+        TABLES.put("group_info", true);
+        TABLES.put("group_member", true);
+    }
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final TransactionTemplate replicaTransaction;
+    private final long pollMillis;
+
+    private final AtomicLong committedWrites = new AtomicLong();
+    private final AtomicLong replicatedWrites = new AtomicLong(-1);
+    // 복제본이 아직 반영하지 않은 쓰기를 한 호출자별 마지막 커밋 번호
+    private final ConcurrentMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final Set<TransactionExecution> committing = ConcurrentHashMap.newKeySet();
+    private final Semaphore wakeUp = new Semaphore(0);
+    private volatile boolean running = true;
+    private Thread worker;
+
+    @Autowired
+    public ReplicaSynchronizer(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                               @Value("${gather.replica.poll-interval:PT1S}") Duration pollInterval) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.primary.setFetchSize(FETCH_SIZE);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replicaTransaction = new TransactionTemplate(new DataSourceTransactionManager(replicaDataSource));
+        this.pollMillis = pollInterval.toMillis();
+    }
+
+    // 복제본이 지금까지 커밋된 쓰기를 모두 반영했는지 (초기 복사 전, 커밋 중인 쓰기가 있으면 false)
+    // 커밋 중인 쓰기를 먼저 확인 (비어 있으면 그 전에 커밋을 마친 쓰기는 이미 번호에 포함됨)
+    public boolean isReplicaCurrent() {
+        return committing.isEmpty() && replicatedWrites.get() >= committedWrites.get();
+    }
+
+    // 현재 호출자가 복제본에서 읽어도 되는지 (호출자의 마지막 쓰기까지 반영됐으면 다른 호출자의 쓰기는 기다리지 않음)
+    public boolean isReplicaCurrentForCaller() {
+        long replicated = replicatedWrites.get();
+        if (replicated < 0) {
+            return false;
+        }
+        Long lastWrite = lastWrites.get(currentCaller());
+        return lastWrite == null || replicated >= lastWrite;
+    }
+
+    // 쓰기 트랜잭션 커밋 시작 (커밋 후 작업까지 끝날 때까지 커밋 중으로 기록)
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (!transaction.isReadOnly()) {
+            committing.add(transaction);
+        }
+    }
+
+    // 쓰기 트랜잭션 커밋 (트리거 기록이 보이는 시점) → 호출자의 마지막 쓰기 번호 기록, 동기화 깨움
+    // 번호를 올린 뒤에 커밋 중 기록을 지움
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            long write = committedWrites.incrementAndGet();
+            lastWrites.merge(currentCaller(), write, Math::max);
+            wakeUp.release();
+        }
+        committing.remove(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        committing.remove(transaction);
+    }
+
+    public int getPendingCallers() {
+        return lastWrites.size();
+    }
+
+    // 호출자 식별: 세션이 있으면 세션, 없으면 클라이언트 IP, 요청 밖(스케줄러 등)이면 스레드
+    private static String currentCaller() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            HttpSession session = request.getSession(false);
+            return session != null ? "session:" + session.getId() : "ip:" + request.getRemoteAddr();
+        }
+        return "thread:" + Thread.currentThread().threadId();
+    }
+
+    // 초기 복사는 동기화 스레드에서 (끝날 때까지 읽기 전용 트랜잭션도 원본 사용)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = Thread.ofPlatform().name("replica-sync").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void run() {
+        try {
+            initialize();
+        } catch (RuntimeException e) {
+            logger.error("복제본 초기화 실패 - 모든 조회를 원본에서 처리합니다: {}", e.getMessage(), e);
+            return;
+        }
+
+        while (running) {
+            try {
+                // 커밋 알림이 없어도 주기적으로 확인 (트랜잭션 밖에서 실행된 쓰기)
+                wakeUp.tryAcquire(pollMillis, TimeUnit.MILLISECONDS);
+                wakeUp.drainPermits();
+                while (running && !synchronize()) {
+                    // 기록이 배치 크기보다 많으면 이어서 처리
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                if (running) {
+                    logger.warn("복제본 동기화 실패 - 다음 주기에 재시도: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void initialize() {
+        long started = System.currentTimeMillis();
+
+        // 스키마 복사 (복제본은 원본이 보장한 데이터만 받으므로 참조 무결성 검사는 끔)
+        replica.execute("DROP ALL OBJECTS");
+        for (String statement : primary.queryForList("SCRIPT NODATA", String.class)) {
+            if (isSchemaStatement(statement)) {
+                replica.execute(statement);
+            }
+        }
+        replica.execute("SET REFERENTIAL_INTEGRITY FALSE");
+
+        // 트리거를 먼저 건 뒤 복사 (복사 도중 바뀐 행은 기록되어 이후 동기화에서 다시 복사)
+        primary.execute("CREATE TABLE IF NOT EXISTS replication_log (" +
+                        "seq BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                        "table_name VARCHAR(64) NOT NULL, row_id VARCHAR(64) NOT NULL)");
+        for (String table : TABLES.keySet()) {
+            primary.execute("CREATE TRIGGER IF NOT EXISTS " + table + "_replication " +
+                            "AFTER INSERT, UPDATE, DELETE ON " + table + " FOR EACH ROW " +
+                            "CALL '" + ReplicationTrigger.class.getName() + "'");
+        }
+
+        for (String table : TABLES.keySet()) {
+            long rows = copyTable(table);
+            logger.info("복제본 초기 복사 - {}: {}건", table, rows);
+        }
+        logger.info("복제본 초기화 완료 - 소요: {}ms", System.currentTimeMillis() - started);
+    }
+
+    // 기록된 변경을 한 배치 반영 (남은 기록이 없으면 true)
+    private boolean synchronize() {
+        // 기록을 읽기 전에 번호를 가져옴 (이 번호까지의 커밋은 모두 기록이 보임)
+        long target = committedWrites.get();
+        List<Map<String, Object>> entries = primary.queryForList(
+            "SELECT seq, table_name, row_id FROM replication_log ORDER BY seq LIMIT ?", BATCH_SIZE);
+
+        if (!entries.isEmpty()) {
+            Map<String, Set<String>> keysByTable = new LinkedHashMap<>();
+            Object[] seqs = new Object[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                Map<String, Object> entry = entries.get(i);
+                seqs[i] = entry.get("seq");
+                keysByTable.computeIfAbsent((String) entry.get("table_name"), table -> new LinkedHashSet<>())
+                           .add((String) entry.get("row_id"));
+            }
+            replicaTransaction.executeWithoutResult(status -> keysByTable.forEach(this::replaceRows));
+            primary.update("DELETE FROM replication_log WHERE seq = ANY(?)", new Object[]{seqs});
+        }
+
+        if (entries.size() < BATCH_SIZE) {
+            long replicated = replicatedWrites.accumulateAndGet(target, Math::max);
+            // 반영된 호출자 제거 (그 사이 다시 쓴 호출자는 번호가 바뀌어 남음)
+            lastWrites.values().removeIf(write -> write <= replicated);
+            return true;
+        }
+        return false;
+    }
+
+    // 복제본의 해당 행을 지우고 원본의 현재 행으로 다시 INSERT (원본에서 삭제된 행은 지운 상태로 남음)
+    private void replaceRows(String table, Set<String> keys) {
+        Boolean numeric = TABLES.get(table);
+        if (numeric == null) {
+            logger.warn("복제 대상이 아닌 테이블의 변경 기록 무시 - {}", table);
+            return;
+        }
+        Object[] ids = numeric ? keys.stream().map(Long::valueOf).toArray() : keys.toArray();
+
+        List<Map<String, Object>> rows = primary.queryForList("SELECT * FROM " + table + " WHERE id = ANY(?)",
+                                                              new Object[]{ids});
+        replica.update("DELETE FROM " + table + " WHERE id = ANY(?)", new Object[]{ids});
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        List<Object[]> values = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            values.add(columns.stream().map(row::get).toArray());
+        }
+        replica.batchUpdate(insertSql(table, columns), values);
+    }
+
+    private long copyTable(String table) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        List<String> columns = new ArrayList<>();
+        long[] rows = new long[1];
+        primary.query("SELECT * FROM " + table, rs -> {
+            if (columns.isEmpty()) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    columns.add(metaData.getColumnLabel(i));
+                }
+            }
+            Object[] values = new Object[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rs.getObject(i + 1);
+            }
+            batch.add(values);
+            rows[0]++;
+            if (batch.size() == BATCH_SIZE) {
+                insertBatch(table, columns, batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            insertBatch(table, columns, batch);
+        }
+        return rows[0];
+    }
+
+    private void insertBatch(String table, List<String> columns, List<Object[]> batch) {
+        replicaTransaction.executeWithoutResult(status -> replica.batchUpdate(insertSql(table, columns), batch));
+    }
+
+    private static String insertSql(String table, List<String> columns) {
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" +
+               String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    }
+
+    // 원본 스키마 중 복제본에 필요한 문장 (주석, 사용자, 변경 기록 테이블, 트리거 제외)
+    private static boolean isSchemaStatement(String statement) {
+        String upper = statement.toUpperCase();
+        return !upper.startsWith("--")
+            && !upper.startsWith("CREATE USER")
+            && !upper.contains("REPLICATION_LOG")
+            && !upper.contains("TRIGGER");
+    }
+}
@@ -0,0 +1,422 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.support.ReadRouting;
+import me.kmj.gather.support.SnapshotFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 회원/그룹/가입 신청 스냅샷 저장과 복원 (메모리 DB 재시작 시 데이터 유지)
+// - 저장: 한 읽기 트랜잭션(REPEATABLE READ, 첫 조회 시점 기준)에서 세 테이블을 순서대로 읽어 블록 단위로 기록
+//   임시 파일에 쓴 뒤 원자적으로 교체하므로 저장 도중 종료되어도 이전 스냅샷이 남음
+// - 복원: 블록 체크섬 확인 후 해석, 배치 INSERT를 여러 커넥션에서 병렬 실행 (엔티티/영속성 컨텍스트 없음)
+//   일관된 스냅샷이므로 복원 중에는 참조 무결성 검사를 끄고, 끝나면 시퀀스를 최대 ID 이후로 재설정
+// - 종료 시 저장은 @PreDestroy가 아닌 라이프사이클 종료 단계에서 실행 (빈 소멸 순서와 무관하게 DB가 열려 있음)
+@Service
+public class SnapshotService implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotService.class);
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int BATCH_SIZE = 5000;
+    private static final int SHUTDOWN_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final GroupMemberStatus[] STATUSES = GroupMemberStatus.values();
+
+    // 섹션 태그는 파일 형식의 일부이므로 바꾸지 않음 (테이블 추가 시 새 태그)
+    private static final List<Table> TABLES = List.of(
+        new Table(1, "member",
+            "SELECT id, name, gender, phone_number, address, version, updated_at FROM member",
+            "INSERT INTO member (id, name, gender, phone_number, address, version, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+            new int[]{Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP},
+            (rs, out) -> {
+                out.writeString(rs.getString(1));
+                out.writeString(rs.getString(2));
+                out.writeString(rs.getString(3));
+                out.writeString(rs.getString(4));
+                out.writeString(rs.getString(5));
+                out.writeLong(rs.getLong(6));
+                out.writeTime(rs.getObject(7, LocalDateTime.class));
+            },
+            in -> new Object[]{
+                in.readString(), in.readString(), in.readString(), in.readString(), in.readString(),
+                in.readLong(), in.readTime()
+            }),
+        new Table(2, "group_info",
+            "SELECT id, name, description, created_by, created_at, approved_members_count, pending_members_count, " +
+            "version, updated_at FROM group_info",
+            "INSERT INTO group_info (id, name, description, created_by, created_at, approved_members_count, " +
+            "pending_members_count, version, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            new int[]{Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.BIGINT,
+                      Types.BIGINT, Types.BIGINT, Types.TIMESTAMP},
+            (rs, out) -> {
+                LocalDateTime createdAt = rs.getObject(5, LocalDateTime.class);
+                out.writeLong(rs.getLong(1));
+                out.writeString(rs.getString(2));
+                out.writeString(rs.getString(3));
+                out.writeString(rs.getString(4));
+                out.writeTime(createdAt);
+                out.writeLong(rs.getLong(6));
+                out.writeLong(rs.getLong(7));
+                out.writeLong(rs.getLong(8));
+                out.writeTime(rs.getObject(9, LocalDateTime.class), createdAt);
+            },
+            in -> {
+                long id = in.readLong();
+                String name = in.readString();
+                String description = in.readString();
+                String createdBy = in.readString();
+                LocalDateTime createdAt = in.readTime();
+                return new Object[]{id, name, description, createdBy, createdAt, in.readLong(), in.readLong(),
+                                    in.readLong(), in.readTime(createdAt)};
+            }),
+        // 상태는 GroupMemberStatus 순서 번호로 기록 (상태 추가 시 끝에 추가하거나 형식 버전을 올림)
+        new Table(3, "group_member",
+            "SELECT id, member_id, group_id, status, requested_at, processed_at, version FROM group_member",
+            "INSERT INTO group_member (id, member_id, group_id, status, requested_at, processed_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)",
+            new int[]{Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP,
+                      Types.BIGINT},
+            (rs, out) -> {
+                LocalDateTime requestedAt = rs.getObject(5, LocalDateTime.class);
+                out.writeLong(rs.getLong(1));
+                out.writeString(rs.getString(2));
+                out.writeLong(rs.getLong(3));
+                out.writeLong(GroupMemberStatus.valueOf(rs.getString(4)).ordinal());
+                out.writeTime(requestedAt);
+                out.writeTime(rs.getObject(6, LocalDateTime.class), requestedAt);
+                out.writeLong(rs.getLong(7));
+            },
+            in -> {
+                long id = in.readLong();
+                String memberId = in.readString();
+                long groupId = in.readLong();
+                String status = STATUSES[in.readInt()].name();
+                LocalDateTime requestedAt = in.readTime();
+                return new Object[]{id, memberId, groupId, status, requestedAt, in.readTime(requestedAt), in.readLong()};
+            })
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final boolean enabled;
+    private final Path path;
+    private final int restoreThreads;
+
+    private volatile boolean ready;
+    private volatile boolean running;
+    private volatile SnapshotStats lastSnapshot;
+
+    @Autowired
+    public SnapshotService(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${gather.snapshot.enabled:false}") boolean enabled,
+                           @Value("${gather.snapshot.path:./data/gather.snapshot}") Path path,
+                           @Value("${gather.snapshot.restore-threads:4}") int restoreThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.path = path;
+        this.restoreThreads = Math.max(1, restoreThreads);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public SnapshotStats getLastSnapshot() {
+        return lastSnapshot;
+    }
+
+    // 설정된 경로에 스냅샷 저장
+    public SnapshotStats snapshot() {
+        return snapshot(path);
+    }
+
+    // 스냅샷 저장 (동시에 한 번만)
+    public synchronized SnapshotStats snapshot(Path file) {
+        long started = System.currentTimeMillis();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            long[] rows;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16);
+                 SnapshotFile.Writer writer = new SnapshotFile.Writer(out, LocalDateTime.now())) {
+                // 복제본은 뒤처져 있을 수 있으므로 원본에서 읽음
+                rows = readTransaction.execute(status -> {
+                    ReadRouting.primary();
+                    return writeTables(writer);
+                });
+                writer.finish();
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            SnapshotStats stats = new SnapshotStats(file.toString(), rows[0], rows[1], rows[2], Files.size(file),
+                                                    System.currentTimeMillis() - started);
+            lastSnapshot = stats;
+            logger.info("스냅샷 저장 완료 - 회원: {}, 그룹: {}, 가입 신청: {}, 크기: {}KB, 소요: {}ms",
+                       stats.members(), stats.groups(), stats.memberships(), stats.bytes() / 1024, stats.elapsedMillis());
+            return stats;
+        } catch (IOException e) {
+            logger.error("스냅샷 저장 실패 - {}: {}", file, e.getMessage());
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                logger.warn("스냅샷 임시 파일 삭제 실패 - {}", temp);
+            }
+        }
+    }
+
+    // 스냅샷 복원 (빈 데이터베이스에만, 실패 시 예외 - 이미 적재된 행은 clear()로 정리)
+    public SnapshotStats restore(Path file) throws IOException {
+        long started = System.currentTimeMillis();
+        long[] rows = new long[TABLES.size()];
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        ExecutorService executor = Executors.newFixedThreadPool(restoreThreads);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16);
+             SnapshotFile.Reader reader = new SnapshotFile.Reader(in)) {
+            logger.info("스냅샷 복원 시작 - {} (형식 버전 {}, 저장 시각 {})", file, reader.getVersion(), reader.getBaseTime());
+            for (int tag = reader.nextSection(); tag != 0; tag = reader.nextSection()) {
+                int index = tableIndex(tag);
+                rows[index] = insertSection(reader, TABLES.get(index), executor);
+            }
+        } finally {
+            awaitTermination(executor);
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+
+        // 이후 애플리케이션이 저장하는 행이 복원한 ID와 겹치지 않도록 시퀀스 재설정
+        restartSequence("group_info");
+        restartSequence("group_member");
+
+        SnapshotStats stats = new SnapshotStats(file.toString(), rows[0], rows[1], rows[2], Files.size(file),
+                                                System.currentTimeMillis() - started);
+        logger.info("스냅샷 복원 완료 - 회원: {}, 그룹: {}, 가입 신청: {}, 소요: {}ms",
+                   stats.members(), stats.groups(), stats.memberships(), stats.elapsedMillis());
+        return stats;
+    }
+
+    // 복원 실패 시 일부만 적재된 행 정리
+    public void clear() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            for (int i = TABLES.size() - 1; i >= 0; i--) {
+                jdbcTemplate.execute("TRUNCATE TABLE " + TABLES.get(i).name());
+            }
+        } finally {
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+
+    // 비어 있는 데이터베이스인지 (이미 데이터가 있으면 복원하지 않음)
+    public boolean isDatabaseEmpty() {
+        Long members = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Long.class);
+        return members == null || members == 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ready = true;
+    }
+
+    // 주기적 스냅샷 (기동 완료 후에만, 기동 실패로 비어 있는 상태를 저장하지 않도록)
+    @Scheduled(fixedDelayString = "${gather.snapshot.interval:PT10M}",
+               initialDelayString = "${gather.snapshot.interval:PT10M}")
+    public void scheduledSnapshot() {
+        if (enabled && ready) {
+            try {
+                snapshot();
+            } catch (UncheckedIOException e) {
+                // 다음 주기에 다시 시도 (이전 스냅샷은 그대로)
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 종료 시 스냅샷 (라이프사이클 종료 단계에서 실행, 이후 빈 소멸 단계에서 DataSource/EntityManagerFactory가 닫힘)
+    @Override
+    public void stop() {
+        running = false;
+        if (enabled && ready) {
+            try {
+                snapshot();
+            } catch (UncheckedIOException e) {
+                // 종료는 계속 진행 (마지막 주기 스냅샷이 남음)
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버(DEFAULT_PHASE - 1024, 정상 종료 대기 - 2048)가 요청 처리를 마친 뒤 저장되도록 더 늦게 종료
+    @Override
+    public int getPhase() {
+        return SHUTDOWN_PHASE;
+    }
+
+    private long[] writeTables(SnapshotFile.Writer writer) {
+        long[] rows = new long[TABLES.size()];
+        for (int i = 0; i < TABLES.size(); i++) {
+            Table table = TABLES.get(i);
+            try {
+                writer.beginSection(table.tag());
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(table.select(), ResultSet.TYPE_FORWARD_ONLY,
+                                                                ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(FETCH_SIZE);
+                    return statement;
+                }, rs -> {
+                    try {
+                        table.writer().write(rs, writer);
+                        writer.endRow();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                rows[i] = writer.endSection();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return rows;
+    }
+
+    // 블록을 해석해 배치로 나누고, 동시에 실행되는 배치 수를 스레드 수의 두 배로 제한 (읽기가 앞서 나가 메모리를 채우지 않도록)
+    private long insertSection(SnapshotFile.Reader reader, Table table, ExecutorService executor) throws IOException {
+        Semaphore inFlight = new Semaphore(restoreThreads * 2);
+        List<Future<?>> pending = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long count = 0;
+        try {
+            while (reader.nextRow()) {
+                batch.add(table.reader().read(reader));
+                count++;
+                if (batch.size() == BATCH_SIZE) {
+                    pending.add(submit(executor, inFlight, table, batch));
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                pending.add(submit(executor, inFlight, table, batch));
+            }
+            for (Future<?> future : pending) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("스냅샷 복원 중단", e);
+        } catch (ExecutionException e) {
+            throw new IOException(table.name() + " 복원 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+        logger.info("스냅샷 복원 - {}: {}건", table.name(), count);
+        return count;
+    }
+
+    private Future<?> submit(ExecutorService executor, Semaphore inFlight, Table table, List<Object[]> batch)
+            throws InterruptedException {
+        inFlight.acquire();
+        return executor.submit(() -> {
+            try {
+                writeTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(table.insert(), batch, table.types()));
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    // 실패한 경우에도 실행 중인 배치가 끝난 뒤 정리하도록 종료 대기
+    private static void awaitTermination(ExecutorService executor) {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warn("스냅샷 복원 배치가 제한 시간 안에 끝나지 않았습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void restartSequence(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + (maxId + 100));
+    }
+
+    private static int tableIndex(int tag) throws IOException {
+        for (int i = 0; i < TABLES.size(); i++) {
+            if (TABLES.get(i).tag() == tag) {
+                return i;
+            }
+        }
+        throw new IOException("알 수 없는 스냅샷 섹션: " + tag);
+    }
+
+    public record SnapshotStats(String path, long members, long groups, long memberships, long bytes, long elapsedMillis) {
+    }
+
+    private record Table(int tag, String name, String select, String insert, int[] types,
+                         RowWriter writer, RowReader reader) {
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs, SnapshotFile.Writer out) throws SQLException, IOException;
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        Object[] read(SnapshotFile.Reader in) throws IOException;
+    }
+}
@@ -0,0 +1,141 @@
+package me.kmj.gather.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.GroupMemberRepository.StatusCount;
+import me.kmj.gather.repository.MemberRepository;
+import me.kmj.gather.support.ConnectionGuardFilter;
+import me.kmj.gather.support.VirtualThreadPinningMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@Transactional(readOnly = true)
+public class StatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsService.class);
+
+    private final MemberRepository memberRepository;
+    private final GroupInfoRepository groupInfoRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final MembershipCounterService membershipCounterService;
+    private final CacheManager cacheManager;
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+    private final ObjectProvider<ConnectionGuardFilter> connectionGuard;
+
+    @Autowired
+    public StatisticsService(MemberRepository memberRepository,
+                           GroupInfoRepository groupInfoRepository,
+                           GroupMemberRepository groupMemberRepository,
+                           MembershipCounterService membershipCounterService,
+                           CacheManager cacheManager,
+                           ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor,
+                           ObjectProvider<ConnectionGuardFilter> connectionGuard) {
+        this.memberRepository = memberRepository;
+        this.groupInfoRepository = groupInfoRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.membershipCounterService = membershipCounterService;
+        this.cacheManager = cacheManager;
+        this.pinningMonitor = pinningMonitor;
+        this.connectionGuard = connectionGuard;
+    }
+
+    // 전체 통계 조회 (그룹 수와 무관하게 집계 쿼리 3회)
+    public Map<String, Object> getOverallStatistics() {
+        logger.debug("전체 통계 집계 요청");
+
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalMembers", memberRepository.count());
+        statistics.put("totalGroups", groupInfoRepository.count());
+
+        Map<GroupMemberStatus, Long> statusCounts = toMap(groupMemberRepository.countGroupByStatus());
+        statistics.put("totalPendingGroupRequests", statusCounts.get(GroupMemberStatus.PENDING));
+        statistics.put("totalApprovedGroupMembers", statusCounts.get(GroupMemberStatus.APPROVED));
+
+        logger.debug("전체 통계 집계 완료: {}", statistics);
+        return statistics;
+    }
+
+    // 그룹별 상세 통계 조회 (메모리 카운터 사용)
+    public Map<String, Object> getGroupStatistics(Long groupId) {
+        logger.debug("그룹별 통계 집계 요청 - 그룹: {}", groupId);
+
+        long approvedCount = membershipCounterService.getApprovedCount(groupId);
+        long pendingCount = membershipCounterService.getPendingCount(groupId);
+
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("approvedMembers", approvedCount);
+        statistics.put("pendingRequests", pendingCount);
+        statistics.put("totalRequests", approvedCount + pendingCount);
+
+        logger.debug("그룹별 통계 집계 완료 - 그룹: {}, {}", groupId, statistics);
+        return statistics;
+    }
+
+    // 캐시별 적중/미적중/제거 통계 조회
+    public Map<String, Object> getCacheStatistics() {
+        Map<String, Object> statistics = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (!(cache instanceof CaffeineCache caffeineCache)) {
+                continue;
+            }
+            CacheStats stats = caffeineCache.getNativeCache().stats();
+            Map<String, Object> cacheStatistics = new HashMap<>();
+            cacheStatistics.put("size", caffeineCache.getNativeCache().estimatedSize());
+            cacheStatistics.put("hitCount", stats.hitCount());
+            cacheStatistics.put("missCount", stats.missCount());
+            cacheStatistics.put("hitRate", stats.hitRate());
+            cacheStatistics.put("evictionCount", stats.evictionCount());
+            statistics.put(name, cacheStatistics);
+        }
+        return statistics;
+    }
+
+    // 가상 스레드 모드 진단 정보 조회 (캐리어 고정 지점, 동시 요청 제한 현황)
+    public Map<String, Object> getVirtualThreadStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("virtualThreads", pinningMonitor.getIfAvailable() != null);
+        pinningMonitor.ifAvailable(monitor -> {
+            statistics.put("pinnedCount", monitor.getPinnedCount());
+            statistics.put("pinnedSites", monitor.getPinnedSites());
+        });
+        connectionGuard.ifAvailable(guard -> {
+            statistics.put("availablePermits", guard.getAvailablePermits());
+            statistics.put("waitingRequests", guard.getQueueLength());
+            statistics.put("rejectedRequests", guard.getRejectedCount());
+        });
+        return statistics;
+    }
+
+    // 상태별 집계 결과를 모든 상태가 채워진 맵으로 변환
+    private Map<GroupMemberStatus, Long> toMap(List<StatusCount> counts) {
+        Map<GroupMemberStatus, Long> result = new EnumMap<>(GroupMemberStatus.class);
+        for (GroupMemberStatus status : GroupMemberStatus.values()) {
+            result.put(status, 0L);
+        }
+        for (StatusCount count : counts) {
+            result.put(count.getStatus(), count.getCount());
+        }
+        return result;
+    }
+}
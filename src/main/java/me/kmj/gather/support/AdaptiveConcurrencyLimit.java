@@ -0,0 +1,93 @@
+package me.kmj.gather.support;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 지연 시간에 맞춰 조정되는 동시 처리 한도 (Gradient 방식)
+// - 최근 지연 시간(짧은 이동 평균)이 평소 지연 시간(긴 이동 평균)보다 커지면 한도를 줄이고,
+//   비슷하면 sqrt(한도)만큼 늘림 → 커넥션 풀 대기로 지연이 늘기 시작하면 한도가 처리 가능한 수로 수렴
+// - 한도를 넘는 요청은 기다리지 않고 바로 거절 (대기열을 만들지 않아 허용된 요청의 지연이 유지됨)
+// - 처리 중 수는 AtomicInteger CAS, 추정 상태는 불변 레코드를 AtomicReference로 교체 (잠금 없음)
+public class AdaptiveConcurrencyLimit {
+
+    // 짧은/긴 이동 평균 구간 (표본 수)
+    private static final double SHORT_WINDOW = 10;
+    private static final double LONG_WINDOW = 600;
+    // 새 한도를 반영하는 비율 (한 표본에 크게 흔들리지 않도록)
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private record State(double limit, double shortRtt, double longRtt, long samples) {
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicReference<State> state;
+
+    // tolerance: 평소 지연 시간의 몇 배까지는 한도를 줄이지 않을지
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit || tolerance < 1) {
+            throw new IllegalArgumentException("동시 처리 한도 설정이 올바르지 않습니다");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.state = new AtomicReference<>(new State(initialLimit, 0, 0, 0));
+    }
+
+    public boolean tryAcquire() {
+        int limit = getLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 실패/비동기 응답처럼 지연 시간이 의미 없는 요청은 표본 없이 반납
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public void release(long rttNanos) {
+        int concurrent = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            state.updateAndGet(current -> update(current, rttNanos, concurrent));
+        }
+    }
+
+    private State update(State current, double rtt, int concurrent) {
+        long samples = current.samples() + 1;
+        double shortRtt = samples == 1 ? rtt : current.shortRtt() + (rtt - current.shortRtt()) / SHORT_WINDOW;
+        double longRtt = samples == 1 ? rtt : current.longRtt() + (rtt - current.longRtt()) / LONG_WINDOW;
+        // 과부하가 끝나 최근 지연 시간이 평소(과부하 동안 같이 올라간 긴 평균)의 절반 아래로 떨어지면
+        // 긴 평균을 표본마다 5%씩 더 낮춤 (천천히 따라오는 긴 평균이 부풀려진 채로 남아 한도를 과하게 늘리지 않도록)
+        if (longRtt > shortRtt * 2) {
+            longRtt *= 0.95;
+        }
+
+        double limit = current.limit();
+        // 한도의 절반도 쓰지 않을 때는 지연 시간이 한도와 무관하므로 한도를 유지
+        if (concurrent >= limit / 2) {
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+            double target = limit * gradient + Math.sqrt(limit);
+            limit = limit * (1 - SMOOTHING) + target * SMOOTHING;
+            limit = Math.max(minLimit, Math.min(maxLimit, limit));
+        }
+        return new State(limit, shortRtt, longRtt, samples);
+    }
+
+    public int getLimit() {
+        return (int) state.get().limit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,198 @@
+package me.kmj.gather.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// 서비스 계층 앞의 요청 허용 제어
+// 1. 호출자별 속도 제한: 클라이언트 IP별 버킷은 항상, 회원 ID 파라미터(memberId/createdById/processorId/ownerId)가 있으면
+//    회원별 버킷도 함께 적용 (회원 ID를 바꿔 가며 보내도 IP 한도는 넘지 못함)
+// 2. 엔드포인트(메서드 + URL 패턴)별 동시 처리 한도: 지연 시간에 맞춰 조정 (AdaptiveConcurrencyLimit)
+// - 넘는 요청은 대기 없이 429 + Retry-After (오류 페이지 렌더링 없이 상태 코드만)
+// - 한 호출자가 몰아서 보내도 다른 호출자의 요청은 속도 제한에 걸리지 않고, 느려진 엔드포인트는 한도만큼만 커넥션을 사용
+// - 스트리밍 경로는 연결이 길게 유지되므로 동시 처리 한도에서 제외 (속도 제한은 적용)
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlInterceptor.class);
+
+    private static final String PERMIT = AdmissionControlInterceptor.class.getName() + ".permit";
+    private static final List<String> CALLER_PARAMETERS = List.of("memberId", "createdById", "processorId", "ownerId");
+
+    private record Permit(AdaptiveConcurrencyLimit limit, long startedNanos) {
+    }
+
+    private final CallerRateLimiter addressRateLimiter;
+    private final CallerRateLimiter memberRateLimiter;
+    private final ConcurrentMap<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final List<String> excludedPaths;
+    private final MeterRegistry meterRegistry;
+    private final Counter rateRejected;
+    private final Counter concurrencyRejected;
+
+    public AdmissionControlInterceptor(CallerRateLimiter addressRateLimiter, CallerRateLimiter memberRateLimiter,
+                                       int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                       List<String> excludedPaths, MeterRegistry meterRegistry) {
+        // 설정 오류는 기동 시점에 드러나도록 미리 한 번 생성
+        new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance);
+        this.addressRateLimiter = addressRateLimiter;
+        this.memberRateLimiter = memberRateLimiter;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.excludedPaths = excludedPaths;
+        this.meterRegistry = meterRegistry;
+        this.rateRejected = Counter.builder("gather.admission.rejected")
+                .description("호출자별 속도 제한으로 거절된 요청")
+                .tag("reason", "rate")
+                .register(meterRegistry);
+        this.concurrencyRejected = Counter.builder("gather.admission.rejected")
+                .description("엔드포인트 동시 처리 한도로 거절된 요청")
+                .tag("reason", "concurrency")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 재디스패치/오류 디스패치는 최초 요청에서 이미 허용됨
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        String caller = "ip:" + request.getRemoteAddr();
+        long waitNanos = addressRateLimiter.tryAcquire(caller);
+        String memberId = memberIdOf(request);
+        if (waitNanos == 0 && memberId != null) {
+            caller = "member:" + memberId;
+            waitNanos = memberRateLimiter.tryAcquire(caller);
+        }
+        if (waitNanos > 0) {
+            rateRejected.increment();
+            logger.debug("요청 속도 제한 초과 - 호출자: {}, {} {}", caller, request.getMethod(), request.getRequestURI());
+            reject(response, waitNanos);
+            return false;
+        }
+
+        if (isExcluded(request.getRequestURI())) {
+            return true;
+        }
+        String endpoint = endpointOf(request);
+        AdaptiveConcurrencyLimit limit = limitOf(endpoint);
+        if (!limit.tryAcquire()) {
+            concurrencyRejected.increment();
+            logger.debug("동시 처리 한도 초과 - {} (한도: {})", endpoint, limit.getLimit());
+            reject(response, TimeUnit.SECONDS.toNanos(1));
+            return false;
+        }
+        request.setAttribute(PERMIT, new Permit(limit, System.nanoTime()));
+        return true;
+    }
+
+    // 비동기 응답은 요청 스레드가 반환될 때 한도를 돌려줌 (지연 시간 표본은 남기지 않음)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Permit permit = takePermit(request);
+        if (permit != null) {
+            permit.limit().release();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Permit permit = takePermit(request);
+        if (permit == null) {
+            return;
+        }
+        // 서버 오류는 빨리 끝나도 정상 처리 지연 시간이 아니므로 표본에서 제외
+        if (ex != null || response.getStatus() >= 500) {
+            permit.limit().release();
+        } else {
+            permit.limit().release(System.nanoTime() - permit.startedNanos());
+        }
+    }
+
+    // 버킷이 다시 가득 찬 호출자 정리 (제거된 수)
+    public int evictIdleCallers() {
+        return addressRateLimiter.evictIdle() + memberRateLimiter.evictIdle();
+    }
+
+    public int getTrackedCallers() {
+        return addressRateLimiter.getTrackedCallers() + memberRateLimiter.getTrackedCallers();
+    }
+
+    private AdaptiveConcurrencyLimit limitOf(String endpoint) {
+        AdaptiveConcurrencyLimit limit = limits.get(endpoint);
+        if (limit != null) {
+            return limit;
+        }
+        AdaptiveConcurrencyLimit created = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance);
+        limit = limits.putIfAbsent(endpoint, created);
+        if (limit != null) {
+            return limit;
+        }
+        Gauge.builder("gather.admission.limit", created, AdaptiveConcurrencyLimit::getLimit)
+                .description("엔드포인트 동시 처리 한도")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Gauge.builder("gather.admission.in.flight", created, AdaptiveConcurrencyLimit::getInFlight)
+                .description("엔드포인트 처리 중 요청 수")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return created;
+    }
+
+    private Permit takePermit(HttpServletRequest request) {
+        Permit permit = (Permit) request.getAttribute(PERMIT);
+        if (permit != null) {
+            request.removeAttribute(PERMIT);
+        }
+        return permit;
+    }
+
+    private boolean isExcluded(String uri) {
+        return excludedPaths.stream().anyMatch(uri::startsWith);
+    }
+
+    private static String memberIdOf(HttpServletRequest request) {
+        for (String parameter : CALLER_PARAMETERS) {
+            String value = request.getParameter(parameter);
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    // 경로 변수 값마다 따로 세지 않도록 매핑된 URL 패턴 사용
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    // 본문 없이 상태 코드와 헤더만 (Retry-After는 초 단위, 최소 1초)
+    private static void reject(HttpServletResponse response, long waitNanos) {
+        long seconds = Math.max(1, (waitNanos + Duration.ofSeconds(1).toNanos() - 1) / Duration.ofSeconds(1).toNanos());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+    }
+}
@@ -0,0 +1,59 @@
+package me.kmj.gather.support;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 호출자별 요청 속도 제한 (토큰 버킷과 같은 동작을 하는 GCRA 방식)
+// - 호출자마다 "다음 요청이 버킷을 비우지 않고 도착할 수 있는 시각" 하나만 AtomicLong으로 보관
+// - 허용 여부 확인과 갱신은 CAS 한 번 (잠금 없음), 거절 시 언제 다시 허용되는지 바로 계산됨
+// - 초당 rate개씩 채워지고 최대 burst개까지 한 번에 사용 가능
+public class CallerRateLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final ConcurrentMap<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+
+    public CallerRateLimiter(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("요청 속도와 버스트는 양수여야 합니다");
+        }
+        this.intervalNanos = (long) (Duration.ofSeconds(1).toNanos() / ratePerSecond);
+        this.burstNanos = intervalNanos * burst;
+    }
+
+    // 허용되면 0, 거절되면 다시 허용될 때까지 남은 시간(ns)
+    public long tryAcquire(String caller) {
+        long now = System.nanoTime();
+        AtomicLong arrival = arrivals.get(caller);
+        if (arrival == null) {
+            arrival = arrivals.computeIfAbsent(caller, key -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = arrival.get();
+            // 오래 쉬었던 호출자는 현재 시각부터 (버킷이 가득 찬 상태)
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - burstNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 버킷이 다시 가득 찬 호출자 제거 (제거 직전 요청이 끼어들면 그 호출자만 버킷을 새로 받음)
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int before = arrivals.size();
+        arrivals.values().removeIf(arrival -> arrival.get() - now <= 0);
+        return before - arrivals.size();
+    }
+
+    public int getTrackedCallers() {
+        return arrivals.size();
+    }
+}
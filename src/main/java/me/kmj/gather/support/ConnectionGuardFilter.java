@@ -0,0 +1,134 @@
+package me.kmj.gather.support;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 동시에 처리하는 API 요청 수를 커넥션 풀 크기로 제한
+// - 가상 스레드는 요청마다 생성되므로 제한이 없으면 수천 개가 커넥션 풀 대기열로 몰림
+// - 허용 수를 넘는 요청은 여기서 대기하고, 대기 시간을 넘기면 503 응답
+// - 비동기 응답 중 작업 스레드가 커넥션을 계속 쓰는 경로(스트리밍 내보내기)만 비동기 처리가 끝날 때 허용을 돌려줌
+//   그 외 비동기 응답은 요청 스레드가 반환될 때 돌려줌 (비동기 재디스패치는 OncePerRequestFilter 기본값대로 다시 거치지 않음)
+// - 커넥션 없이 연결만 길게 유지되는 경로(이벤트 스트림)는 제한하지 않음 (구독자가 허용을 모두 차지하지 않도록)
+public class ConnectionGuardFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionGuardFilter.class);
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final List<String> excludedPaths;
+    private final List<String> asyncHoldPaths;
+    private final LongAdder rejected = new LongAdder();
+
+    public ConnectionGuardFilter(int maxConcurrentRequests, Duration acquireTimeout, List<String> excludedPaths,
+                                 List<String> asyncHoldPaths) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.excludedPaths = excludedPaths;
+        this.asyncHoldPaths = asyncHoldPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return excludedPaths.stream().anyMatch(uri::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        if (!acquired) {
+            rejected.increment();
+            logger.warn("동시 요청 제한 초과 - {} {}", request.getMethod(), request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted() && holdsConnectionWhileAsync(request.getRequestURI())) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion());
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permits.release();
+            }
+        }
+    }
+
+    private boolean holdsConnectionWhileAsync(String uri) {
+        return asyncHoldPaths.stream().anyMatch(uri::startsWith);
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    // 완료/시간 초과/오류 중 어느 경로로 끝나도 허용은 한 번만 반환 (오류 뒤에 완료가 이어서 호출됨)
+    private class ReleaseOnCompletion implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 같은 요청에서 비동기를 다시 시작하면 리스너를 다시 등록해야 완료 통지를 받음
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package me.kmj.gather.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 헤더가 있는 CSV를 열 이름 기준 맵 목록으로 변환 (RFC 4180 따옴표 규칙 지원)
+public final class CsvReader {
+
+    private CsvReader() {
+    }
+
+    public static List<Map<String, String>> read(String csv) {
+        List<List<String>> records = parse(csv);
+        if (records.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> header = records.get(0);
+        List<Map<String, String>> rows = new ArrayList<>(records.size() - 1);
+        for (int i = 1; i < records.size(); i++) {
+            List<String> record = records.get(i);
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            if (record.size() != header.size()) {
+                throw new IllegalArgumentException(
+                    "CSV " + (i + 1) + "번째 줄의 열 개수가 헤더와 다릅니다: " + record.size() + " != " + header.size());
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int column = 0; column < header.size(); column++) {
+                String value = record.get(column);
+                row.put(header.get(column).trim(), value.isEmpty() ? null : value);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<List<String>> parse(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = csv.length();
+        int i = csv.startsWith("\uFEFF") ? 1 : 0;
+
+        for (; i < length; i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < length && csv.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < length && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                record.add(field.toString());
+                field.setLength(0);
+                records.add(record);
+                record = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("CSV 따옴표가 닫히지 않았습니다");
+        }
+        if (field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+}
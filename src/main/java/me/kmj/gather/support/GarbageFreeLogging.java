@@ -0,0 +1,58 @@
+package me.kmj.gather.support;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+// Log4j2 스레드 로컬 재사용 설정 (prod 프로파일에서만 켬)
+// - Log4j는 처음 로거를 만들 때 설정을 한 번만 읽으므로 Spring 환경이 준비되기 전에 시스템 프로퍼티로 지정
+//   (그래서 여기서는 로거를 쓰지 않고, 프로파일도 실행 인자/시스템 프로퍼티/환경 변수에서 직접 읽음)
+// - 내장 Tomcat이 있으면 Log4j가 웹 앱으로 보고 스레드 로컬을 끄므로 prod에서는 웹 앱이 아님을 함께 지정
+// - 가상 스레드 모드에서는 요청마다 스레드가 새로 생겨 재사용되지 않고 스레드마다 버퍼만 늘어나므로 켜지 않음
+public final class GarbageFreeLogging {
+
+    static final String ENABLE_THREADLOCALS = "log4j2.enableThreadlocals";
+    static final String IS_WEBAPP = "log4j2.isWebapp";
+
+    private GarbageFreeLogging() {
+    }
+
+    public static void configure(String[] args) {
+        if (System.getProperty(ENABLE_THREADLOCALS) != null) {
+            return;
+        }
+        if (shouldEnableThreadLocals(args, System::getProperty, System.getenv())) {
+            System.setProperty(IS_WEBAPP, "false");
+            System.setProperty(ENABLE_THREADLOCALS, "true");
+        }
+    }
+
+    static boolean shouldEnableThreadLocals(String[] args, UnaryOperator<String> systemProperties,
+                                            Map<String, String> environment) {
+        Set<String> profiles = Arrays.stream(setting(args, systemProperties, environment,
+                                                     "spring.profiles.active", "").split(","))
+            .map(String::trim)
+            .collect(Collectors.toSet());
+        boolean virtualThreads = profiles.contains("virtual")
+            || Boolean.parseBoolean(setting(args, systemProperties, environment, "spring.threads.virtual.enabled", "false"));
+        return profiles.contains("prod") && !virtualThreads;
+    }
+
+    // 실행 인자 > 시스템 프로퍼티 > 환경 변수 순 (Spring Boot와 같은 우선순위)
+    private static String setting(String[] args, UnaryOperator<String> systemProperties,
+                                  Map<String, String> environment, String name, String defaultValue) {
+        String prefix = "--" + name + "=";
+        for (int i = args.length - 1; i >= 0; i--) {
+            if (args[i].startsWith(prefix)) {
+                return args[i].substring(prefix.length());
+            }
+        }
+        String value = systemProperties.apply(name);
+        if (value == null) {
+            value = environment.get(name.toUpperCase().replace('.', '_'));
+        }
+        return value != null ? value : defaultValue;
+    }
+}
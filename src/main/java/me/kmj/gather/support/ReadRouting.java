@@ -0,0 +1,56 @@
+package me.kmj.gather.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 읽기 전용 트랜잭션이 복제본을 쓸 수 있는 조건 지정 (현재 트랜잭션이 끝날 때까지 유지, 복제본을 쓰지 않으면 효과 없음)
+// - 커넥션은 첫 SQL에서 고르므로 조회 전에 호출해야 함
+// - 같은 트랜잭션에서 여러 번 지정하면 더 엄격한 조건이 남음
+public final class ReadRouting {
+
+    public enum Consistency {
+        // 현재 호출자의 마지막 쓰기까지 반영됐으면 복제본 (기본)
+        CALLER,
+        // 지금까지 커밋된 쓰기를 모두 반영했을 때만 복제본 (메모리 변경 번호를 검증값으로 붙이는 목록)
+        LATEST,
+        // 항상 원본 (공유 캐시 적재, 스냅샷처럼 읽은 값이 다른 호출자에게 그대로 전달되는 읽기)
+        PRIMARY
+    }
+
+    private static final Object KEY = ReadRouting.class;
+
+    private ReadRouting() {
+    }
+
+    public static void primary() {
+        require(Consistency.PRIMARY);
+    }
+
+    public static void latest() {
+        require(Consistency.LATEST);
+    }
+
+    public static Consistency current() {
+        return TransactionSynchronizationManager.getResource(KEY) instanceof Consistency consistency
+            ? consistency
+            : Consistency.CALLER;
+    }
+
+    private static void require(Consistency consistency) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || current().compareTo(consistency) >= 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.unbindResourceIfPossible(KEY) != null) {
+            TransactionSynchronizationManager.bindResource(KEY, consistency);
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(KEY, consistency);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(KEY);
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package me.kmj.gather.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+// 읽기 전용 트랜잭션은 복제본, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 원본으로 보내는 데이터소스
+// - 복제본이 현재 호출자의 마지막 쓰기를 반영하기 전에는 그 호출자의 읽기 전용 트랜잭션도 원본으로 (쓴 직후 읽어도 보임)
+// - ReadRouting으로 더 엄격한 조건을 지정한 트랜잭션은 그 조건을 따름 (모든 쓰기 반영 시에만 복제본, 항상 원본)
+// - 트랜잭션 속성이 동기화된 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 아래에서 사용
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final BooleanSupplier callerCurrent;
+    private final BooleanSupplier replicaCurrent;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier callerCurrent,
+                                    BooleanSupplier replicaCurrent, MeterRegistry meterRegistry) {
+        this.callerCurrent = callerCurrent;
+        this.replicaCurrent = replicaCurrent;
+        this.replicaReads = Counter.builder("gather.replica.reads")
+                .description("읽기 전용 트랜잭션의 커넥션 획득 (복제본)")
+                .tag("target", REPLICA)
+                .register(meterRegistry);
+        this.primaryReads = Counter.builder("gather.replica.reads")
+                .description("읽기 전용 트랜잭션의 커넥션 획득 (복제본 지연 또는 원본 지정으로 원본 사용)")
+                .tag("target", PRIMARY)
+                .register(meterRegistry);
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        boolean useReplica = switch (ReadRouting.current()) {
+            case CALLER -> callerCurrent.getAsBoolean();
+            case LATEST -> replicaCurrent.getAsBoolean();
+            case PRIMARY -> false;
+        };
+        if (useReplica) {
+            replicaReads.increment();
+            return REPLICA;
+        }
+        primaryReads.increment();
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,79 @@
+package me.kmj.gather.support;
+
+import org.h2.api.Trigger;
+import org.h2.engine.Session;
+import org.h2.jdbc.JdbcConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// 복제 대상 테이블의 행 트리거 (ReplicaSynchronizer가 원본에 생성)
+// - 변경/삭제된 행의 ID를 쓰기와 같은 트랜잭션에서 replication_log에 기록 (롤백되면 기록도 취소)
+// - 행 내용은 기록하지 않음 (동기화 시 원본의 현재 행을 다시 읽음)
+// - 기록 INSERT는 세션별로 한 번 준비해 재사용 (행마다 SQL을 다시 해석하지 않음)
+public class ReplicationTrigger implements Trigger {
+
+    private static final String INSERT_LOG = "INSERT INTO replication_log (table_name, row_id) VALUES (?, ?)";
+
+    private final Map<Session, PreparedStatement> statements = new HashMap<>();
+    private String tableName;
+    private int keyIndex;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) throws SQLException {
+        this.tableName = tableName.toLowerCase(Locale.ROOT);
+        try (ResultSet columns = conn.getMetaData().getColumns(null, schemaName, tableName, "ID")) {
+            if (!columns.next()) {
+                throw new SQLException("ID 컬럼이 없는 테이블은 복제할 수 없습니다: " + tableName);
+            }
+            keyIndex = columns.getInt("ORDINAL_POSITION") - 1;
+        }
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        Object oldKey = oldRow == null ? null : oldRow[keyIndex];
+        Object newKey = newRow == null ? null : newRow[keyIndex];
+        if (oldKey != null) {
+            log(conn, oldKey);
+        }
+        if (newKey != null && !newKey.equals(oldKey)) {
+            log(conn, newKey);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    private void log(Connection conn, Object key) throws SQLException {
+        PreparedStatement statement = insertLog(conn);
+        statement.setString(1, tableName);
+        statement.setString(2, key.toString());
+        statement.executeUpdate();
+    }
+
+    // 세션별로 한 번만 준비 (H2는 호출마다 새 Connection 래퍼를 넘기므로 그 아래 세션 기준으로 보관)
+    private PreparedStatement insertLog(Connection conn) throws SQLException {
+        Session session = conn.unwrap(JdbcConnection.class).getSession();
+        synchronized (statements) {
+            PreparedStatement statement = statements.get(session);
+            if (statement == null || statement.isClosed()) {
+                // 새 세션이 생길 때만 닫힌 세션의 문장 정리 (풀 커넥션 수만큼만 유지)
+                statements.keySet().removeIf(Session::isClosed);
+                statement = conn.prepareStatement(INSERT_LOG);
+                statements.put(session, statement);
+            }
+            return statement;
+        }
+    }
+}
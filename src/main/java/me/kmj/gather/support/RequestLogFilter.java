@@ -0,0 +1,52 @@
+package me.kmj.gather.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Unbox;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 요청당 한 줄 요청 로그 (운영 모드에서 컨트롤러/서비스 로그 대신 사용)
+// - GET 요청은 표본만 기록, 그 외 메서드와 4xx/5xx 응답은 모두 기록
+// - SLF4J는 인자 3개부터 가변 인자 배열을 만들고 숫자를 박싱하므로 Log4j2 API의 고정 인자 오버로드와 Unbox 사용
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LogManager.getLogger(RequestLogFilter.class);
+
+    private final double getSampleRate;
+
+    public RequestLogFilter(double getSampleRate) {
+        this.getSampleRate = getSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int status = response.getStatus();
+            if (shouldLog(request, status)) {
+                logger.info("{} {} {} {}us", request.getMethod(), request.getRequestURI(), Unbox.box(status),
+                           Unbox.box((System.nanoTime() - started) / 1_000));
+            }
+        }
+    }
+
+    private boolean shouldLog(HttpServletRequest request, int status) {
+        if (!logger.isInfoEnabled()) {
+            return false;
+        }
+        if (status >= 400 || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        return ThreadLocalRandom.current().nextDouble() < getSampleRate;
+    }
+}
@@ -0,0 +1,27 @@
+package me.kmj.gather.support;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 조건부 조회 검증값 (강한 ETag, Last-Modified)
+// - ETag는 같은 URL의 응답끼리만 비교되므로 응답 내용을 결정하는 값만으로 만듦
+// - 수정 시각은 초 단위로 사용 (Last-Modified 헤더 정밀도)
+public record ResourceVersion(String eTag, long lastModified) {
+
+    public static ResourceVersion of(LocalDateTime lastModified, long... parts) {
+        long lastModifiedMillis = lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / 1000 * 1000;
+        StringBuilder eTag = new StringBuilder("\"");
+        for (long part : parts) {
+            eTag.append(Long.toString(part, 36)).append('-');
+        }
+        eTag.append(Long.toString(lastModifiedMillis / 1000, 36)).append('"');
+        return new ResourceVersion(eTag.toString(), lastModifiedMillis);
+    }
+
+    // If-None-Match / If-Modified-Since와 비교 (ETag, Last-Modified 헤더를 설정하고, 바뀌지 않았으면 304 상태로 설정)
+    public boolean isNotModified(WebRequest request) {
+        return request.checkNotModified(eTag, lastModified);
+    }
+}
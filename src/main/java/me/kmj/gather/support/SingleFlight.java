@@ -0,0 +1,99 @@
+package me.kmj.gather.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 같은 키로 동시에 들어온 호출을 한 번의 실행으로 합침
+// - 먼저 들어온 호출이 실행하고, 실행 중에 들어온 호출은 그 결과(또는 예외)를 함께 받음
+// - 결과를 보관하지 않음 (실행이 끝난 뒤의 호출은 다시 실행)
+// - 기다리는 호출은 최대 maxWait까지만 대기하고, 넘으면 직접 실행
+public final class SingleFlight<K, V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    private static final String CALLS_METRIC = "gather.single.flight.calls";
+
+    private final String name;
+    private final long maxWaitNanos;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+    private final Counter timedOut;
+
+    public SingleFlight(String name, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.executed = callCounter(meterRegistry, name, "executed");
+        this.coalesced = callCounter(meterRegistry, name, "coalesced");
+        this.timedOut = callCounter(meterRegistry, name, "timeout");
+        Gauge.builder("gather.single.flight.in.flight", inFlight, Map::size)
+                .description("실행 중인 키 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return await(key, running, loader);
+        }
+
+        executed.increment();
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, future);
+        future.complete(value);
+        return value;
+    }
+
+    private V await(K key, CompletableFuture<V> running, Supplier<V> loader) {
+        coalesced.increment();
+        try {
+            return running.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 실행이 오래 걸리면 더 기다리지 않고 직접 실행 (느린 한 번의 실행에 모든 호출이 묶이지 않도록)
+            timedOut.increment();
+            logger.warn("동시 호출 대기 시간 초과 - {}: {}, 직접 실행", name, key);
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("동시 호출 대기 중 인터럽트되었습니다: " + name, e);
+        }
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder(CALLS_METRIC)
+                .description("동시 호출 합치기 결과별 호출 수")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,295 @@
+package me.kmj.gather.support;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+// 데이터베이스 스냅샷 파일 형식
+// - 헤더: 매직 "GSNP", 형식 버전(int), 기준 시각(epoch 마이크로초, long)
+// - 섹션: 테이블 태그(byte) 뒤에 블록 반복, 행 수 0인 블록이 섹션 끝 (뒤에 섹션 전체 행 수, long)
+// - 블록: 행 수(int), 길이(int), CRC32(int), 본문 (본문은 체크섬을 확인한 뒤에만 해석)
+// - 본문의 정수는 가변 길이(zigzag varint), 문자열은 길이 + UTF-8 (null은 길이 -1)
+// - 시각은 기준 시각과의 차이(마이크로초), null은 0
+// - 파일 끝: 태그 0
+public final class SnapshotFile {
+
+    public static final int MAGIC = 0x47534E50;
+    public static final int VERSION = 1;
+
+    // 블록 본문 최대 크기 (넘으면 다음 행부터 새 블록)
+    private static final int BLOCK_BYTES = 1 << 20;
+    private static final int END = 0;
+
+    private SnapshotFile() {
+    }
+
+    public static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private final long baseMicros;
+        private final CRC32 crc = new CRC32();
+        private byte[] block = new byte[BLOCK_BYTES + 4096];
+        private int length;
+        private int blockRows;
+        private long sectionRows;
+
+        public Writer(OutputStream out, LocalDateTime base) throws IOException {
+            this.out = new DataOutputStream(out);
+            this.baseMicros = toMicros(base);
+            this.out.writeInt(MAGIC);
+            this.out.writeInt(VERSION);
+            this.out.writeLong(baseMicros);
+        }
+
+        public void beginSection(int tag) throws IOException {
+            if (tag <= END || tag > 0xFF) {
+                throw new IllegalArgumentException("잘못된 섹션 태그: " + tag);
+            }
+            out.writeByte(tag);
+            sectionRows = 0;
+        }
+
+        public void endRow() throws IOException {
+            blockRows++;
+            sectionRows++;
+            if (length >= BLOCK_BYTES) {
+                flushBlock();
+            }
+        }
+
+        // 섹션 끝 (전체 행 수 반환)
+        public long endSection() throws IOException {
+            flushBlock();
+            out.writeInt(0);
+            out.writeLong(sectionRows);
+            return sectionRows;
+        }
+
+        // 파일 끝 표시 (이 호출 없이 닫힌 파일은 복원 시 잘린 파일로 판단)
+        public void finish() throws IOException {
+            out.writeByte(END);
+            out.flush();
+        }
+
+        public void writeLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            ensureCapacity(10);
+            while ((zigzag & ~0x7FL) != 0) {
+                block[length++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            block[length++] = (byte) zigzag;
+        }
+
+        public void writeString(String value) {
+            if (value == null) {
+                writeLong(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, block, length, bytes.length);
+            length += bytes.length;
+        }
+
+        public void writeTime(LocalDateTime value) {
+            writeTime(value, null);
+        }
+
+        // 기준 시각과의 차이로 기록 (같은 행의 다른 시각을 기준으로 주면 더 짧게 기록됨)
+        public void writeTime(LocalDateTime value, LocalDateTime reference) {
+            if (value == null) {
+                writeLong(0);
+                return;
+            }
+            long delta = toMicros(value) - (reference == null ? baseMicros : toMicros(reference));
+            // 0은 null 표시이므로 0 이상은 1을 더해 기록
+            writeLong(delta >= 0 ? delta + 1 : delta);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        private void flushBlock() throws IOException {
+            if (blockRows == 0) {
+                return;
+            }
+            crc.reset();
+            crc.update(block, 0, length);
+            out.writeInt(blockRows);
+            out.writeInt(length);
+            out.writeInt((int) crc.getValue());
+            out.write(block, 0, length);
+            length = 0;
+            blockRows = 0;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > block.length) {
+                block = Arrays.copyOf(block, Math.max(block.length * 2, length + extra));
+            }
+        }
+    }
+
+    public static final class Reader implements Closeable {
+
+        private final DataInputStream in;
+        private final int version;
+        private final long baseMicros;
+        private final CRC32 crc = new CRC32();
+        private byte[] block = new byte[BLOCK_BYTES + 4096];
+        private int position;
+        private int length;
+        private int remainingRows;
+        private long sectionRows;
+
+        public Reader(InputStream in) throws IOException {
+            this.in = new DataInputStream(in);
+            if (this.in.readInt() != MAGIC) {
+                throw new IOException("스냅샷 파일이 아닙니다");
+            }
+            this.version = this.in.readInt();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 형식 버전: " + version);
+            }
+            this.baseMicros = this.in.readLong();
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public LocalDateTime getBaseTime() {
+            return fromMicros(baseMicros);
+        }
+
+        // 다음 섹션 태그 (0이면 파일 끝)
+        public int nextSection() throws IOException {
+            sectionRows = 0;
+            try {
+                return in.readUnsignedByte();
+            } catch (EOFException e) {
+                throw new IOException("스냅샷 파일이 잘렸습니다", e);
+            }
+        }
+
+        // 다음 행으로 이동 (섹션 끝이면 false)
+        public boolean nextRow() throws IOException {
+            if (remainingRows > 0) {
+                remainingRows--;
+                sectionRows++;
+                return true;
+            }
+            if (position != length) {
+                throw new IOException("스냅샷 블록 길이가 맞지 않습니다");
+            }
+            try {
+                int rows = in.readInt();
+                if (rows == 0) {
+                    long expected = in.readLong();
+                    if (expected != sectionRows) {
+                        throw new IOException("스냅샷 섹션 행 수가 맞지 않습니다: " + sectionRows + "/" + expected);
+                    }
+                    return false;
+                }
+                readBlock(rows);
+            } catch (EOFException e) {
+                throw new IOException("스냅샷 파일이 잘렸습니다", e);
+            }
+            remainingRows--;
+            sectionRows++;
+            return true;
+        }
+
+        public long readLong() throws IOException {
+            long zigzag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= length) {
+                    throw new IOException("스냅샷 블록을 벗어난 읽기");
+                }
+                byte b = block[position++];
+                zigzag |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IOException("잘못된 가변 길이 정수");
+        }
+
+        public int readInt() throws IOException {
+            return Math.toIntExact(readLong());
+        }
+
+        public String readString() throws IOException {
+            int size = readInt();
+            if (size == -1) {
+                return null;
+            }
+            if (size < 0 || position + size > length) {
+                throw new IOException("잘못된 문자열 길이: " + size);
+            }
+            String value = new String(block, position, size, StandardCharsets.UTF_8);
+            position += size;
+            return value;
+        }
+
+        public LocalDateTime readTime() throws IOException {
+            return readTime(null);
+        }
+
+        public LocalDateTime readTime(LocalDateTime reference) throws IOException {
+            long encoded = readLong();
+            if (encoded == 0) {
+                return null;
+            }
+            long delta = encoded > 0 ? encoded - 1 : encoded;
+            return fromMicros((reference == null ? baseMicros : toMicros(reference)) + delta);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        private void readBlock(int rows) throws IOException {
+            int size = in.readInt();
+            int checksum = in.readInt();
+            if (rows < 0 || size < 0) {
+                throw new IOException("잘못된 스냅샷 블록 헤더");
+            }
+            if (size > block.length) {
+                block = new byte[size];
+            }
+            in.readFully(block, 0, size);
+            crc.reset();
+            crc.update(block, 0, size);
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("스냅샷 블록 체크섬 불일치");
+            }
+            position = 0;
+            length = size;
+            remainingRows = rows;
+        }
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                                           (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
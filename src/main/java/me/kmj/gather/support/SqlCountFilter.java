@@ -0,0 +1,60 @@
+package me.kmj.gather.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+// 요청별 SQL 실행 수를 응답 헤더로 노출하고 N+1 의심 패턴을 경고
+// - 직렬화 중 지연 로딩까지 포함하도록 응답 본문을 버퍼링한 뒤 헤더를 붙임
+// - 스트리밍 응답 경로는 버퍼링하지 않도록 제외
+public class SqlCountFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String MAX_REPEAT_HEADER = "X-SQL-Max-Repeat";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlCountFilter.class);
+
+    private final int repeatThreshold;
+    private final List<String> excludedPaths;
+
+    public SqlCountFilter(int repeatThreshold, List<String> excludedPaths) {
+        this.repeatThreshold = repeatThreshold;
+        this.excludedPaths = excludedPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return excludedPaths.stream().anyMatch(uri::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            SqlStatementCounter.Counts counts = SqlStatementCounter.stop();
+            wrapper.setHeader(COUNT_HEADER, String.valueOf(counts.getTotal()));
+            wrapper.setHeader(MAX_REPEAT_HEADER, String.valueOf(counts.getMaxRepeat()));
+
+            Map<String, Integer> repeated = counts.getRepeated(repeatThreshold);
+            if (!repeated.isEmpty()) {
+                logger.warn("N+1 의심 - {} {}, 전체 SQL: {}회, 반복된 문장: {}",
+                           request.getMethod(), request.getRequestURI(), counts.getTotal(), repeated);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
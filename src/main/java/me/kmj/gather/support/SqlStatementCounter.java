@@ -0,0 +1,79 @@
+package me.kmj.gather.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 요청(스레드)별 SQL 실행 수 집계 (hibernate.session_factory.statement_inspector로 등록)
+// - start()~stop() 사이에 Hibernate가 준비한 문장 수와 문장 형태별 횟수를 기록
+// - 같은 형태가 여러 번 반복되면 N+1 의심
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern LITERALS = Pattern.compile("'(?:[^']|'')*'|\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.record(shapeOf(sql));
+        }
+        return sql;
+    }
+
+    // 현재 스레드에서 집계 시작
+    public static void start() {
+        CURRENT.set(new Counts());
+    }
+
+    // 현재 스레드의 집계 종료 (시작하지 않았으면 빈 결과)
+    public static Counts stop() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts != null ? counts : new Counts();
+    }
+
+    // 리터럴과 IN 목록 길이를 지운 문장 형태
+    static String shapeOf(String sql) {
+        String shape = LITERALS.matcher(sql).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public static final class Counts {
+
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int total;
+
+        private void record(String shape) {
+            total++;
+            shapes.merge(shape, 1, Integer::sum);
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        // 가장 많이 반복된 문장 형태의 실행 횟수
+        public int getMaxRepeat() {
+            return shapes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        // threshold번 이상 반복된 문장 형태 (N+1 의심)
+        public Map<String, Integer> getRepeated(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.forEach((shape, count) -> {
+                if (count >= threshold) {
+                    repeated.put(shape, count);
+                }
+            });
+            return repeated;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package me.kmj.gather.config;
+
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dataset-test",
+        "gather.dataset.members=2000",
+        "gather.dataset.groups=200",
+        "gather.dataset.memberships=20000"
+})
+@ActiveProfiles("dataset")
+class DatasetGeneratorTest {
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void datasetShouldBeLoadedWithConsistentCounts() {
+        assertThat(memberRepository.count()).isEqualTo(2000);
+        assertThat(groupInfoRepository.count()).isEqualTo(200);
+        assertThat(groupMemberRepository.count()).isEqualTo(20000);
+        assertThat(groupInfoRepository.findMembersCountDrift()).isEmpty();
+
+        Long duplicates = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT group_id, member_id FROM group_member " +
+                "GROUP BY group_id, member_id HAVING COUNT(*) > 1)", Long.class);
+        assertThat(duplicates).isZero();
+    }
+
+    @Test
+    void groupPopularityShouldBeSkewed() {
+        Long mostPopular = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM group_member WHERE group_id = 1", Long.class);
+        Long leastPopular = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM group_member WHERE group_id = 200", Long.class);
+
+        assertThat(mostPopular).isGreaterThan(leastPopular * 10);
+    }
+
+    @Test
+    void sameSeedShouldProduceSameFiles(@TempDir Path first, @TempDir Path second) throws Exception {
+        datasetGenerator.generate(first);
+        datasetGenerator.generate(second);
+
+        for (String file : new String[]{"members.csv", "groups.csv", "memberships.csv"}) {
+            assertThat(Files.readAllBytes(first.resolve(file))).isEqualTo(Files.readAllBytes(second.resolve(file)));
+        }
+    }
+}
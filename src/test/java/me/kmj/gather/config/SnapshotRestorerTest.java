@@ -0,0 +1,74 @@
+package me.kmj.gather.config;
+
+import me.kmj.gather.Application;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기동/종료 경로 확인을 위해 애플리케이션을 직접 여러 번 기동 (실행마다 새 메모리 DB)
+class SnapshotRestorerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void snapshotShouldBeSavedOnShutdownAndRestoredBeforeSampleData() {
+        Path file = directory.resolve("gather.snapshot");
+
+        // 1. 샘플 데이터로 기동한 뒤 표시용 회원을 추가하고 종료 (종료 시 스냅샷 저장)
+        long members;
+        try (ConfigurableApplicationContext context = start("snapshot-restorer-1", file)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.update("INSERT INTO member (id, name, gender, phone_number, address, version, updated_at) " +
+                                "VALUES ('snap-mark', '스냅샷회원', '남성', '010-0000-0000', '서울시', 0, CURRENT_TIMESTAMP)");
+            members = countMembers(context);
+        }
+        assertThat(file).exists();
+
+        // 2. 샘플 적재보다 먼저 복원되어야 표시용 회원이 남음 (먼저 적재되면 비어 있지 않아 복원을 건너뜀)
+        try (ConfigurableApplicationContext context = start("snapshot-restorer-2", file)) {
+            assertThat(countMembers(context)).isEqualTo(members);
+            assertThat(context.getBean(JdbcTemplate.class).queryForObject(
+                    "SELECT COUNT(*) FROM member WHERE id = 'snap-mark'", Long.class)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void corruptSnapshotShouldBeMovedAsideAndStartEmpty() throws Exception {
+        Path file = directory.resolve("gather.snapshot");
+        try (ConfigurableApplicationContext context = start("snapshot-restorer-3", file)) {
+            assertThat(countMembers(context)).isPositive();
+        }
+        // 회원 섹션 첫 블록 본문의 한 바이트 변경
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[40] ^= 0x01;
+        Files.write(file, bytes);
+
+        try (ConfigurableApplicationContext context = start("snapshot-restorer-4", file)) {
+            // 복원 실패 후 정리된 데이터베이스에 샘플 데이터가 적재됨
+            assertThat(context.getBean(JdbcTemplate.class).queryForObject(
+                    "SELECT COUNT(*) FROM member WHERE id = 'user001'", Long.class)).isEqualTo(1);
+            assertThat(file.resolveSibling("gather.snapshot.corrupt")).hasBinaryContent(bytes);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String database, Path file) {
+        return new SpringApplicationBuilder(Application.class)
+                .properties("spring.datasource.url=jdbc:h2:mem:" + database,
+                            "server.port=0",
+                            "gather.snapshot.enabled=true",
+                            "gather.snapshot.path=" + file)
+                .run();
+    }
+
+    private static long countMembers(ConfigurableApplicationContext context) {
+        return context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM member", Long.class);
+    }
+}
@@ -0,0 +1,51 @@
+package me.kmj.gather.config;
+
+import me.kmj.gather.support.ConnectionGuardFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:virtual-thread-test")
+@ActiveProfiles("virtual")
+@AutoConfigureMockMvc
+class VirtualThreadConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConnectionGuardFilter connectionGuardFilter;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Test
+    void virtualProfileShouldRunAsyncWorkOnVirtualThreads() throws Exception {
+        assertThat(taskExecutor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void apiRequestsShouldPassThroughTheGuard() throws Exception {
+        // 진단 요청 자신이 허용 하나를 잡고 있음
+        mockMvc.perform(get("/api/admin/statistics/virtual-threads"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.virtualThreads").value(true))
+                .andExpect(jsonPath("$.availablePermits").value(19))
+                .andExpect(jsonPath("$.rejectedRequests").value(0));
+
+        assertThat(connectionGuardFilter.getAvailablePermits()).isEqualTo(20);
+    }
+}
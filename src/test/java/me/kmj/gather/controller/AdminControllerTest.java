@@ -0,0 +1,38 @@
+package me.kmj.gather.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 테스트 컨텍스트는 기본적으로 메트릭 내보내기를 끄므로 명시적으로 켬
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:admin-metrics-test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class AdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void metricsShouldReturnPrometheusText() throws Exception {
+        mockMvc.perform(get("/api/admin/statistics")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/admin/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("text/plain;version=0.0.4")))
+                .andExpect(content().string(containsString("# TYPE http_server_requests_seconds histogram")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("uri=\"/api/admin/statistics\"")))
+                .andExpect(content().string(containsString("hikaricp_connections")));
+    }
+}
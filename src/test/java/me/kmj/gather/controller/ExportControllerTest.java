@@ -0,0 +1,101 @@
+package me.kmj.gather.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.MemberRepository;
+import me.kmj.gather.service.ExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 그룹 내보내기만 제한 시간을 0으로 두어 시간 초과 처리 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:export-test",
+        "gather.export.timeouts.groups=PT0S"
+})
+@AutoConfigureMockMvc
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportShouldStreamOneJsonObjectPerLine() throws Exception {
+        assertThat(exportLines("/api/export/members")).hasSize((int) memberRepository.count());
+        assertThat(exportLines("/api/export/memberships")).hasSize((int) groupMemberRepository.count());
+    }
+
+    @Test
+    void exportShouldStopAtItsTimeout() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> exportService.exportGroups(out))
+                .hasMessageContaining("내보내기 제한 시간을 초과했습니다");
+        assertThat(exportService.exportMembers(new ByteArrayOutputStream())).isEqualTo(memberRepository.count());
+    }
+
+    @Test
+    void failedWriteShouldSurfaceAsUncheckedIoException() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("연결 종료");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("연결 종료");
+            }
+        };
+
+        assertThatThrownBy(() -> exportService.exportMembers(broken))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseMessage("연결 종료");
+    }
+
+    private List<String> exportLines(String path) throws Exception {
+        MvcResult started = mockMvc.perform(get(path))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        for (String line : body.lines().toList()) {
+            JsonNode node = objectMapper.readTree(line);
+            assertThat(node.isObject() && node.has("id")).as(line).isTrue();
+        }
+        return body.lines().toList();
+    }
+}
@@ -0,0 +1,127 @@
+package me.kmj.gather.controller;
+
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.dto.MemberDto;
+import me.kmj.gather.service.GroupInfoService;
+import me.kmj.gather.service.MemberService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:group-info-controller-test")
+@AutoConfigureMockMvc
+class GroupInfoControllerTest {
+
+    private static final String OWNER_ID = "etag-own";
+    private static final String APPLICANT_ID = "etag-app";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private GroupInfoService groupInfoService;
+
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        if (memberService.getMemberById(OWNER_ID).isEmpty()) {
+            memberService.registerMember(new MemberDto(OWNER_ID, "조건부그룹장", "남성", "010-0000-0000", "서울시"));
+            memberService.registerMember(new MemberDto(APPLICANT_ID, "조건부신청자", "여성", "010-0000-0001", "서울시"));
+        }
+        GroupInfoDto group = new GroupInfoDto();
+        group.setName("조건부 조회 그룹");
+        group.setDescription("ETag 테스트 그룹");
+        groupId = groupInfoService.createGroup(group, OWNER_ID).getId();
+    }
+
+    @Test
+    void unchangedGroupShouldReturnNotModified() throws Exception {
+        String eTag = eTagOf("/api/groups/" + groupId);
+
+        mockMvc.perform(get("/api/groups/{id}", groupId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void unchangedGroupShouldHonorIfModifiedSince() throws Exception {
+        String lastModified = mockMvc.perform(get("/api/groups/{id}", groupId))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get("/api/groups/{id}", groupId).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void editedGroupShouldReturnNewRepresentation() throws Exception {
+        String eTag = eTagOf("/api/groups/" + groupId);
+
+        mockMvc.perform(put("/api/groups/{id}", groupId).param("createdById", OWNER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"이름 바뀐 조건부 그룹\",\"description\":\"수정됨\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/groups/{id}", groupId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    void membershipChangeShouldInvalidateGroupAndListETags() throws Exception {
+        String groupETag = eTagOf("/api/groups/" + groupId);
+        String listETag = eTagOf("/api/groups");
+
+        mockMvc.perform(post("/api/group-members/request")
+                        .param("groupId", groupId.toString())
+                        .param("memberId", APPLICANT_ID))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/groups/{id}", groupId).header(HttpHeaders.IF_NONE_MATCH, groupETag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/groups").header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unchangedGroupListShouldReturnNotModified() throws Exception {
+        String eTag = eTagOf("/api/groups?page=0&size=10");
+
+        mockMvc.perform(get("/api/groups").param("page", "0").param("size", "10")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void unchangedMemberShouldReturnNotModified() throws Exception {
+        String eTag = eTagOf("/api/members/" + OWNER_ID);
+
+        mockMvc.perform(get("/api/members/{id}", OWNER_ID).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    private String eTagOf(String url) throws Exception {
+        return mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,130 @@
+package me.kmj.gather.controller;
+
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.dto.MemberDto;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.service.GroupInfoService;
+import me.kmj.gather.service.GroupMemberService;
+import me.kmj.gather.service.MemberService;
+import me.kmj.gather.service.MembershipCounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:group-member-controller-test")
+@AutoConfigureMockMvc
+class GroupMemberControllerTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)\\nevent:REQUESTED");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private GroupInfoService groupInfoService;
+
+    @Autowired
+    private GroupMemberService groupMemberService;
+
+    @Autowired
+    private MembershipCounterService membershipCounterService;
+
+    @BeforeEach
+    void setUp() {
+        for (String id : new String[]{"sse-own", "sse-app1", "sse-app2"}) {
+            if (memberService.getMemberById(id).isEmpty()) {
+                memberService.registerMember(new MemberDto(id, "이벤트회원", "남성", "010-0000-0000", "서울시"));
+            }
+        }
+    }
+
+    @Test
+    void ownerShouldReceiveMembershipEvents() throws Exception {
+        Long groupId = createGroup();
+        MockHttpServletResponse response = subscribe(null);
+
+        Long membershipId = groupMemberService.requestGroupMembership(groupId, "sse-app1").getId();
+        // 메모리 카운터가 적재되지 않은 그룹은 멤버 수 없이 발행
+        assertThat(awaitContent(response, "event:REQUESTED")).contains("\"approvedCount\":null");
+        membershipCounterService.getApprovedCount(groupId);
+        groupMemberService.processGroupMembership(membershipId, GroupMemberStatus.APPROVED, "sse-own");
+        String content = awaitContent(response, "event:PROCESSED");
+
+        assertThat(content).contains("\"membershipId\":" + membershipId, "\"status\":\"APPROVED\"", "\"approvedCount\":1");
+    }
+
+    @Test
+    void reconnectShouldResumeAfterLastEventId() throws Exception {
+        Long groupId = createGroup();
+        MockHttpServletResponse first = subscribe(null);
+        groupMemberService.requestGroupMembership(groupId, "sse-app1");
+        Matcher matcher = EVENT_ID.matcher(awaitContent(first, "event:REQUESTED"));
+        assertThat(matcher.find()).isTrue();
+        long lastEventId = Long.parseLong(matcher.group(1));
+
+        // 연결이 끊긴 동안 발생한 신청
+        groupMemberService.requestGroupMembership(groupId, "sse-app2");
+
+        String resumed = awaitContent(subscribe(lastEventId), "\"memberId\":\"sse-app2\"");
+        assertThat(resumed).doesNotContain("\"memberId\":\"sse-app1\"");
+    }
+
+    @Test
+    void reconnectWithUnknownOldIdShouldReset() throws Exception {
+        createGroup();
+
+        awaitContent(subscribe(-1L), "event:RESET");
+    }
+
+    @Test
+    void subscribeShouldRejectUnknownOwner() throws Exception {
+        mockMvc.perform(get("/api/group-members/events").param("ownerId", "nobody"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long createGroup() {
+        GroupInfoDto group = new GroupInfoDto();
+        group.setName("이벤트 그룹");
+        group.setDescription("SSE 테스트 그룹");
+        return groupInfoService.createGroup(group, "sse-own").getId();
+    }
+
+    private MockHttpServletResponse subscribe(Long lastEventId) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/api/group-members/events").param("ownerId", "sse-own");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    // 전송은 별도 스레드에서 이루어지므로 응답 본문에 나타날 때까지 대기
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+}
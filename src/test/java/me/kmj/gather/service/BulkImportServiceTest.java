@@ -0,0 +1,142 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.dto.BulkImportResultDto;
+import me.kmj.gather.dto.BulkImportResultDto.RowError;
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.dto.MemberDto;
+import me.kmj.gather.dto.MembershipEventDto;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bulk-import-test")
+class BulkImportServiceTest {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private GroupInfoService groupInfoService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MembershipEventHub membershipEventHub;
+
+    @Test
+    void malformedGroupIdShouldBeReportedAsRowError() {
+        memberService.registerMember(new MemberDto("imp-own", "그룹장", "남성", "010-0000-0000", "서울시"));
+        memberService.registerMember(new MemberDto("imp-app", "신청자", "여성", "010-0000-0001", "서울시"));
+        GroupInfoDto dto = new GroupInfoDto();
+        dto.setName("일괄 등록 그룹");
+        Long groupId = groupInfoService.createGroup(dto, "imp-own").getId();
+
+        BulkImportResultDto result = bulkImportService.importMembershipsFromCsv(
+                "groupId,memberId,status\n" +
+                "abc,imp-app,PENDING\n" +
+                groupId + ",imp-app,PENDING\n" +
+                groupId + ",imp-app,PENDING\n");
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(RowError::getRow).containsExactly(1, 3);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("잘못된 그룹 ID입니다: abc");
+        assertThat(result.getErrors().get(1).getMessage()).isEqualTo("이미 가입 신청한 그룹입니다");
+    }
+
+    @Test
+    void importedMembershipsShouldBePublishedToOwnerOncePerGroupAndStatus() throws InterruptedException {
+        memberService.registerMember(new MemberDto("evt-own", "그룹장", "남성", "010-0000-0000", "서울시"));
+        for (String id : List.of("evt-a", "evt-b", "evt-c")) {
+            memberService.registerMember(member(id));
+        }
+        GroupInfoDto dto = new GroupInfoDto();
+        dto.setName("이벤트 그룹");
+        Long groupId = groupInfoService.createGroup(dto, "evt-own").getId();
+
+        List<MembershipEventDto> events = new CopyOnWriteArrayList<>();
+        membershipEventHub.subscribe("evt-own", null, new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                builder.build().stream().map(DataWithMediaType::getData)
+                        .filter(MembershipEventDto.class::isInstance)
+                        .forEach(data -> events.add((MembershipEventDto) data));
+            }
+        });
+
+        bulkImportService.importMembershipsFromCsv(
+                "groupId,memberId,status
+" +
+                groupId + ",evt-a,PENDING
+" +
+                groupId + ",evt-b,PENDING
+" +
+                groupId + ",evt-c,APPROVED
+");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (events.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(events).allMatch(event -> event.getType() == MembershipEventDto.Type.BULK_IMPORTED
+                                             && groupId.equals(event.getGroupId()))
+                .extracting(MembershipEventDto::getStatus)
+                .containsExactlyInAnyOrder(GroupMemberStatus.PENDING, GroupMemberStatus.APPROVED);
+    }
+
+    @Test
+    void duplicatesShouldBeRejectedWithinAndAcrossChunks() {
+        List<MemberDto> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(member(String.format("dup-%04d", i)));
+        }
+        rows.add(member("dup-0000"));
+        rows.add(member("dup-1000"));
+        rows.add(member("dup-1000"));
+
+        BulkImportResultDto result = bulkImportService.importMembers(rows);
+
+        assertThat(result.getImported()).isEqualTo(1001);
+        assertThat(result.getErrors()).extracting(RowError::getRow).containsExactly(1001, 1003);
+        assertThat(result.getErrors()).allMatch(error -> error.getMessage().startsWith("요청 안에서 중복된 ID입니다"));
+    }
+
+    @Test
+    void rolledBackChunkShouldNotBlockItsKeysInLaterChunks() {
+        // 첫 청크는 컬럼 길이를 넘는 값 때문에 저장 단계에서 통째로 롤백
+        List<MemberDto> rows = new ArrayList<>();
+        rows.add(member("fail-keep"));
+        MemberDto tooLong = member("fail-long");
+        tooLong.setGender("x".repeat(20));
+        rows.add(tooLong);
+        for (int i = rows.size(); i < 1000; i++) {
+            rows.add(member(String.format("fail-%04d", i)));
+        }
+        rows.add(member("fail-keep"));
+
+        BulkImportResultDto result = bulkImportService.importMembers(rows);
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).hasSize(1000)
+                .allMatch(error -> error.getRow() <= 1000 && error.getMessage().startsWith("저장 실패"));
+        assertThat(memberRepository.existsById("fail-keep")).isTrue();
+        assertThat(memberRepository.existsById("fail-0002")).isFalse();
+    }
+
+    private static MemberDto member(String id) {
+        return new MemberDto(id, "회원", "여성", "010-0000-0002", "서울시");
+    }
+}
@@ -0,0 +1,164 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.dto.CursorSlice;
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.entity.GroupInfo;
+import me.kmj.gather.entity.GroupMember;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.entity.Member;
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.MemberRepository;
+import me.kmj.gather.support.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cursor-test")
+class CursorPaginationTest {
+
+    private static final String OWNER_ID = "cur-own";
+    private static final String APPLICANT_ID = "cur-app";
+    // 같은 시각 7건 + 더 최근 3건 (정렬 키가 같은 행은 ID로 구분)
+    private static final LocalDateTime TIED = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final int TIED_ROWS = 7;
+    private static final int ROWS = 10;
+
+    @Autowired
+    private GroupInfoService groupInfoService;
+
+    @Autowired
+    private GroupMemberService groupMemberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        if (memberRepository.existsById(OWNER_ID)) {
+            groupId = jdbcTemplate.queryForObject(
+                    "SELECT MIN(id) FROM group_info WHERE created_by = ?", Long.class, OWNER_ID);
+            return;
+        }
+        Member owner = memberRepository.save(new Member(OWNER_ID, "커서그룹장", "남성", "010-0000-0000", "서울시"));
+        Member applicant = memberRepository.save(new Member(APPLICANT_ID, "커서신청자", "여성", "010-0000-0001", "서울시"));
+        List<GroupInfo> groups = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            groups.add(new GroupInfo(null, "커서 그룹 " + i, "커서 테스트 그룹", owner, TIED));
+        }
+        groups = groupInfoRepository.saveAll(groups);
+        groupId = groups.get(0).getId();
+
+        List<GroupMember> memberships = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Member member = i == 0 ? applicant
+                    : memberRepository.save(new Member("cur-m" + i, "커서회원" + i, "여성", "010-0000-0002", "서울시"));
+            memberships.add(new GroupMember(null, member, groups.get(0), GroupMemberStatus.PENDING, TIED, null));
+            if (i > 0) {
+                memberships.add(new GroupMember(null, applicant, groups.get(i), GroupMemberStatus.PENDING, TIED, null));
+            }
+        }
+        groupMemberRepository.saveAll(memberships);
+
+        // 저장 시각이 자동으로 채워지므로 직접 맞춤 (앞쪽 ID는 같은 시각, 나머지는 더 최근)
+        jdbcTemplate.update("UPDATE group_info SET created_at = DATEADD(MINUTE, 1, ?) WHERE created_by = ?", TIED, OWNER_ID);
+        jdbcTemplate.update("UPDATE group_info SET created_at = ? WHERE id IN " +
+                            "(SELECT id FROM group_info WHERE created_by = ? ORDER BY id LIMIT ?)",
+                            TIED, OWNER_ID, TIED_ROWS);
+        jdbcTemplate.update("UPDATE group_member SET requested_at = ? WHERE group_id = ? OR member_id = ?",
+                            TIED, groupId, APPLICANT_ID);
+    }
+
+    @Test
+    void groupsByCreatorShouldWalkTiedRowsWithoutGapsOrDuplicates() {
+        List<GroupInfoDto> all = walk(after -> groupInfoService.getGroupsByCreator(OWNER_ID, after, 4), 4);
+
+        assertThat(all).hasSize(ROWS);
+        assertThat(all).extracting(GroupInfoDto::getId).doesNotHaveDuplicates();
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(GroupInfoDto::getCreatedAt)
+                .thenComparing(GroupInfoDto::getId).reversed());
+        assertThat(all.subList(ROWS - TIED_ROWS, ROWS)).allMatch(group -> group.getCreatedAt().equals(TIED));
+    }
+
+    @Test
+    void membershipsShouldWalkTiedRowsWithoutGapsOrDuplicates() {
+        List<GroupMember> byGroup = walk(after -> groupMemberService.getMembersByGroup(groupId, after, 3), 3);
+        List<GroupMember> byMember = walk(after -> groupMemberService.getMembershipsByMember(APPLICANT_ID, after, 3), 3);
+
+        assertThat(byGroup).hasSize(ROWS).extracting(GroupMember::getId).doesNotHaveDuplicates();
+        assertThat(byMember).hasSize(ROWS).extracting(GroupMember::getId).doesNotHaveDuplicates();
+        // 같은 시각이면 ID 내림차순
+        assertThat(byGroup).extracting(GroupMember::getId)
+                .isSortedAccordingTo(Comparator.<Long>naturalOrder().reversed());
+    }
+
+    @Test
+    void lastPageShouldHaveNoNextCursor() {
+        CursorSlice<GroupInfoDto> first = groupInfoService.getGroupsByCreator(OWNER_ID, "", ROWS - 1);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+
+        CursorSlice<GroupInfoDto> last = groupInfoService.getGroupsByCreator(OWNER_ID, first.getNextCursor(), ROWS - 1);
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+
+        // 정확히 나누어떨어지는 경우에도 빈 다음 페이지를 요구하지 않음
+        CursorSlice<GroupInfoDto> exact = groupInfoService.getGroupsByCreator(OWNER_ID, null, ROWS);
+        assertThat(exact.getContent()).hasSize(ROWS);
+        assertThat(exact.isHasNext()).isFalse();
+    }
+
+    @Test
+    void malformedCursorShouldBeRejected() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서입니다");
+        assertThatThrownBy(() -> Cursor.decode("%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> groupInfoService.getGroupsByCreator(OWNER_ID, "bm90fGEtY3Vyc29y", 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> groupMemberService.getMembersByGroup(groupId, "garbage", 4))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Cursor cursor = new Cursor(TIED, 42L);
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(Cursor.decode(" ")).isNull();
+    }
+
+    // 다음 커서가 없을 때까지 이어서 조회
+    private static <T> List<T> walk(Function<String, CursorSlice<T>> page, int size) {
+        List<T> all = new ArrayList<>();
+        String after = null;
+        do {
+            CursorSlice<T> slice = page.apply(after);
+            assertThat(slice.getContent()).hasSizeLessThanOrEqualTo(size);
+            all.addAll(slice.getContent());
+            after = slice.getNextCursor();
+            assertThat(after == null).isEqualTo(!slice.isHasNext());
+        } while (after != null);
+        return all;
+    }
+}
@@ -0,0 +1,131 @@
+package me.kmj.gather.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.kmj.gather.dto.CursorSlice;
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.dto.GroupSummaryDto;
+import me.kmj.gather.entity.GroupInfo;
+import me.kmj.gather.entity.Member;
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.MemberRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:group-info-test",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class GroupInfoServiceTest {
+
+    private static final String OWNER_ID = "list-own";
+
+    @Autowired
+    private GroupInfoService groupInfoService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        if (memberRepository.existsById(OWNER_ID)) {
+            return;
+        }
+        Member owner = memberRepository.save(new Member(OWNER_ID, "목록그룹장", "남성", "010-0000-0000", "서울시"));
+        List<GroupInfo> groups = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            groups.add(new GroupInfo(null, "목록 그룹 " + i, "목록 테스트 그룹", owner, LocalDateTime.now()));
+        }
+        groupInfoRepository.saveAll(groups);
+    }
+
+    @Test
+    void cursorPageShouldCostOneStatementRegardlessOfSize() {
+        Statistics statistics = statistics();
+
+        CursorSlice<GroupInfoDto> small = groupInfoService.getGroupsByCreator(OWNER_ID, "", 5);
+        long smallStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        CursorSlice<GroupInfoDto> large = groupInfoService.getGroupsByCreator(OWNER_ID, "", 50);
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        assertThat(smallStatements).isEqualTo(1);
+        assertThat(largeStatements).isEqualTo(1);
+        assertThat(large.getContent()).hasSize(50)
+                .allSatisfy(group -> assertThat(group.getCreatedByName()).isEqualTo("목록그룹장"));
+        assertThat(small.getContent()).hasSize(5);
+    }
+
+    @Test
+    void offsetPageShouldFillCreatorNameWithoutPerRowQueries() {
+        Statistics statistics = statistics();
+
+        Page<GroupInfoDto> groups = groupInfoService.getGroupsByCreator(OWNER_ID, PageRequest.of(0, 50));
+
+        // 목록 1회 + 전체 개수 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(groups.getContent()).hasSize(50)
+                .allSatisfy(group -> assertThat(group.getCreatedByName()).isEqualTo("목록그룹장"));
+    }
+
+    @Test
+    void groupLookupShouldBeCachedUntilUpdated() {
+        Long groupId = groupInfoRepository.findAll().get(0).getId();
+        groupInfoService.getGroupById(groupId);
+
+        Statistics statistics = statistics();
+        GroupSummaryDto cached = groupInfoService.getGroupById(groupId).orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        GroupInfoDto update = new GroupInfoDto();
+        update.setName("이름 바뀐 그룹");
+        update.setDescription(cached.getDescription());
+        groupInfoService.updateGroup(groupId, update, OWNER_ID);
+
+        assertThat(groupInfoService.getGroupById(groupId).orElseThrow().getName()).isEqualTo("이름 바뀐 그룹");
+        // 캐시에 있던 값은 변경되지 않음
+        assertThat(cached.getName()).isNotEqualTo("이름 바뀐 그룹");
+    }
+
+    @Test
+    void deletingMemberShouldEvictCachedGroups() {
+        Member creator = memberRepository.save(new Member("evict-own", "삭제될그룹장", "남성", "010-0000-0000", "서울시"));
+        Long groupId = groupInfoRepository.save(
+                new GroupInfo(null, "삭제될 그룹", "캐시 제거 테스트", creator, LocalDateTime.now())).getId();
+        assertThat(groupInfoService.getGroupById(groupId)).isPresent();
+
+        // 캐시를 거치지 않고 그룹을 지운 뒤 생성자 삭제
+        groupInfoRepository.deleteById(groupId);
+        memberService.deleteMember("evict-own");
+
+        assertThat(groupInfoService.getGroupById(groupId)).isEmpty();
+        assertThat(memberService.getMemberById("evict-own")).isEmpty();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,312 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.dto.BulkProcessRequestDto;
+import me.kmj.gather.dto.BulkProcessResultDto;
+import me.kmj.gather.dto.BulkProcessResultDto.Outcome;
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.dto.GroupMemberDto;
+import me.kmj.gather.dto.GroupOverlapDto;
+import me.kmj.gather.dto.MemberDto;
+import me.kmj.gather.entity.GroupInfo;
+import me.kmj.gather.entity.GroupMember;
+import me.kmj.gather.entity.Member;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupInfoRepository.MembersCount;
+import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.MemberRepository;
+import me.kmj.gather.support.SqlCount;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:group-member-test;LOCK_TIMEOUT=10000")
+class GroupMemberServiceTest {
+
+    private static final int APPLICANTS = 40;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private GroupMemberService groupMemberService;
+
+    @Autowired
+    private GroupInfoService groupInfoService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MembershipCounterService membershipCounterService;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void processShouldCostOneMembershipStatementPlusCounter() {
+        Long groupId = createGroup("proc-own");
+        Long membershipId = request(groupId, "proc-app");
+
+        int statements = SqlCount.count(() ->
+                groupMemberService.processGroupMembership(membershipId, GroupMemberStatus.APPROVED, "proc-own"));
+
+        // 조건부 UPDATE(변경된 행 반환) 1회 + 멤버 수 컬럼 증감 1회
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    void processShouldReturnProcessedMembership() {
+        Long groupId = createGroup("dto-own");
+        Long membershipId = request(groupId, "dto-app");
+
+        GroupMemberDto processed = groupMemberService.processGroupMembership(membershipId, GroupMemberStatus.APPROVED, "dto-own");
+
+        assertThat(processed.getId()).isEqualTo(membershipId);
+        assertThat(processed.getGroupId()).isEqualTo(groupId);
+        assertThat(processed.getMemberId()).isEqualTo("dto-app");
+        assertThat(processed.getMemberName()).isEqualTo("신청자 dto-app");
+        assertThat(processed.getStatus()).isEqualTo("APPROVED");
+        assertThat(processed.getProcessedAt()).isNotNull();
+        assertThat(membershipCounterService.getApprovedCount(groupId)).isEqualTo(1);
+        assertThat(membershipCounterService.getPendingCount(groupId)).isZero();
+    }
+
+    @Test
+    void failedProcessShouldReportCause() {
+        Long groupId = createGroup("fail-own");
+        Long membershipId = request(groupId, "fail-app");
+
+        assertThatThrownBy(() -> groupMemberService.processGroupMembership(membershipId, GroupMemberStatus.APPROVED, "fail-app"))
+                .hasMessage("그룹 가입 신청을 처리할 권한이 없습니다");
+        groupMemberService.processGroupMembership(membershipId, GroupMemberStatus.REJECTED, "fail-own");
+        assertThatThrownBy(() -> groupMemberService.processGroupMembership(membershipId, GroupMemberStatus.APPROVED, "fail-own"))
+                .hasMessage("이미 처리된 가입 신청입니다");
+        assertThatThrownBy(() -> groupMemberService.processGroupMembership(-1L, GroupMemberStatus.APPROVED, "fail-own"))
+                .hasMessage("존재하지 않는 가입 신청입니다: -1");
+    }
+
+    @Test
+    void concurrentProcessingShouldApplyEachRequestOnce() throws Exception {
+        Long groupId = createGroup("race-own");
+        List<Long> membershipIds = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            membershipIds.add(request(groupId, String.format("race-%02d", i)));
+        }
+
+        // 신청마다 그룹장의 승인 2회, 거절 2회, 다른 회원의 승인 1회를 섞어서 동시에 실행
+        List<Runnable> attempts = new ArrayList<>();
+        Map<Long, AtomicInteger> successes = new ConcurrentHashMap<>();
+        Map<Long, GroupMemberStatus> applied = new ConcurrentHashMap<>();
+        AtomicInteger forbiddenSuccesses = new AtomicInteger();
+        for (Long membershipId : membershipIds) {
+            successes.put(membershipId, new AtomicInteger());
+            for (GroupMemberStatus status : List.of(GroupMemberStatus.APPROVED, GroupMemberStatus.REJECTED,
+                                                    GroupMemberStatus.APPROVED, GroupMemberStatus.REJECTED)) {
+                attempts.add(() -> {
+                    groupMemberService.processGroupMembership(membershipId, status, "race-own");
+                    successes.get(membershipId).incrementAndGet();
+                    applied.put(membershipId, status);
+                });
+            }
+            attempts.add(() -> {
+                groupMemberService.processGroupMembership(membershipId, GroupMemberStatus.APPROVED, "race-00");
+                forbiddenSuccesses.incrementAndGet();
+            });
+        }
+        Collections.shuffle(attempts);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (Runnable attempt : attempts) {
+            executor.submit(() -> {
+                start.await();
+                try {
+                    attempt.run();
+                } catch (RuntimeException e) {
+                    // 먼저 처리된 신청, 권한 없는 처리는 실패가 정상
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(successes.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(forbiddenSuccesses.get()).isZero();
+
+        long approved = applied.values().stream().filter(status -> status == GroupMemberStatus.APPROVED).count();
+        MembersCount stored = groupInfoRepository.findMembersCountById(groupId).orElseThrow();
+        assertThat(stored.getApproved()).isEqualTo(approved);
+        assertThat(stored.getPending()).isZero();
+        assertThat(membershipCounterService.getApprovedCount(groupId)).isEqualTo(approved);
+        assertThat(membershipCounterService.getPendingCount(groupId)).isZero();
+        assertThat(groupInfoRepository.findMembersCountDrift()).isEmpty();
+    }
+
+    @Test
+    void approvalsShouldReachMembershipGraph() {
+        Long groupId = createGroup("graph-own");
+        Long otherGroupId = createGroup("graph-own2");
+        Long approvedId = request(groupId, "graph-a");
+        Long rejectedId = request(groupId, "graph-b");
+        request(otherGroupId, "graph-c");
+        groupMemberService.requestGroupMembership(otherGroupId, "graph-a");
+
+        groupMemberService.processGroupMembership(approvedId, GroupMemberStatus.APPROVED, "graph-own");
+        groupMemberService.processGroupMembership(rejectedId, GroupMemberStatus.REJECTED, "graph-own");
+        BulkProcessRequestDto bulk = new BulkProcessRequestDto();
+        bulk.setGroupId(otherGroupId);
+        bulk.setStatus(GroupMemberStatus.APPROVED);
+        groupMemberService.processGroupMembershipsInBulk(bulk, "graph-own2");
+
+        assertThat(groupMemberService.isApprovedMember(groupId, "graph-a")).isTrue();
+        assertThat(groupMemberService.isApprovedMember(groupId, "graph-b")).isFalse();
+        assertThat(groupMemberService.isApprovedMember(otherGroupId, "graph-c")).isTrue();
+        assertThat(groupMemberService.getSharedGroupIds("graph-a", "graph-c")).containsExactly(otherGroupId);
+        GroupOverlapDto overlap = groupMemberService.getGroupOverlap(groupId, otherGroupId);
+        assertThat(overlap.getMembers()).isEqualTo(1);
+        assertThat(overlap.getOtherMembers()).isEqualTo(2);
+        assertThat(overlap.getShared()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkByIdsShouldReportEachFailureAndProcessTheRest() {
+        Long groupId = createGroup("bulk-own");
+        Long otherGroupId = createGroup("bulk-other");
+        Long pendingId = request(groupId, "bulk-a");
+        Long processedId = request(groupId, "bulk-b");
+        Long foreignId = request(otherGroupId, "bulk-c");
+        groupMemberService.processGroupMembership(processedId, GroupMemberStatus.REJECTED, "bulk-own");
+
+        BulkProcessRequestDto bulk = new BulkProcessRequestDto();
+        bulk.setMembershipIds(List.of(pendingId, processedId, foreignId, -1L, pendingId));
+        bulk.setStatus(GroupMemberStatus.APPROVED);
+        BulkProcessResultDto result = groupMemberService.processGroupMembershipsInBulk(bulk, "bulk-own");
+
+        // 중복 ID는 한 번만 처리, 실패한 신청이 있어도 나머지는 반영
+        assertThat(result.getRequested()).isEqualTo(4);
+        assertThat(result.getProcessed()).isEqualTo(1);
+        assertThat(result.getResults()).containsOnly(
+                Map.entry(pendingId, Outcome.PROCESSED),
+                Map.entry(processedId, Outcome.ALREADY_PROCESSED),
+                Map.entry(foreignId, Outcome.FORBIDDEN),
+                Map.entry(-1L, Outcome.NOT_FOUND));
+        assertThat(groupMemberService.isApprovedMember(groupId, "bulk-a")).isTrue();
+        assertThat(membershipCounterService.getApprovedCount(groupId)).isEqualTo(1);
+        assertThat(membershipCounterService.getPendingCount(otherGroupId)).isEqualTo(1);
+
+        bulk.setStatus(GroupMemberStatus.PENDING);
+        assertThatThrownBy(() -> groupMemberService.processGroupMembershipsInBulk(bulk, "bulk-own"))
+                .hasMessage("승인 또는 거절만 처리할 수 있습니다: PENDING");
+    }
+
+    @Test
+    void bulkByGroupShouldRequireOwnerAndPageThroughPendingIds() {
+        Long groupId = createGroup("bpage-own");
+        // 일괄 처리 배치(1000건)를 여러 번 넘기도록 직접 적재
+        GroupInfo group = groupInfoRepository.findById(groupId).orElseThrow();
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            members.add(new Member(String.format("bp-%04d", i), "일괄회원", "여성", "010-0000-0000", "서울시"));
+        }
+        members = memberRepository.saveAll(members);
+        List<GroupMember> memberships = new ArrayList<>();
+        for (Member member : members) {
+            memberships.add(new GroupMember(null, member, group, GroupMemberStatus.PENDING, LocalDateTime.now(), null));
+        }
+        groupMemberRepository.saveAll(memberships);
+        membershipCounterService.add(groupId, 0, members.size());
+
+        BulkProcessRequestDto bulk = new BulkProcessRequestDto();
+        bulk.setGroupId(groupId);
+        bulk.setStatus(GroupMemberStatus.REJECTED);
+        assertThatThrownBy(() -> groupMemberService.processGroupMembershipsInBulk(bulk, "bp-0000"))
+                .hasMessage("그룹 가입 신청을 처리할 권한이 없습니다");
+        assertThat(groupMemberService.getPendingMembersCount(groupId)).isEqualTo(2500);
+
+        BulkProcessResultDto result = groupMemberService.processGroupMembershipsInBulk(bulk, "bpage-own");
+
+        assertThat(result.getRequested()).isEqualTo(2500);
+        assertThat(result.getProcessed()).isEqualTo(2500);
+        assertThat(groupMemberRepository.findIdsByGroupIdAndStatus(groupId, GroupMemberStatus.PENDING)).isEmpty();
+        assertThat(groupMemberService.getPendingMembersCount(groupId)).isZero();
+    }
+
+    @Test
+    void concurrentDuplicateRequestsShouldSaveOnce() throws Exception {
+        Long groupId = createGroup("dup-own");
+        memberService.registerMember(new MemberDto("dup-app", "신청자 dup-app", "여성", "010-0000-0001", "서울시"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger saved = new AtomicInteger();
+        List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                start.await();
+                try {
+                    groupMemberService.requestGroupMembership(groupId, "dup-app");
+                    saved.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failures.add(e.getMessage());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(saved.get()).isEqualTo(1);
+        assertThat(failures).hasSize(THREADS - 1).containsOnly("이미 가입 신청한 그룹입니다");
+        assertThat(groupInfoRepository.findMembersCountById(groupId).orElseThrow().getPending()).isEqualTo(1);
+        assertThat(membershipCounterService.getPendingCount(groupId)).isEqualTo(1);
+    }
+
+    @Test
+    void memberListShouldCheckGroupOnlyWhenEmpty() {
+        Long groupId = createGroup("mlist-own");
+        assertThat(groupMemberService.getMembersByGroup(groupId, null, 10).getContent()).isEmpty();
+        assertThatThrownBy(() -> groupMemberService.getMembersByGroup(-1L, null, 10))
+                .hasMessageContaining("존재하지 않는 그룹입니다");
+
+        // 멤버가 있으면 목록 조회 1회로 끝남 (그룹 엔티티를 따로 읽지 않음)
+        request(groupId, "mlist-app");
+        int statements = SqlCount.count(() -> groupMemberService.getMembersByGroup(groupId, null, 10));
+        assertThat(statements).isEqualTo(1);
+    }
+
+    private Long createGroup(String ownerId) {
+        memberService.registerMember(new MemberDto(ownerId, "그룹장 " + ownerId, "남성", "010-0000-0000", "서울시"));
+        GroupInfoDto group = new GroupInfoDto();
+        group.setName("처리 테스트 그룹 " + ownerId);
+        GroupInfo created = groupInfoService.createGroup(group, ownerId);
+        return created.getId();
+    }
+
+    private Long request(Long groupId, String memberId) {
+        memberService.registerMember(new MemberDto(memberId, "신청자 " + memberId, "여성", "010-0000-0001", "서울시"));
+        return groupMemberService.requestGroupMembership(groupId, memberId).getId();
+    }
+}
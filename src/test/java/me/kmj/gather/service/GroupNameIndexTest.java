@@ -0,0 +1,80 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.repository.GroupInfoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupNameIndexTest {
+
+    private GroupNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        GroupInfoRepository repository = mock(GroupInfoRepository.class);
+        when(repository.streamAllNames()).thenReturn(Stream.of(
+                new Object[]{1L, "개발자 커뮤니티"},
+                new Object[]{2L, "독서 모임"},
+                new Object[]{3L, "운동 모임"},
+                new Object[]{4L, "주니어 개발자 스터디"}
+        ));
+        index = new GroupNameIndex(repository, mock(PlatformTransactionManager.class));
+        index.rebuild();
+    }
+
+    @Test
+    void searchShouldMatchHangulSubstringsNewestFirst() {
+        assertThat(index.search("개발자", Long.MAX_VALUE, 0, 10).orElseThrow().ids()).containsExactly(4L, 1L);
+        assertThat(index.search("모임", Long.MAX_VALUE, 0, 10).orElseThrow().ids()).containsExactly(3L, 2L);
+        assertThat(index.search("자 커뮤", Long.MAX_VALUE, 0, 10).orElseThrow().ids()).containsExactly(1L);
+    }
+
+    @Test
+    void searchShouldVerifyLongKeywordsAgainstName() {
+        index.add(5L, "개발자 커피 모임");
+
+        GroupNameIndex.SearchResult result = index.search("개발자 커뮤", Long.MAX_VALUE, 0, 10).orElseThrow();
+
+        assertThat(result.ids()).containsExactly(1L);
+        assertThat(result.total()).isEqualTo(1);
+    }
+
+    @Test
+    void searchShouldPageAndSeekBeforeId() {
+        GroupNameIndex.SearchResult firstPage = index.search("모임", Long.MAX_VALUE, 0, 1).orElseThrow();
+        GroupNameIndex.SearchResult afterCursor = index.search("모임", 3L, 0, 10).orElseThrow();
+
+        assertThat(firstPage.ids()).containsExactly(3L);
+        assertThat(firstPage.total()).isEqualTo(2);
+        assertThat(afterCursor.ids()).containsExactly(2L);
+    }
+
+    @Test
+    void updatesShouldReplaceAndRemoveEntries() {
+        index.add(2L, "독서 토론");
+        index.remove(3L);
+
+        assertThat(index.search("모임", Long.MAX_VALUE, 0, 10).orElseThrow().ids()).isEmpty();
+        assertThat(index.search("토론", Long.MAX_VALUE, 0, 10).orElseThrow().ids()).containsExactly(2L);
+    }
+
+    @Test
+    void searchShouldNormalizeDecomposedHangul() {
+        String decomposed = Normalizer.normalize("커뮤니티", Normalizer.Form.NFD);
+
+        assertThat(index.search(decomposed, Long.MAX_VALUE, 0, 10).orElseThrow().ids()).isEqualTo(List.of(1L));
+    }
+
+    @Test
+    void singleCharacterKeywordShouldFallBackToDatabase() {
+        assertThat(index.search("모", Long.MAX_VALUE, 0, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,86 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.dto.RecommendedGroupDto;
+import me.kmj.gather.repository.GroupMemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupRecommendationServiceTest {
+
+    private MembershipGraph graph;
+    private GroupRecommendationService service;
+
+    @BeforeEach
+    void setUp() {
+        // 그룹 1: a, b, c / 그룹 2: a, b / 그룹 3: c, d / 그룹 4: d
+        GroupMemberRepository repository = mock(GroupMemberRepository.class);
+        when(repository.streamApprovedPairs()).thenReturn(Stream.of(
+                new Object[]{1L, "a"}, new Object[]{1L, "b"}, new Object[]{1L, "c"},
+                new Object[]{2L, "a"}, new Object[]{2L, "b"},
+                new Object[]{3L, "c"}, new Object[]{3L, "d"},
+                new Object[]{4L, "d"}
+        ));
+        graph = new MembershipGraph(repository, mock(PlatformTransactionManager.class));
+        service = new GroupRecommendationService(graph, 50, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void recommendShouldBeEmptyBeforeBuild() {
+        graph.rebuild();
+
+        assertThat(service.recommend("b", 10)).isEmpty();
+        assertThat(service.getLastBuild()).isEmpty();
+    }
+
+    @Test
+    void recommendShouldRankUnjoinedGroupsBySimilarity() {
+        graph.rebuild();
+        service.rebuild();
+
+        // b가 속한 그룹 1과 그룹 3의 공통 회원은 c 한 명: 1 / sqrt(3 × 2)
+        assertThat(service.recommend("b", 10)).singleElement().satisfies(recommendation -> {
+            assertThat(recommendation.getGroupId()).isEqualTo(3L);
+            assertThat(recommendation.getScore()).isCloseTo(1 / Math.sqrt(6), within(1e-6));
+        });
+        assertThat(service.recommend("d", 10)).extracting(RecommendedGroupDto::getGroupId).containsExactly(1L);
+        assertThat(service.recommend("nobody", 10)).isEmpty();
+        assertThat(service.getLastBuild()).hasValueSatisfying(stats -> assertThat(stats.groups()).isEqualTo(4));
+    }
+
+    @Test
+    void refreshShouldRecomputeChangedGroups() {
+        graph.rebuild();
+        service.rebuild();
+
+        graph.approve(4L, "b");
+        service.refresh();
+
+        // 그룹 4의 이웃이 다시 계산되어 d에게 그룹 2가 추천되고, 그룹 1은 두 그룹의 점수가 합산되어 먼저 나옴
+        assertThat(service.recommend("d", 10)).extracting(RecommendedGroupDto::getGroupId).containsExactly(1L, 2L);
+        assertThat(service.recommend("b", 10)).extracting(RecommendedGroupDto::getGroupId).containsExactly(3L);
+    }
+
+    @Test
+    void recommendShouldRespectSize() {
+        graph.rebuild();
+        graph.approve(4L, "b");
+        service.rebuild();
+
+        assertThat(service.recommend("d", 1)).extracting(RecommendedGroupDto::getGroupId).containsExactly(1L);
+        assertThat(service.recommend("d", 0)).isEmpty();
+    }
+}
@@ -0,0 +1,90 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.dto.GroupInfoDto;
+import me.kmj.gather.dto.MemberDto;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupInfoRepository.MembersCount;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:membership-counter-test;LOCK_TIMEOUT=10000")
+class MembershipCounterServiceTest {
+
+    private static final int APPLICANTS = 60;
+    private static final int THREADS = 6;
+
+    @Autowired
+    private MembershipCounterService membershipCounterService;
+
+    @Autowired
+    private GroupMemberService groupMemberService;
+
+    @Autowired
+    private GroupInfoService groupInfoService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Test
+    void loadsRacingWithCommitsShouldNotLoseOrDoubleCountDeltas() throws Exception {
+        memberService.registerMember(new MemberDto("cnt-own", "그룹장", "남성", "010-0000-0000", "서울시"));
+        GroupInfoDto dto = new GroupInfoDto();
+        dto.setName("카운터 경합 그룹");
+        Long groupId = groupInfoService.createGroup(dto, "cnt-own").getId();
+        List<Long> membershipIds = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            String memberId = String.format("cnt-%02d", i);
+            memberService.registerMember(new MemberDto(memberId, "신청자", "여성", "010-0000-0001", "서울시"));
+            membershipIds.add(groupMemberService.requestGroupMembership(groupId, memberId).getId());
+        }
+
+        // 승인이 커밋되는 동안 다른 스레드가 메모리 카운터를 계속 제거하고 다시 적재
+        AtomicBoolean approving = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        Future<?> reloader = executor.submit(() -> {
+            while (approving.get()) {
+                membershipCounterService.evict(groupId);
+                membershipCounterService.getApprovedCount(groupId);
+                membershipCounterService.getPendingCount(groupId);
+            }
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> approvals = new ArrayList<>();
+        for (Long membershipId : membershipIds) {
+            approvals.add(executor.submit(() -> {
+                start.await();
+                return groupMemberService.processGroupMembership(membershipId, GroupMemberStatus.APPROVED, "cnt-own");
+            }));
+        }
+        start.countDown();
+        for (Future<?> approval : approvals) {
+            approval.get(60, TimeUnit.SECONDS);
+        }
+        approving.set(false);
+        reloader.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // 보정 없이도 메모리 카운터가 컬럼 값과 같음
+        MembersCount stored = groupInfoRepository.findMembersCountById(groupId).orElseThrow();
+        assertThat(stored.getApproved()).isEqualTo(APPLICANTS);
+        assertThat(stored.getPending()).isZero();
+        assertThat(membershipCounterService.getApprovedCount(groupId)).isEqualTo(APPLICANTS);
+        assertThat(membershipCounterService.getPendingCount(groupId)).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package me.kmj.gather.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.kmj.gather.dto.MembershipEventDto.Type;
+import me.kmj.gather.entity.GroupMember.GroupMemberStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 버퍼를 작게 두고 하트비트는 끄고 느린 구독자 처리 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:membership-event-hub-test",
+        "gather.events.buffer-size=4",
+        "gather.events.heartbeat-interval=PT1H"
+})
+class MembershipEventHubTest {
+
+    private static final int EVENTS = 20;
+    private static final int BATCH = 3;
+
+    @Autowired
+    private MembershipEventHub membershipEventHub;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void slowConsumerShouldBeDisconnectedWithoutStallingPublish() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastReceived = new CountDownLatch(EVENTS);
+        // 첫 전송에서 멈춰 있는 구독자와 바로 받는 구독자
+        SseEmitter slow = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        SseEmitter fast = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                fastReceived.countDown();
+            }
+        };
+        int subscribers = membershipEventHub.getSubscriberCount();
+        membershipEventHub.subscribe("hub-own", null, slow);
+        membershipEventHub.subscribe("hub-own", null, fast);
+        double disconnected = meterRegistry.counter("gather.membership.events.slow.consumers").count();
+
+        try {
+            // 빠른 구독자 큐가 넘치지 않도록 버퍼보다 적게 나눠 발행 (느린 구독자 큐는 계속 쌓임)
+            long publishNanos = 0;
+            for (int i = 0; i < EVENTS; i++) {
+                long started = System.nanoTime();
+                membershipEventHub.publish("hub-own", Type.REQUESTED, -1L, (long) i, "hub-app", GroupMemberStatus.PENDING);
+                publishNanos += System.nanoTime() - started;
+                if (i % BATCH == BATCH - 1) {
+                    awaitCount(fastReceived, EVENTS - i - 1);
+                }
+            }
+
+            // 느린 구독자의 전송을 기다리지 않고 발행이 끝남
+            assertThat(Duration.ofNanos(publishNanos)).isLessThan(Duration.ofSeconds(1));
+            assertThat(fastReceived.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(meterRegistry.counter("gather.membership.events.slow.consumers").count())
+                    .isEqualTo(disconnected + 1);
+            assertThat(membershipEventHub.getSubscriberCount()).isEqualTo(subscribers + 1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void awaitCount(CountDownLatch latch, long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (latch.getCount() > count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(latch.getCount()).isLessThanOrEqualTo(count);
+    }
+}
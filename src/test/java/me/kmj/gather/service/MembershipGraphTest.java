@@ -0,0 +1,83 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.repository.GroupMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MembershipGraphTest {
+
+    private GroupMemberRepository repository;
+    private MembershipGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GroupMemberRepository.class);
+        when(repository.streamApprovedPairs()).thenReturn(Stream.of(
+                new Object[]{1L, "alice"},
+                new Object[]{1L, "bob"},
+                new Object[]{2L, "alice"},
+                new Object[]{2L, "bob"},
+                new Object[]{2L, "carol"},
+                new Object[]{3L, "carol"}
+        ));
+        graph = new MembershipGraph(repository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void queriesShouldFallBackToDatabaseBeforeRebuild() {
+        assertThat(graph.isApprovedMember(1L, "alice")).isEmpty();
+        assertThat(graph.findSharedGroups("alice", "bob")).isEmpty();
+        assertThat(graph.overlap(1L, 2L)).isEmpty();
+    }
+
+    @Test
+    void rebuildShouldAnswerMembershipQueries() {
+        graph.rebuild();
+
+        assertThat(graph.isApprovedMember(1L, "alice")).contains(true);
+        assertThat(graph.isApprovedMember(3L, "alice")).contains(false);
+        assertThat(graph.isApprovedMember(9L, "nobody")).contains(false);
+        assertThat(graph.findSharedGroups("alice", "bob").orElseThrow()).containsExactly(1L, 2L);
+        assertThat(graph.findSharedGroups("alice", "nobody").orElseThrow()).isEmpty();
+        assertThat(graph.overlap(1L, 2L)).contains(new MembershipGraph.Overlap(2, 3, 2));
+        assertThat(graph.overlap(1L, 9L)).contains(new MembershipGraph.Overlap(2, 0, 0));
+    }
+
+    @Test
+    void updatesShouldAddAndRemoveEdges() {
+        graph.rebuild();
+
+        graph.approve(3L, "alice");
+        graph.removeMember("bob");
+        graph.removeGroup(2L);
+
+        assertThat(graph.isApprovedMember(3L, "alice")).contains(true);
+        assertThat(graph.isApprovedMember(1L, "bob")).contains(false);
+        assertThat(graph.findSharedGroups("alice", "carol").orElseThrow()).containsExactly(3L);
+        assertThat(graph.overlap(1L, 3L)).contains(new MembershipGraph.Overlap(1, 2, 1));
+    }
+
+    @Test
+    void updatesDuringRebuildShouldSurviveSwap() {
+        graph.rebuild();
+        when(repository.streamApprovedPairs()).thenAnswer(invocation -> {
+            // 스캔 도중 커밋된 변경 (스캔 결과에는 포함되지 않음)
+            graph.approve(3L, "dave");
+            graph.removeMember("carol");
+            return Stream.of(new Object[]{1L, "alice"}, new Object[]{3L, "carol"});
+        });
+
+        graph.rebuild();
+
+        assertThat(graph.isApprovedMember(3L, "dave")).contains(true);
+        assertThat(graph.isApprovedMember(3L, "carol")).contains(false);
+        assertThat(graph.isApprovedMember(2L, "bob")).contains(false);
+    }
+}
@@ -0,0 +1,185 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.dto.MemberDetailDto;
+import me.kmj.gather.dto.MemberDto;
+import me.kmj.gather.entity.Member;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-test",
+        "gather.replica.enabled=true",
+        "gather.replica.url=jdbc:h2:mem:replica-test-replica;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000"
+})
+class ReplicaSynchronizerTest {
+
+    @Autowired
+    private ReplicaSynchronizer replicaSynchronizer;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void writesShouldReachReplicaAndBeReadableImmediately() throws InterruptedException {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        awaitUntil(replicaSynchronizer::isReplicaCurrent);
+
+        // 복제 전이라도 쓴 직후의 읽기 전용 조회에서 보임 (원본으로 전환)
+        memberService.registerMember(new MemberDto("rep-a", "복제 회원", "여성", "010-0000-0001", "서울시"));
+        assertThat(memberService.getAllMembers()).extracting(Member::getId).contains("rep-a");
+
+        awaitUntil(replicaSynchronizer::isReplicaCurrent);
+        assertThat(count(replica, "rep-a")).isEqualTo(1);
+
+        memberService.deleteMember("rep-a");
+        awaitUntil(replicaSynchronizer::isReplicaCurrent);
+        assertThat(count(replica, "rep-a")).isZero();
+    }
+
+    @Test
+    void readOnlyTransactionsShouldUseReplicaOnceCurrent() throws InterruptedException {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        awaitUntil(replicaSynchronizer::isReplicaCurrent);
+
+        // 복제본에만 있는 행이 조회되면 복제본에서 읽은 것
+        replica.update("INSERT INTO member (id, name, version, updated_at) VALUES ('rep-only', '복제본 전용', 0, CURRENT_TIMESTAMP)");
+        try {
+            awaitUntil(() -> memberService.getAllMembers().stream().anyMatch(member -> member.getId().equals("rep-only")));
+        } finally {
+            replica.update("DELETE FROM member WHERE id = 'rep-only'");
+        }
+    }
+
+    @Test
+    void writeShouldKeepOnlyItsOwnCallerOnPrimary() throws Exception {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        memberService.registerMember(new MemberDto("rep-lock", "잠금 회원", "남성", "010-0000-0002", "서울시"));
+        awaitUntil(replicaSynchronizer::isReplicaCurrent);
+        replica.update("INSERT INTO member (id, name, version, updated_at) VALUES ('rep-only2', '복제본 전용', 0, CURRENT_TIMESTAMP)");
+
+        // 복제본의 행을 잠가 그 행의 동기화를 멈춤 (잠금을 풀 때까지 복제본이 뒤처진 상태)
+        try (Connection lock = replicaDataSource.getConnection()) {
+            lock.setAutoCommit(false);
+            try (Statement statement = lock.createStatement()) {
+                statement.executeQuery("SELECT * FROM member WHERE id = 'rep-lock' FOR UPDATE").close();
+            }
+            try {
+                asCaller("10.0.0.1", () -> memberService.updateMember("rep-lock",
+                        new MemberDto("rep-lock", "잠금 회원 수정", "남성", "010-0000-0002", "서울시")));
+                assertThat(replicaSynchronizer.isReplicaCurrent()).isFalse();
+
+                // 쓴 호출자는 원본에서, 다른 호출자는 그대로 복제본에서 읽음
+                asCaller("10.0.0.1", () -> assertThat(readOnlyMemberIds()).contains("rep-lock").doesNotContain("rep-only2"));
+                asCaller("10.0.0.2", () -> assertThat(readOnlyMemberIds()).contains("rep-only2"));
+                // 목록 조회는 호출자와 관계없이 모든 쓰기가 반영될 때까지 원본에서 읽음 (메모리 변경 번호와 어긋나지 않도록)
+                asCaller("10.0.0.2", () -> assertThat(memberIds()).contains("rep-lock").doesNotContain("rep-only2"));
+            } finally {
+                lock.rollback();
+            }
+        } finally {
+            replica.update("DELETE FROM member WHERE id = 'rep-only2'");
+        }
+
+        awaitUntil(replicaSynchronizer::isReplicaCurrent);
+        assertThat(replica.queryForObject("SELECT name FROM member WHERE id = 'rep-lock'", String.class))
+                .isEqualTo("잠금 회원 수정");
+        // 반영된 호출자 기록은 정리됨
+        awaitUntil(() -> replicaSynchronizer.getPendingCallers() == 0);
+    }
+
+    @Test
+    void cachedLoadsShouldReadPrimaryWhileReplicaLags() throws Exception {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        memberService.registerMember(new MemberDto("rep-cache", "캐시 회원", "여성", "010-0000-0003", "서울시"));
+        awaitUntil(replicaSynchronizer::isReplicaCurrent);
+
+        // 복제본이 최신이어도 캐시 적재는 원본에서 (복제본에만 있는 행은 보이지 않음)
+        replica.update("INSERT INTO member (id, name, version, updated_at) VALUES ('rep-only3', '복제본 전용', 0, CURRENT_TIMESTAMP)");
+        try {
+            assertThat(memberService.getMemberById("rep-only3")).isEmpty();
+        } finally {
+            replica.update("DELETE FROM member WHERE id = 'rep-only3'");
+        }
+
+        // 동기화를 멈춘 채 다른 호출자가 수정한 회원을 조회해도 캐시에 이전 값이 남지 않음
+        try (Connection lock = replicaDataSource.getConnection()) {
+            lock.setAutoCommit(false);
+            try (Statement statement = lock.createStatement()) {
+                statement.executeQuery("SELECT * FROM member WHERE id = 'rep-cache' FOR UPDATE").close();
+            }
+            try {
+                asCaller("10.0.0.3", () -> memberService.updateMember("rep-cache",
+                        new MemberDto("rep-cache", "캐시 회원 수정", "여성", "010-0000-0003", "서울시")));
+                assertThat(replicaSynchronizer.isReplicaCurrent()).isFalse();
+
+                asCaller("10.0.0.4", () -> assertThat(memberService.getMemberById("rep-cache"))
+                        .map(MemberDetailDto::getName).hasValue("캐시 회원 수정"));
+                asCaller("10.0.0.3", () -> assertThat(memberService.getMemberById("rep-cache"))
+                        .map(MemberDetailDto::getName).hasValue("캐시 회원 수정"));
+            } finally {
+                lock.rollback();
+            }
+        }
+        awaitUntil(replicaSynchronizer::isReplicaCurrent);
+    }
+
+    // 호출자 기준으로 복제본을 고르는 읽기 전용 트랜잭션에서 회원 ID 조회
+    private List<String> readOnlyMemberIds() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> jdbcTemplate.queryForList("SELECT id FROM member", String.class));
+    }
+
+    private List<String> memberIds() {
+        return memberService.getAllMembers().stream().map(Member::getId).toList();
+    }
+
+    private static void asCaller(String address, Runnable action) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(address);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            action.run();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private static int count(JdbcTemplate replica, String memberId) {
+        return replica.queryForObject("SELECT COUNT(*) FROM member WHERE id = ?", Integer.class, memberId);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("10초 안에 조건 충족").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package me.kmj.gather.service;
+
+import me.kmj.gather.dto.GroupInfoDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:snapshot-test")
+class SnapshotServiceTest {
+
+    @Autowired
+    private SnapshotService snapshotService;
+
+    @Autowired
+    private GroupInfoService groupInfoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void restoreShouldReproduceSnapshottedRows() throws IOException {
+        Path file = directory.resolve("gather.snapshot");
+        Map<String, List<Map<String, Object>>> before = dump();
+
+        SnapshotService.SnapshotStats stats = snapshotService.snapshot(file);
+        snapshotService.clear();
+        assertThat(snapshotService.isDatabaseEmpty()).isTrue();
+        snapshotService.restore(file);
+
+        assertThat(stats.members()).isEqualTo(before.get("member").size());
+        assertThat(stats.memberships()).isEqualTo(before.get("group_member").size());
+        assertThat(dump()).isEqualTo(before);
+
+        // 시퀀스가 복원된 ID 이후로 재설정되어 새 그룹 저장이 충돌하지 않음
+        GroupInfoDto group = new GroupInfoDto();
+        group.setName("복원 후 그룹");
+        group.setDescription("스냅샷 테스트 그룹");
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM group_info", Long.class);
+        assertThat(groupInfoService.createGroup(group, "user001").getId()).isGreaterThan(maxId);
+    }
+
+    @Test
+    void restoreShouldRejectCorruptedOrTruncatedFile() throws IOException {
+        Path file = directory.resolve("gather.snapshot");
+        snapshotService.snapshot(file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        // 회원 섹션 첫 블록 본문의 한 바이트 변경 (헤더 16 + 태그 1 + 블록 헤더 12 이후)
+        byte[] corrupted = bytes.clone();
+        corrupted[40] ^= 0x01;
+        Path corruptedFile = Files.write(directory.resolve("corrupted.snapshot"), corrupted);
+        Path truncatedFile = Files.write(directory.resolve("truncated.snapshot"),
+                                         Arrays.copyOf(bytes, bytes.length - 10));
+
+        try {
+            snapshotService.clear();
+            assertThatThrownBy(() -> snapshotService.restore(corruptedFile))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("체크섬");
+            snapshotService.clear();
+            assertThatThrownBy(() -> snapshotService.restore(truncatedFile))
+                    .isInstanceOf(IOException.class);
+        } finally {
+            snapshotService.clear();
+            snapshotService.restore(file);
+        }
+    }
+
+    private Map<String, List<Map<String, Object>>> dump() {
+        return Map.of(
+                "member", jdbcTemplate.queryForList("SELECT * FROM member ORDER BY id"),
+                "group_info", jdbcTemplate.queryForList("SELECT * FROM group_info ORDER BY id"),
+                "group_member", jdbcTemplate.queryForList("SELECT * FROM group_member ORDER BY id"));
+    }
+}
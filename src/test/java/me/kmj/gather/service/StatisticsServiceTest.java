@@ -0,0 +1,89 @@
+package me.kmj.gather.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.kmj.gather.entity.GroupInfo;
+import me.kmj.gather.entity.GroupMember;
+import me.kmj.gather.entity.Member;
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.MemberRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statistics-test",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class StatisticsServiceTest {
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void overallStatisticsQueryCountShouldNotGrowWithGroups() {
+        long baseline = countStatements();
+        Map<String, Object> before = statisticsService.getOverallStatistics();
+
+        seedGroups(200);
+
+        long afterSeeding = countStatements();
+        Map<String, Object> after = statisticsService.getOverallStatistics();
+
+        assertThat(afterSeeding).isEqualTo(baseline);
+        assertThat((Long) after.get("totalGroups")).isEqualTo((Long) before.get("totalGroups") + 200);
+        assertThat((Long) after.get("totalPendingGroupRequests"))
+                .isEqualTo((Long) before.get("totalPendingGroupRequests") + 200);
+        assertThat((Long) after.get("totalApprovedGroupMembers"))
+                .isEqualTo((Long) before.get("totalApprovedGroupMembers") + 200);
+    }
+
+    private long countStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statisticsService.getOverallStatistics();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedGroups(int count) {
+        Member owner = memberRepository.save(new Member("stat-own", "통계그룹장", "남성", "010-0000-0000", "서울시"));
+        Member applicant = memberRepository.save(new Member("stat-app", "통계신청자", "여성", "010-0000-0001", "서울시"));
+        Member approved = memberRepository.save(new Member("stat-mem", "통계멤버", "여성", "010-0000-0002", "서울시"));
+
+        List<GroupInfo> groups = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            groups.add(new GroupInfo(null, "통계 그룹 " + i, "통계 테스트 그룹", owner, LocalDateTime.now()));
+        }
+        groupInfoRepository.saveAll(groups);
+
+        List<GroupMember> memberships = new ArrayList<>();
+        for (GroupInfo group : groups) {
+            memberships.add(new GroupMember(null, applicant, group, GroupMember.GroupMemberStatus.PENDING,
+                    LocalDateTime.now(), null));
+            memberships.add(new GroupMember(null, approved, group, GroupMember.GroupMemberStatus.APPROVED,
+                    LocalDateTime.now(), LocalDateTime.now()));
+        }
+        groupMemberRepository.saveAll(memberships);
+    }
+}
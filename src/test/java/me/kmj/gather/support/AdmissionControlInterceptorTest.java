@@ -0,0 +1,172 @@
+package me.kmj.gather.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admission-test",
+        "gather.admission.rate=0.2",
+        "gather.admission.burst=3",
+        "gather.admission.address-rate=0.2",
+        "gather.admission.address-burst=6"
+})
+@AutoConfigureMockMvc
+class AdmissionControlInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void callerOverRateShouldBeRejectedWithoutAffectingOthers() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(sharedGroups("adm-a")).andExpect(status().isOk());
+        }
+        mockMvc.perform(sharedGroups("adm-a"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        // 5초에 1건씩 채워지므로 1~5초 뒤 재시도
+        String retryAfter = mockMvc.perform(sharedGroups("adm-a")).andReturn().getResponse().getHeader(HttpHeaders.RETRY_AFTER);
+        assertThat(Integer.parseInt(retryAfter)).isBetween(1, 5);
+
+        // 다른 회원은 같은 IP에서 보내도 별도 버킷 (IP 버킷은 거절된 요청까지 6건째)
+        mockMvc.perform(sharedGroups("adm-b")).andExpect(status().isOk());
+    }
+
+    @Test
+    void callerWithoutMemberIdShouldBeLimitedByAddress() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            mockMvc.perform(groups("10.0.0.1")).andExpect(status().isOk());
+        }
+        mockMvc.perform(groups("10.0.0.1")).andExpect(status().isTooManyRequests());
+        mockMvc.perform(groups("10.0.0.2")).andExpect(status().isOk());
+    }
+
+    @Test
+    void rotatingMemberIdsShouldStillHitAddressLimit() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            mockMvc.perform(sharedGroups("adm-r" + i).with(address("10.0.0.3"))).andExpect(status().isOk());
+        }
+        mockMvc.perform(sharedGroups("adm-r6").with(address("10.0.0.3"))).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void latencySpikeOnOneEndpointShouldNotRejectAnother() throws Exception {
+        AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+                new CallerRateLimiter(1_000_000, 1_000_000), new CallerRateLimiter(1_000_000, 1_000_000),
+                4, 2, 100, 1.5, List.of(), new SimpleMeterRegistry());
+        HandlerMethod handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+
+        // 두 엔드포인트 모두 2ms로 평소 지연 시간을 쌓은 뒤 한 엔드포인트만 20배로 늘어남
+        for (int round = 0; round < 10; round++) {
+            complete(interceptor, handler, saturate(interceptor, handler, "/slow"), 2);
+            complete(interceptor, handler, saturate(interceptor, handler, "/fast"), 2);
+        }
+        List<MockHttpServletRequest> warmed = saturate(interceptor, handler, "/slow");
+        int before = warmed.size();
+        complete(interceptor, handler, warmed, 2);
+        for (int round = 0; round < 10; round++) {
+            complete(interceptor, handler, saturate(interceptor, handler, "/slow"), 40);
+        }
+
+        // 느려진 엔드포인트의 한도만 줄고, 그 한도를 다 쓰고 있어도 다른 엔드포인트는 한도까지 허용
+        List<MockHttpServletRequest> slow = saturate(interceptor, handler, "/slow");
+        assertThat(slow.size()).isLessThan(before);
+        for (int i = 0; i < 4; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertThat(interceptor.preHandle(request("/fast"), response, handler)).isTrue();
+            assertThat(response.getStatus()).isNotEqualTo(429);
+        }
+    }
+
+    // 거절될 때까지 요청을 시작 (처리 중으로 남겨 둠)
+    private static List<MockHttpServletRequest> saturate(AdmissionControlInterceptor interceptor, HandlerMethod handler,
+                                                         String pattern) {
+        List<MockHttpServletRequest> started = new ArrayList<>();
+        MockHttpServletRequest request = request(pattern);
+        while (interceptor.preHandle(request, new MockHttpServletResponse(), handler)) {
+            started.add(request);
+            request = request(pattern);
+        }
+        return started;
+    }
+
+    private static void complete(AdmissionControlInterceptor interceptor, HandlerMethod handler,
+                                 List<MockHttpServletRequest> requests, long latencyMillis) throws InterruptedException {
+        Thread.sleep(latencyMillis);
+        for (MockHttpServletRequest request : requests) {
+            interceptor.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+        }
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    @Test
+    void concurrencyLimitShouldFollowLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100, 1.5);
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+        assertThat(limit.tryAcquire()).isFalse();
+        for (int i = 0; i < 10; i++) {
+            limit.release(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        // 지연 시간이 일정하면 한도가 늘고, 평소의 10배로 늘면 줄어듦
+        int grown = saturate(limit, 1, 50);
+        assertThat(grown).isGreaterThan(10);
+        assertThat(saturate(limit, 10, 5)).isLessThan(grown);
+    }
+
+    private static int saturate(AdaptiveConcurrencyLimit limit, long rttMillis, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+            }
+        }
+        return limit.getLimit();
+    }
+
+    private static MockHttpServletRequestBuilder sharedGroups(String memberId) {
+        return get("/api/group-members/shared-groups").param("memberId", memberId).param("otherMemberId", "user001");
+    }
+
+    private static MockHttpServletRequestBuilder groups(String address) {
+        return get("/api/groups").param("page", "0").param("size", "10").with(address(address));
+    }
+
+    private static RequestPostProcessor address(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
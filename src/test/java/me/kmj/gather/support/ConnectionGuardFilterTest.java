@@ -0,0 +1,72 @@
+package me.kmj.gather.support;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionGuardFilterTest {
+
+    private final ConnectionGuardFilter filter = new ConnectionGuardFilter(1, Duration.ofMillis(50),
+            List.of("/api/group-members/events"), List.of("/api/export/"));
+
+    @Test
+    void asyncRequestShouldHoldPermitUntilItCompletes() throws Exception {
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/api/export/members");
+        export.setAsyncSupported(true);
+        filter.doFilter(export, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+
+        // 요청 스레드는 반환되었지만 비동기 처리가 끝나지 않았으므로 허용을 계속 잡고 있음
+        assertThat(filter.getAvailablePermits()).isZero();
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/members"), rejected, (request, response) -> { });
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(filter.getRejectedCount()).isEqualTo(1);
+
+        ((MockAsyncContext) export.getAsyncContext()).complete();
+        assertThat(filter.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void openEventStreamShouldNotBlockOtherRequests() throws Exception {
+        MockHttpServletRequest events = new MockHttpServletRequest("GET", "/api/group-members/events");
+        events.setAsyncSupported(true);
+        filter.doFilter(events, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+        assertThat(filter.getAvailablePermits()).isEqualTo(1);
+
+        MockHttpServletResponse members = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/members"), members, (request, response) -> { });
+        assertThat(members.getStatus()).isEqualTo(200);
+        assertThat(filter.getRejectedCount()).isZero();
+    }
+
+    @Test
+    void asyncRequestOutsideHoldPathsShouldReleasePermitWithRequestThread() throws Exception {
+        MockHttpServletRequest deferred = new MockHttpServletRequest("GET", "/api/groups");
+        deferred.setAsyncSupported(true);
+        filter.doFilter(deferred, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+
+        assertThat(filter.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void synchronousRequestShouldReleasePermitEvenWhenItFails() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/members"), new MockHttpServletResponse(),
+                (request, response) -> { });
+        assertThat(filter.getAvailablePermits()).isEqualTo(1);
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/members"),
+                new MockHttpServletResponse(), (request, response) -> {
+                    throw new ServletException("처리 실패");
+                })).isInstanceOf(ServletException.class);
+        assertThat(filter.getAvailablePermits()).isEqualTo(1);
+    }
+}
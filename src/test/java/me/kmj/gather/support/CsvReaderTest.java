@@ -0,0 +1,33 @@
+package me.kmj.gather.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void quotedFieldsShouldKeepCommasQuotesAndLineBreaks() {
+        List<Map<String, String>> rows = CsvReader.read(
+                "\uFEFFname,description\r\n" +
+                "\"a, b\",\"say \"\"hi\"\"\"\r\n" +
+                "c,\"line1\nline2\"\r\n" +
+                "d,\n");
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).containsEntry("name", "a, b").containsEntry("description", "say \"hi\"");
+        assertThat(rows.get(1)).containsEntry("description", "line1\nline2");
+        assertThat(rows.get(2)).containsEntry("name", "d").containsEntry("description", null);
+    }
+
+    @Test
+    void columnCountMismatchShouldBeRejected() {
+        assertThatThrownBy(() -> CsvReader.read("id,name\nm1,회원,추가\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2번째 줄의 열 개수가 헤더와 다릅니다");
+    }
+}
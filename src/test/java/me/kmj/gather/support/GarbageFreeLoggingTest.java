@@ -0,0 +1,39 @@
+package me.kmj.gather.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GarbageFreeLoggingTest {
+
+    private static final String[] NO_ARGS = {};
+
+    @Test
+    void threadLocalsShouldBeEnabledOnlyForProdOnPlatformThreads() {
+        assertThat(enabled(NO_ARGS, Map.of(), Map.of())).isFalse();
+        assertThat(enabled(new String[] {"--spring.profiles.active=prod"}, Map.of(), Map.of())).isTrue();
+        assertThat(enabled(NO_ARGS, Map.of("spring.profiles.active", "dataset,prod"), Map.of())).isTrue();
+        assertThat(enabled(NO_ARGS, Map.of(), Map.of("SPRING_PROFILES_ACTIVE", "prod"))).isTrue();
+    }
+
+    @Test
+    void threadLocalsShouldStayOffWithVirtualThreads() {
+        assertThat(enabled(new String[] {"--spring.profiles.active=prod,virtual"}, Map.of(), Map.of())).isFalse();
+        assertThat(enabled(new String[] {"--spring.profiles.active=prod", "--spring.threads.virtual.enabled=true"},
+                           Map.of(), Map.of())).isFalse();
+        assertThat(enabled(new String[] {"--spring.profiles.active=prod"}, Map.of(),
+                           Map.of("SPRING_THREADS_VIRTUAL_ENABLED", "true"))).isFalse();
+    }
+
+    @Test
+    void argumentsShouldOverrideSystemProperties() {
+        assertThat(enabled(new String[] {"--spring.profiles.active=default"},
+                           Map.of("spring.profiles.active", "prod"), Map.of())).isFalse();
+    }
+
+    private static boolean enabled(String[] args, Map<String, String> systemProperties, Map<String, String> environment) {
+        return GarbageFreeLogging.shouldEnableThreadLocals(args, systemProperties::get, environment);
+    }
+}
@@ -0,0 +1,134 @@
+package me.kmj.gather.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private MeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsShouldShareOneExecution() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                executions.incrementAndGet();
+                await(release);
+                return "그룹";
+            })));
+        }
+        waitUntilCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("그룹");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(callCount("executed")).isEqualTo(1);
+        assertThat(callCount("coalesced")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void failureShouldReachEveryWaitingCaller() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            await(release);
+            throw new RuntimeException("존재하지 않는 그룹입니다: 1");
+        }));
+        waitUntilInFlight();
+        Future<String> follower = executor.submit(() -> singleFlight.execute(1L, () -> "실행되면 안 됨"));
+        waitUntilCoalesced(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("존재하지 않는 그룹입니다: 1");
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("존재하지 않는 그룹입니다: 1");
+    }
+
+    @Test
+    void waitingCallerShouldRunItselfAfterMaxWait() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            await(release);
+            return "느린 조회";
+        }));
+        waitUntilInFlight();
+
+        assertThat(singleFlight.execute(1L, () -> "직접 조회")).isEqualTo("직접 조회");
+        assertThat(callCount("timeout")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("느린 조회");
+    }
+
+    @Test
+    void differentKeysShouldRunIndependently() {
+        SingleFlight<Long, Long> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+
+        assertThat(singleFlight.execute(1L, () -> 1L)).isEqualTo(1L);
+        assertThat(singleFlight.execute(2L, () -> 2L)).isEqualTo(2L);
+        assertThat(singleFlight.execute(1L, () -> 3L)).isEqualTo(3L);
+        assertThat(callCount("executed")).isEqualTo(3);
+    }
+
+    private double callCount(String outcome) {
+        return meterRegistry.get("gather.single.flight.calls").tag("outcome", outcome).counter().count();
+    }
+
+    private void waitUntilInFlight() throws InterruptedException {
+        while (meterRegistry.get("gather.single.flight.in.flight").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void waitUntilCoalesced(int callers) throws InterruptedException {
+        while (callCount("coalesced") < callers) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package me.kmj.gather.support;
+
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// SQL 실행 수 검증 (예: mockMvc.perform(get(...)).andExpect(SqlCount.atMost(2)))
+public final class SqlCount {
+
+    private SqlCount() {
+    }
+
+    // 요청이 실행한 SQL이 max회 이하
+    public static ResultMatcher atMost(int max) {
+        return result -> assertThat(header(result.getResponse(), SqlCountFilter.COUNT_HEADER))
+                .as("요청당 SQL 실행 수")
+                .isLessThanOrEqualTo(max);
+    }
+
+    // 같은 형태의 SQL이 반복 실행되지 않음 (N+1 없음)
+    public static ResultMatcher noRepeatedStatements() {
+        return result -> assertThat(header(result.getResponse(), SqlCountFilter.MAX_REPEAT_HEADER))
+                .as("같은 형태의 SQL 반복 실행 수")
+                .isLessThanOrEqualTo(1);
+    }
+
+    // 서비스/리포지토리 호출이 실행한 SQL 수
+    public static int count(Runnable action) {
+        SqlStatementCounter.Counts counts;
+        SqlStatementCounter.start();
+        try {
+            action.run();
+        } finally {
+            counts = SqlStatementCounter.stop();
+        }
+        return counts.getTotal();
+    }
+
+    private static int header(MockHttpServletResponse response, String name) {
+        String value = response.getHeader(name);
+        assertThat(value).as(name + " 헤더").isNotNull();
+        return Integer.parseInt(value);
+    }
+}
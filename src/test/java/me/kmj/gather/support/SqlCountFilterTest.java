@@ -0,0 +1,113 @@
+package me.kmj.gather.support;
+
+import me.kmj.gather.entity.GroupInfo;
+import me.kmj.gather.entity.GroupMember;
+import me.kmj.gather.entity.Member;
+import me.kmj.gather.repository.GroupInfoRepository;
+import me.kmj.gather.repository.GroupMemberRepository;
+import me.kmj.gather.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sql-count-test")
+@AutoConfigureMockMvc
+class SqlCountFilterTest {
+
+    private static final String OWNER_ID = "sql-own";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        if (memberRepository.existsById(OWNER_ID)) {
+            groupId = groupInfoRepository.findAll().stream()
+                    .filter(group -> group.getName().equals("SQL 집계 그룹"))
+                    .findFirst().orElseThrow().getId();
+            return;
+        }
+        Member owner = memberRepository.save(new Member(OWNER_ID, "집계그룹장", "남성", "010-0000-0000", "서울시"));
+        GroupInfo group = groupInfoRepository.save(
+                new GroupInfo(null, "SQL 집계 그룹", "SQL 집계 테스트 그룹", owner, LocalDateTime.now()));
+        groupId = group.getId();
+
+        List<GroupMember> memberships = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Member member = memberRepository.save(new Member("sql-m" + i, "집계회원" + i, "여성", "010-0000-0000", "서울시"));
+            memberships.add(new GroupMember(null, member, group, GroupMember.GroupMemberStatus.PENDING,
+                    LocalDateTime.now(), null));
+        }
+        groupMemberRepository.saveAll(memberships);
+    }
+
+    @Test
+    void groupListShouldUseListAndCountQueriesOnly() throws Exception {
+        mockMvc.perform(get("/api/groups").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(SqlCount.atMost(2))
+                .andExpect(SqlCount.noRepeatedStatements());
+    }
+
+    @Test
+    void groupDetailShouldUseVersionAndDetailQueriesOnly() throws Exception {
+        mockMvc.perform(get("/api/groups/{id}", groupId))
+                .andExpect(status().isOk())
+                .andExpect(SqlCount.atMost(2));
+    }
+
+    @Test
+    void unchangedGroupDetailShouldUseVersionQueryOnly() throws Exception {
+        String eTag = mockMvc.perform(get("/api/groups/{id}", groupId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/groups/{id}", groupId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(SqlCount.atMost(1));
+    }
+
+    @Test
+    void membershipListShouldNotLoadMembersPerRow() throws Exception {
+        mockMvc.perform(get("/api/group-members/group/{groupId}", groupId).param("page", "0").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(SqlCount.atMost(3))
+                .andExpect(SqlCount.noRepeatedStatements());
+    }
+
+    @Test
+    void overallStatisticsShouldUseConstantQueries() throws Exception {
+        mockMvc.perform(get("/api/admin/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(SqlCount.atMost(3));
+    }
+
+    @Test
+    void shapeShouldIgnoreLiteralsAndInListLength() {
+        assertThat(SqlStatementCounter.shapeOf("select m1_0.id from member m1_0 where m1_0.id in (?, ?, ?)"))
+                .isEqualTo(SqlStatementCounter.shapeOf("select m1_0.id from member m1_0\n where m1_0.id in (?)"));
+        assertThat(SqlStatementCounter.shapeOf("select g1_0.id from group_info g1_0 where g1_0.status = 'PENDING' limit 10"))
+                .isEqualTo("select g1_0.id from group_info g1_0 where g1_0.status = ? limit ?");
+    }
+}